@@ -0,0 +1,71 @@
+package reserve.signin.infrastructure;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.*;
+import reserve.signin.domain.TokenDetails;
+import reserve.signin.dto.AccessTokenValidation;
+
+/**
+ * Per-request cost of authenticating an access token. {@code rebuildParserTwice} is what the argument resolver used to
+ * do: a new parser for the expiry check and another one for the details, each verifying the signature.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtProviderBenchmark {
+
+    private static final String ACCESS_TOKEN_SECRET = "1234567890123456789012345678901234567890123456789012345678901234";
+
+    private static final String REFRESH_TOKEN_SECRET = "9876543210987654321098765432109876543210987654321098765432109876";
+
+    private final Clock clock = Clock.systemUTC();
+
+    private final SecretKeySpec accessTokenSigningKey = new SecretKeySpec(
+            ACCESS_TOKEN_SECRET.getBytes(StandardCharsets.UTF_8), JwtProvider.SIGNATURE_ALGORITHM.getJcaName());
+
+    private JwtProvider jwtProvider;
+
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(ACCESS_TOKEN_SECRET, REFRESH_TOKEN_SECRET, 600, 604800, clock);
+        accessToken = jwtProvider.generateSignInToken(new TokenDetails("1", "user", "User")).getAccessToken();
+    }
+
+    @Benchmark
+    public Claims rebuildParserTwice() {
+        Jwts.parserBuilder()
+            .setSigningKey(accessTokenSigningKey)
+            .setClock(() -> Date.from(clock.instant()))
+            .build()
+            .parseClaimsJws(accessToken);
+        return Jwts.parserBuilder()
+            .setSigningKey(accessTokenSigningKey)
+            .setClock(() -> Date.from(clock.instant()))
+            .build()
+            .parseClaimsJws(accessToken)
+            .getBody();
+    }
+
+    @Benchmark
+    public TokenDetails reuseParserTwice() {
+        jwtProvider.isAccessTokenExpired(accessToken);
+        return jwtProvider.extractAccessTokenDetails(accessToken);
+    }
+
+    @Benchmark
+    public AccessTokenValidation validateOnce() {
+        return jwtProvider.validateAccessToken(accessToken);
+    }
+
+}
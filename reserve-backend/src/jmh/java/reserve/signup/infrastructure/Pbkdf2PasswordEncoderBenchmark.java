@@ -0,0 +1,55 @@
+package reserve.signup.infrastructure;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares {@link FastPbkdf2PasswordEncoder} with {@link Pbkdf2PasswordEncoder} at the default 65536 iterations. The
+ * setup fails unless the fast encoder accepts the hashes of the other one and its own.
+ * <p>
+ * Run with {@code ./gradlew jmh}. The GC profiler reports the bytes allocated per hash as {@code gc.alloc.rate.norm}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class Pbkdf2PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private final PasswordEncoder pbkdf2PasswordEncoder = new Pbkdf2PasswordEncoder();
+
+    private final PasswordEncoder fastPbkdf2PasswordEncoder = new FastPbkdf2PasswordEncoder();
+
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        encodedPassword = pbkdf2PasswordEncoder.encode(PASSWORD);
+        if (!fastPbkdf2PasswordEncoder.matches(PASSWORD, encodedPassword)
+                || !fastPbkdf2PasswordEncoder.matches(PASSWORD, fastPbkdf2PasswordEncoder.encode(PASSWORD))) {
+            throw new IllegalStateException("Encoders do not produce the same hashes.");
+        }
+    }
+
+    @Benchmark
+    public String pbkdf2Encode() {
+        return pbkdf2PasswordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String fastPbkdf2Encode() {
+        return fastPbkdf2PasswordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean pbkdf2Matches() {
+        return pbkdf2PasswordEncoder.matches(PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public boolean fastPbkdf2Matches() {
+        return fastPbkdf2PasswordEncoder.matches(PASSWORD, encodedPassword);
+    }
+
+}
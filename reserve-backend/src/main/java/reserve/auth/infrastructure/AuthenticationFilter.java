@@ -0,0 +1,84 @@
+package reserve.auth.infrastructure;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import reserve.auth.domain.AuthInfo;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.ErrorCodeException;
+import reserve.global.exception.InvalidAuthorizationException;
+import reserve.signin.dto.AccessTokenValidation;
+import reserve.signin.infrastructure.AccessTokenCache;
+
+/**
+ * Authenticates every request once, before it reaches the dispatcher, and stores the resulting {@link AuthInfo} on
+ * the request so that interceptors, argument resolvers and logging share it.
+ * <p>
+ * A malformed or forged token does not fail the request here, because endpoints without an {@link AuthInfo} parameter
+ * ignore the header. The error is stored instead and raised by {@link AuthenticationInterceptor} for the endpoints
+ * that use authentication.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_INFO_ATTRIBUTE = AuthenticationFilter.class.getName() + ".AUTH_INFO";
+
+    private static final String AUTH_ERROR_ATTRIBUTE = AuthenticationFilter.class.getName() + ".AUTH_ERROR";
+
+    private final AccessTokenCache accessTokenCache;
+
+    /**
+     * Returns the {@link AuthInfo} of the request, or a guest if the request has not been authenticated.
+     */
+    public static AuthInfo getAuthInfo(HttpServletRequest request) {
+        AuthInfo authInfo = (AuthInfo) request.getAttribute(AUTH_INFO_ATTRIBUTE);
+        return authInfo != null ? authInfo : AuthInfo.guest();
+    }
+
+    /**
+     * Returns the error raised while authenticating the request, if any.
+     */
+    public static ErrorCodeException getAuthError(HttpServletRequest request) {
+        return (ErrorCodeException) request.getAttribute(AUTH_ERROR_ATTRIBUTE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            request.setAttribute(AUTH_INFO_ATTRIBUTE, authenticate(request.getHeader("Authorization")));
+        }
+        catch (ErrorCodeException e) {
+            request.setAttribute(AUTH_ERROR_ATTRIBUTE, e);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private AuthInfo authenticate(String authorizationHeader) {
+        if (authorizationHeader == null) {
+            return AuthInfo.guest();
+        }
+        AccessTokenValidation validation = accessTokenCache.validate(extractAccessToken(authorizationHeader));
+        if (validation.isExpired()) {
+            return AuthInfo.guest(true);
+        }
+        Long userId = Long.valueOf(validation.getTokenDetails().getUserId());
+        return AuthInfo.user(userId);
+    }
+
+    private String extractAccessToken(String authorization) {
+        String[] authParts = authorization.split(" ");
+        if (authParts.length != 2 || !authParts[0].equalsIgnoreCase("Bearer")) {
+            throw new InvalidAuthorizationException(ErrorCode.INVALID_ACCESS_TOKEN_FORMAT);
+        }
+        return authParts[1];
+    }
+
+}
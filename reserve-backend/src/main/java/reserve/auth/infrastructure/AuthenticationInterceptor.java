@@ -0,0 +1,49 @@
+package reserve.auth.infrastructure;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import reserve.auth.domain.AuthInfo;
+import reserve.global.exception.AccessTokenException;
+import reserve.global.exception.AuthenticationException;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.ErrorCodeException;
+
+/**
+ * Rejects requests that fail the {@link Authentication} requirement of their handler as soon as the handler is known,
+ * before any argument is resolved. Request bodies of rejected requests are never read or deserialized.
+ */
+@Component
+public class AuthenticationInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            if (AuthInfo.class.equals(parameter.getParameterType())) {
+                checkAuthentication(request, parameter.getParameterAnnotation(Authentication.class));
+            }
+        }
+        return true;
+    }
+
+    private void checkAuthentication(HttpServletRequest request, Authentication authentication) {
+        ErrorCodeException authError = AuthenticationFilter.getAuthError(request);
+        if (authError != null) {
+            throw authError;
+        }
+        AuthInfo authInfo = AuthenticationFilter.getAuthInfo(request);
+        if (authentication != null && authentication.required() && authInfo.isGuest()) {
+            if (authInfo.isExpired()) {
+                throw new AccessTokenException(ErrorCode.EXPIRED_ACCESS_TOKEN);
+            }
+            throw new AuthenticationException(ErrorCode.SIGN_IN_REQUIRED);
+        }
+    }
+
+}
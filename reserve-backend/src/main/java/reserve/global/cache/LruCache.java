@@ -0,0 +1,198 @@
+package reserve.global.cache;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe cache that evicts the least recently used entries.
+ * <p>
+ * Entries are spread over a fixed number of segments, each of which is an access-ordered {@link LinkedHashMap} guarded
+ * by its own lock. Eviction is therefore LRU per segment, which is close enough to global LRU for uniformly hashed keys
+ * while letting unrelated keys be accessed concurrently.
+ * </p>
+ * <p>
+ * Loaders run outside the segment lock. Concurrent misses of a key wait for the load in flight instead of loading
+ * again, and a write to the key while it loads keeps the loaded value out of the cache, since it may predate the
+ * write.
+ * </p>
+ */
+public class LruCache<K, V> {
+
+    private static final int DEFAULT_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+
+    private final int segmentMask;
+
+    public LruCache(int maxSize) {
+        this(maxSize, DEFAULT_SEGMENTS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public LruCache(int maxSize, int concurrencyLevel) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive.");
+        }
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(concurrencyLevel, maxSize)));
+        int segmentSize = (maxSize + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentSize);
+        }
+        this.segmentMask = segmentCount - 1;
+    }
+
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    /**
+     * Returns the cached value, or loads it if it is absent. Only one loader runs for a key at a time, and callers that
+     * miss the key meanwhile get its result, or its exception. A {@code null} result is not cached.
+     */
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader) {
+        Segment<K, V> segment = segmentFor(key);
+        Loading<V> loading;
+        boolean owner;
+        synchronized (segment) {
+            V value = segment.get(key);
+            if (value != null) {
+                return value;
+            }
+            loading = segment.loadings.get(key);
+            owner = loading == null;
+            if (owner) {
+                loading = new Loading<>();
+                segment.loadings.put(key, loading);
+            }
+        }
+        return owner ? load(segment, key, loading, loader) : loading.await();
+    }
+
+    public void put(K key, V value) {
+        Objects.requireNonNull(value);
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.loadings.remove(key);
+            segment.put(key, value);
+        }
+    }
+
+    /**
+     * Replaces the value of a cached key. Absent keys stay absent, and a {@code null} result removes the entry.
+     */
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.loadings.remove(key);
+            return segment.computeIfPresent(key, remappingFunction);
+        }
+    }
+
+    public V remove(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.loadings.remove(key);
+            return segment.remove(key);
+        }
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.loadings.clear();
+                segment.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private V load(Segment<K, V> segment, K key, Loading<V> loading, Function<? super K, ? extends V> loader) {
+        V value;
+        try {
+            value = loader.apply(key);
+        }
+        catch (RuntimeException | Error e) {
+            synchronized (segment) {
+                segment.loadings.remove(key, loading);
+            }
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (segment) {
+            if (segment.loadings.remove(key, loading) && value != null) {
+                segment.put(key, value);
+            }
+        }
+        loading.complete(value);
+        return value;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & segmentMask];
+    }
+
+    private static class Segment<K, V> extends LinkedHashMap<K, V> {
+
+        private final int maxSize;
+
+        /**
+         * Loads in flight by key. A write to the key removes its load, so that the loaded value is not cached.
+         */
+        private final Map<K, Loading<V>> loadings = new HashMap<>();
+
+        Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
+
+    }
+
+    private static class Loading<V> extends CompletableFuture<V> {
+
+        /**
+         * Waits for the load and returns its value, or rethrows its exception as is.
+         */
+        V await() {
+            try {
+                return join();
+            }
+            catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+    }
+
+}
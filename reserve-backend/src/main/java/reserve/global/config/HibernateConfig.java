@@ -0,0 +1,36 @@
+package reserve.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reserve.global.id.TsidFactory;
+import reserve.global.id.TsidGenerator;
+
+@Configuration
+public class HibernateConfig {
+
+    /**
+     * Enables JDBC batching of inserts and updates unless configured otherwise, and passes the node ID to
+     * {@link TsidGenerator}.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(@Value("${application.id.node:0}") int node) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, 50);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(TsidGenerator.NODE_SETTING, node);
+        };
+    }
+
+    /**
+     * The factory {@link TsidGenerator} uses, for native inserts that assign IDs themselves.
+     */
+    @Bean
+    public TsidFactory tsidFactory(@Value("${application.id.node:0}") int node) {
+        return TsidFactory.shared(node);
+    }
+
+}
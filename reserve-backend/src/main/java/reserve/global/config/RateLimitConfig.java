@@ -0,0 +1,24 @@
+package reserve.global.config;
+
+import java.time.Clock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reserve.global.ratelimit.LocalRateLimiter;
+
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * Counts requests in this process instead of Redis, for deployments of a single instance.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "application.rateLimit.store", havingValue = "memory")
+    public LocalRateLimiter localRateLimiter(Clock clock,
+            @Value("${application.rateLimit.window:60}") long windowSeconds,
+            @Value("${application.rateLimit.localMaxSize:100000}") int maxSize) {
+        return new LocalRateLimiter(clock, windowSeconds * 1000, maxSize);
+    }
+
+}
@@ -1,16 +1,43 @@
 package reserve.global.config;
 
+import java.time.Clock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import reserve.signin.infrastructure.InMemoryRefreshTokenStore;
+import reserve.signup.infrastructure.BoundedPasswordEncoder;
+import reserve.signup.infrastructure.FastPbkdf2PasswordEncoder;
 import reserve.signup.infrastructure.PasswordEncoder;
 import reserve.signup.infrastructure.Pbkdf2PasswordEncoder;
 
 @Configuration
 public class SecurityConfig {
 
+    /**
+     * Password hashing runs on its own threads, one per processor unless configured otherwise. Stored hashes made with
+     * other iterations are rehashed on the next successful sign-in.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new Pbkdf2PasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${application.security.passwordHashing.iterations:65536}") int iterations,
+            @Value("${application.security.passwordHashing.threads:0}") int threads,
+            @Value("${application.security.passwordHashing.queueCapacity:100}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        PasswordEncoder encoder = new FastPbkdf2PasswordEncoder(iterations, Pbkdf2PasswordEncoder.DEFAULT_HASH_LENGTH,
+                Pbkdf2PasswordEncoder.DEFAULT_SALT_LENGTH);
+        return new BoundedPasswordEncoder(encoder, poolSize, queueCapacity);
+    }
+
+    /**
+     * Keeps refresh tokens in this process instead of Redis, for deployments of a single instance. Sessions do not
+     * survive a restart.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "application.security.refreshTokens.store", havingValue = "memory")
+    public InMemoryRefreshTokenStore inMemoryRefreshTokenStore(Clock clock,
+            @Value("${application.security.refreshTokens.maxSize:100000}") int maxSize) {
+        return new InMemoryRefreshTokenStore(clock, maxSize);
     }
 
 }
@@ -8,8 +8,10 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import reserve.auth.infrastructure.AuthInfoArgumentResolver;
+import reserve.auth.infrastructure.AuthenticationInterceptor;
 
 @Configuration
 @Slf4j
@@ -17,11 +19,15 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final AuthInfoArgumentResolver authInfoArgumentResolver;
 
+    private final AuthenticationInterceptor authenticationInterceptor;
+
     private final List<String> allowedOrigins;
 
     public WebConfig(AuthInfoArgumentResolver authInfoArgumentResolver,
+            AuthenticationInterceptor authenticationInterceptor,
             @Value("${application.cors.allowedOrigins}") List<String> allowedOrigins) {
         this.authInfoArgumentResolver = authInfoArgumentResolver;
+        this.authenticationInterceptor = authenticationInterceptor;
         this.allowedOrigins = allowedOrigins;
     }
 
@@ -30,6 +36,11 @@ public class WebConfig implements WebMvcConfigurer {
         resolvers.add(authInfoArgumentResolver);
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(authenticationInterceptor);
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         CorsRegistration corsRegistration = registry.addMapping("/**");
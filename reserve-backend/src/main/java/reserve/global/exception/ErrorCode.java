@@ -23,7 +23,7 @@ public enum ErrorCode {
     EXPIRED_ACCESS_TOKEN(120, "Access token is expired."), EXPIRED_REFRESH_TOKEN(121, "Refresh token is expired."),
 
     // 2xx: Wrong request.
-    INVALID_REQUEST(200, "Request is invalid."),
+    INVALID_REQUEST(200, "Request is invalid."), INVALID_CURSOR(201, "The cursor is invalid."),
     RESERVATION_CANNOT_CANCEL(211, "Failed to cancel the reservation as it is already in service or completed."),
     RESERVATION_CANNOT_START(212, "Failed to start the reservation as it is not ready state."),
     RESERVATION_CANNOT_COMPLETE(213, "Failed to complete the reservation as it is not in service."),
@@ -34,13 +34,15 @@ public enum ErrorCode {
     NOTIFICATION_NOT_FOUND(305, "Notification does not exist."),
 
     // 4xx: Access denied errors.
-    ACCESS_DENIED(400, "Access denied."),
+    ACCESS_DENIED(400, "Access denied."), TOO_MANY_REQUESTS(401, "Too many requests. Please try again later."),
 
     // 5xx: Conflict errors.
     USERNAME_DUPLICATE(501, "Username already exists."),
+    RESERVATION_SLOT_FULL(502, "No more reservations are available for the requested time."),
 
     // 9xx: server errors.
-    INTERNAL_SERVER_ERROR(900, "An internal server error has occurred. Please try again later.");
+    INTERNAL_SERVER_ERROR(900, "An internal server error has occurred. Please try again later."),
+    SERVER_BUSY(901, "The server is busy. Please try again later.");
 
     @Schema(description = "Error code", example = "101")
     private final int code;
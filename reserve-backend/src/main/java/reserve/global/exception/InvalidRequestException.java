@@ -0,0 +1,13 @@
+package reserve.global.exception;
+
+public class InvalidRequestException extends ErrorCodeException {
+
+    public InvalidRequestException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+    public InvalidRequestException(ErrorCode errorCode, Throwable e) {
+        super(errorCode, e);
+    }
+
+}
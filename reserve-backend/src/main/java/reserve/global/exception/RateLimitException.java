@@ -0,0 +1,9 @@
+package reserve.global.exception;
+
+public class RateLimitException extends ErrorCodeException {
+
+    public RateLimitException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+}
@@ -0,0 +1,9 @@
+package reserve.global.exception;
+
+public class ServerBusyException extends ErrorCodeException {
+
+    public ServerBusyException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+}
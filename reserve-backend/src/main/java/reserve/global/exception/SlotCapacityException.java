@@ -0,0 +1,9 @@
+package reserve.global.exception;
+
+public class SlotCapacityException extends ErrorCodeException {
+
+    public SlotCapacityException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+}
@@ -40,6 +40,12 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ErrorCode.INVALID_REQUEST;
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorCode handleInvalidRequest(InvalidRequestException e, HttpServletRequest request) {
+        return handleErrorCodeException(e, request);
+    }
+
     @ExceptionHandler(WrongCredentialException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     public ErrorCode handleWrongCredential(WrongCredentialException e, HttpServletRequest request) {
@@ -94,6 +100,28 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return handleErrorCodeException(e, request);
     }
 
+    @ExceptionHandler(SlotCapacityException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorCode handleSlotCapacity(SlotCapacityException e, HttpServletRequest request) {
+        return handleErrorCodeException(e, request);
+    }
+
+    @ExceptionHandler(RateLimitException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ErrorCode handleRateLimit(RateLimitException e, HttpServletRequest request) {
+        // Raised for every rejected request of a flood, so the stack trace is left out.
+        log.warn("Request URL: {}, Error message: {}", request.getRequestURL(), e.getMessage());
+        return e.getErrorCode();
+    }
+
+    @ExceptionHandler(ServerBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorCode handleServerBusy(ServerBusyException e, HttpServletRequest request) {
+        // Raised for every rejected request of a flood, so the stack trace is left out.
+        log.warn("Request URL: {}, Error message: {}", request.getRequestURL(), e.getMessage());
+        return e.getErrorCode();
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorCode handleException(Exception e, HttpServletRequest request) {
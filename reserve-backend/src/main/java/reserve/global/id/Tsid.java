@@ -0,0 +1,18 @@
+package reserve.global.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Assigns an ID from {@link TsidGenerator} on persist. Unlike {@code GenerationType.IDENTITY}, the ID is known before
+ * the insert, which lets Hibernate batch the inserts.
+ */
+@IdGeneratorType(TsidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface Tsid {
+
+}
@@ -0,0 +1,33 @@
+package reserve.global.id;
+
+import java.lang.reflect.Member;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * Hibernate identifier generator for {@link Tsid}. The node ID is read from the {@value #NODE_SETTING} Hibernate
+ * setting, which is populated from {@code application.id.node}. All generators draw from the factory returned by
+ * {@link TsidFactory#shared(int)}, as do native inserts that assign IDs themselves.
+ */
+public class TsidGenerator implements IdentifierGenerator {
+
+    public static final String NODE_SETTING = "reserve.id.node";
+
+    private final TsidFactory tsidFactory;
+
+    public TsidGenerator(Tsid config, Member idMember, CustomIdGeneratorCreationContext context) {
+        ConfigurationService configurationService = context.getServiceRegistry()
+            .requireService(ConfigurationService.class);
+        int node = ConfigurationHelper.getInt(NODE_SETTING, configurationService.getSettings(), 0);
+        this.tsidFactory = TsidFactory.shared(node);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return tsidFactory.generate();
+    }
+
+}
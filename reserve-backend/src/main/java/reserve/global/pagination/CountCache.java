@@ -0,0 +1,71 @@
+package reserve.global.pagination;
+
+import java.time.Clock;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import reserve.global.cache.LruCache;
+
+/**
+ * Keeps the total number of results of recent searches for {@link CountMode#CACHED}. Counts may be stale by up to the
+ * configured time-to-live.
+ */
+@Component
+public class CountCache {
+
+    private static final String KEY_DELIMITER = "\u0000";
+
+    private final LruCache<String, CachedCount> cache;
+
+    private final long ttlMillis;
+
+    private final Clock clock;
+
+    public CountCache(@Value("${application.pagination.countCacheSize:10000}") int maxSize,
+            @Value("${application.pagination.countCacheTtl:60}") long ttlSeconds, Clock clock) {
+        this.cache = new LruCache<>(maxSize);
+        this.ttlMillis = ttlSeconds * 1000;
+        this.clock = clock;
+    }
+
+    public static String key(String name, Object... conditions) {
+        StringBuilder sb = new StringBuilder(name);
+        for (Object condition : conditions) {
+            sb.append(KEY_DELIMITER).append(condition);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the cached count of the key, or runs the counter if it is absent or expired. The counter runs without
+     * holding any lock, so concurrent misses of the same key may count more than once.
+     */
+    public long get(String key, LongSupplier counter) {
+        long now = clock.millis();
+        CachedCount cached = cache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.count();
+        }
+        long count = counter.getAsLong();
+        cache.put(key, new CachedCount(count, now + ttlMillis));
+        return count;
+    }
+
+    /**
+     * Same as {@link #get(String, LongSupplier)}, but a single-page result is counted from the slice itself.
+     */
+    public long get(String key, Slice<?> slice, LongSupplier counter) {
+        if (slice.isFirst() && !slice.hasNext()) {
+            long count = slice.getNumberOfElements();
+            cache.put(key, new CachedCount(count, clock.millis() + ttlMillis));
+            return count;
+        }
+        return get(key, counter);
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+
+    }
+
+}
@@ -0,0 +1,23 @@
+package reserve.global.pagination;
+
+/**
+ * How list endpoints compute the total number of results.
+ */
+public enum CountMode {
+
+    /**
+     * Count on every request.
+     */
+    EXACT,
+
+    /**
+     * Reuse a recently computed count of the same search.
+     */
+    CACHED,
+
+    /**
+     * Do not count. The response only tells whether there is a next page.
+     */
+    NONE
+
+}
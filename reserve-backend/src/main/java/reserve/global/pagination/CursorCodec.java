@@ -0,0 +1,56 @@
+package reserve.global.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.InvalidRequestException;
+
+/**
+ * Encodes the sort key of the last row of a page into an opaque continuation token.
+ * <p>
+ * Values are joined with {@value #DELIMITER} and Base64url-encoded, so they must not contain the delimiter
+ * themselves. Clients are expected to treat the token as opaque.
+ * </p>
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = ":";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... values) {
+        StringJoiner joiner = new StringJoiner(DELIMITER);
+        for (Object value : values) {
+            joiner.add(String.valueOf(value));
+        }
+        return ENCODER.encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token made by {@link #encode(Object...)} and passes its values to the parser.
+     * @throws InvalidRequestException if the token is malformed or the parser rejects its values
+     */
+    public static <T> T decode(String cursor, int length, Function<String[], T> parser) {
+        try {
+            String[] values = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split(DELIMITER, -1);
+            if (values.length != length) {
+                throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+            }
+            return parser.apply(values);
+        }
+        catch (InvalidRequestException e) {
+            throw e;
+        }
+        catch (RuntimeException e) {
+            throw new InvalidRequestException(ErrorCode.INVALID_CURSOR, e);
+        }
+    }
+
+}
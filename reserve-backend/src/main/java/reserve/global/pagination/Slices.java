@@ -0,0 +1,23 @@
+package reserve.global.pagination;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+public final class Slices {
+
+    private Slices() {
+    }
+
+    /**
+     * Makes a slice from rows fetched with a limit of one more than the page size. The extra row only tells that there
+     * is a next page and is dropped.
+     */
+    public static <T> Slice<T> of(List<T> rows, Pageable pageable) {
+        int size = pageable.getPageSize();
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+    }
+
+}
@@ -0,0 +1,141 @@
+package reserve.global.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the address of the client that sent a request, for limits per client address.
+ * <p>
+ * Behind a load balancer, the remote address of every request is the balancer's. When the remote address is one of the
+ * trusted proxies, {@code X-Forwarded-For} is read from the right, skipping the addresses of trusted proxies, and the
+ * first other address is the client. Entries further left were written by the client itself and could be forged.
+ * Without trusted proxies, the remote address is used as is.
+ * </p>
+ */
+@Component
+public class ClientAddressResolver {
+
+    static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private static final Pattern IPV4_LITERAL = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+
+    private static final Pattern IPV6_LITERAL = Pattern.compile("[0-9a-fA-F:.]*:[0-9a-fA-F:.]*");
+
+    private final List<AddressRange> trustedProxies;
+
+    /**
+     * @param trustedProxies addresses or CIDR ranges of the proxies in front of the application, such as
+     * {@code 10.0.0.0/8}
+     */
+    public ClientAddressResolver(@Value("${application.rateLimit.trustedProxies:}") List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+            .filter(proxy -> !proxy.isBlank())
+            .map(AddressRange::parse)
+            .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        if (!isTrusted(address)) {
+            return address;
+        }
+        List<String> forwarded = new ArrayList<>();
+        for (Enumeration<String> headers = request.getHeaders(FORWARDED_FOR_HEADER); headers.hasMoreElements();) {
+            for (String hop : headers.nextElement().split(",")) {
+                if (!hop.isBlank()) {
+                    forwarded.add(hop.trim());
+                }
+            }
+        }
+        for (int i = forwarded.size() - 1; i >= 0; i--) {
+            address = forwarded.get(i);
+            if (!isTrusted(address)) {
+                return address;
+            }
+        }
+        return address;
+    }
+
+    private boolean isTrusted(String address) {
+        if (trustedProxies.isEmpty()) {
+            return false;
+        }
+        byte[] bytes = toBytes(address);
+        return bytes != null && trustedProxies.stream().anyMatch(range -> range.contains(bytes));
+    }
+
+    /**
+     * Parses literal addresses only, so that a forged header never triggers a DNS lookup.
+     * @return {@code null} if the address is not a valid IPv4 or IPv6 literal
+     */
+    private static byte[] toBytes(String address) {
+        if (address == null) {
+            return null;
+        }
+        if (IPV4_LITERAL.matcher(address).matches()) {
+            String[] octets = address.split("\\.");
+            byte[] bytes = new byte[octets.length];
+            for (int i = 0; i < octets.length; i++) {
+                int octet = Integer.parseInt(octets[i]);
+                if (octet > 255) {
+                    return null;
+                }
+                bytes[i] = (byte) octet;
+            }
+            return bytes;
+        }
+        if (!IPV6_LITERAL.matcher(address).matches()) {
+            return null;
+        }
+        try {
+            // Text with a colon is only ever parsed as an IPv6 literal.
+            return InetAddress.getByName(address).getAddress();
+        }
+        catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private record AddressRange(byte[] network, int prefixLength) {
+
+        static AddressRange parse(String range) {
+            String[] parts = range.trim().split("/", 2);
+            byte[] network = toBytes(parts[0]);
+            if (network == null) {
+                throw new IllegalArgumentException("Trusted proxy is not an IP address or CIDR range: " + range);
+            }
+            int prefixLength = parts.length == 2 ? Integer.parseInt(parts[1]) : network.length * 8;
+            if (prefixLength < 0 || prefixLength > network.length * 8) {
+                throw new IllegalArgumentException("Invalid prefix length of trusted proxy: " + range);
+            }
+            return new AddressRange(network, prefixLength);
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xff << (8 - remainingBits);
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+
+    }
+
+}
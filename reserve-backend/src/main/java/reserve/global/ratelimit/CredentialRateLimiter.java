@@ -0,0 +1,65 @@
+package reserve.global.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.RateLimitException;
+
+/**
+ * Limits the endpoints that hash passwords, by client address and, for sign-in, by username from that address. Checks
+ * have to run before the password is hashed, because the hash is what the limits protect.
+ * <p>
+ * The username limit is keyed by the client address as well. A limit on the username alone would let anyone lock its
+ * owner out by sending attempts for it from elsewhere.
+ * </p>
+ */
+@Component
+public class CredentialRateLimiter {
+
+    private final RateLimiter rateLimiter;
+
+    private final ClientAddressResolver clientAddressResolver;
+
+    private final int signInPerAddress;
+
+    private final int signInPerUsernameAndAddress;
+
+    private final int signUpPerAddress;
+
+    public CredentialRateLimiter(RateLimiter rateLimiter, ClientAddressResolver clientAddressResolver,
+            @Value("${application.rateLimit.signIn.perAddress:30}") int signInPerAddress,
+            @Value("${application.rateLimit.signIn.perUsernameAndAddress:10}") int signInPerUsernameAndAddress,
+            @Value("${application.rateLimit.signUp.perAddress:10}") int signUpPerAddress) {
+        this.rateLimiter = rateLimiter;
+        this.clientAddressResolver = clientAddressResolver;
+        this.signInPerAddress = signInPerAddress;
+        this.signInPerUsernameAndAddress = signInPerUsernameAndAddress;
+        this.signUpPerAddress = signUpPerAddress;
+    }
+
+    /**
+     * @throws RateLimitException if the client has made too many sign-in attempts, in total or for the username
+     */
+    public void checkSignIn(HttpServletRequest request, String username) {
+        String address = clientAddressResolver.resolve(request);
+        // Addresses never contain '@', so the last one separates them from any username.
+        check(List.of(RateLimit.of("sign-in:address", address, signInPerAddress),
+                RateLimit.of("sign-in:username", username + "@" + address, signInPerUsernameAndAddress)));
+    }
+
+    /**
+     * @throws RateLimitException if the client has made too many sign-up attempts
+     */
+    public void checkSignUp(HttpServletRequest request) {
+        check(List.of(RateLimit.of("sign-up:address", clientAddressResolver.resolve(request), signUpPerAddress)));
+    }
+
+    private void check(List<RateLimit> limits) {
+        if (!rateLimiter.tryAcquire(limits)) {
+            throw new RateLimitException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package reserve.global.ratelimit;
+
+import java.time.Clock;
+import java.util.List;
+import reserve.global.cache.LruCache;
+
+/**
+ * Sliding-window rate limiter that keeps its counters in this process. Limits are therefore enforced per instance
+ * only; the least recently used counters are dropped beyond {@code maxSize} keys.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Clock clock;
+
+    private final long windowMillis;
+
+    private final LruCache<String, Counter> counters;
+
+    public LocalRateLimiter(Clock clock, long windowMillis, int maxSize) {
+        this.clock = clock;
+        this.windowMillis = windowMillis;
+        this.counters = new LruCache<>(maxSize);
+    }
+
+    /**
+     * Checking and counting several keys has to be atomic, so all callers share one lock. Each call only touches a
+     * few counters.
+     */
+    @Override
+    public synchronized boolean tryAcquire(List<RateLimit> limits) {
+        long now = clock.millis();
+        long window = now / windowMillis;
+        long elapsed = now % windowMillis;
+        Counter[] acquired = new Counter[limits.size()];
+        for (int i = 0; i < acquired.length; i++) {
+            RateLimit limit = limits.get(i);
+            Counter counter = counters.getOrLoad(limit.key(), key -> new Counter());
+            counter.roll(window);
+            if (!isBelowLimit(counter, elapsed, limit.limit())) {
+                return false;
+            }
+            acquired[i] = counter;
+        }
+        for (Counter counter : acquired) {
+            counter.current++;
+        }
+        return true;
+    }
+
+    /**
+     * Approximates the sliding window from two fixed windows, weighting the count of the previous window by how much of
+     * it still overlaps the sliding window that ends now. {@link RedisRateLimiter} uses the same formula.
+     */
+    private boolean isBelowLimit(Counter counter, long elapsed, int limit) {
+        return counter.previous * (windowMillis - elapsed) / (double) windowMillis + counter.current < limit;
+    }
+
+    private static class Counter {
+
+        private long window;
+
+        private long previous;
+
+        private long current;
+
+        void roll(long now) {
+            if (window == now) {
+                return;
+            }
+            previous = window == now - 1 ? current : 0;
+            current = 0;
+            window = now;
+        }
+
+    }
+
+}
@@ -0,0 +1,12 @@
+package reserve.global.ratelimit;
+
+/**
+ * Allows at most {@code limit} requests for {@code key} in any window of the configured length.
+ */
+public record RateLimit(String key, int limit) {
+
+    public static RateLimit of(String name, String subject, int limit) {
+        return new RateLimit(name + ":" + subject, limit);
+    }
+
+}
@@ -0,0 +1,13 @@
+package reserve.global.ratelimit;
+
+import java.util.List;
+
+public interface RateLimiter {
+
+    /**
+     * Counts one request against every limit, or none of them if any limit is already reached.
+     * @return {@code false} if the request exceeds one of the limits
+     */
+    boolean tryAcquire(List<RateLimit> limits);
+
+}
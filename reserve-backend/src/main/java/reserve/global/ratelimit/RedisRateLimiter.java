@@ -0,0 +1,107 @@
+package reserve.global.ratelimit;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sliding-window rate limiter shared by all instances through Redis.
+ * <p>
+ * Every limit is kept as one counter per fixed window, and a single script checks and counts all limits of a request,
+ * so each request costs one round trip. While Redis cannot be reached, limits are enforced per instance by a
+ * {@link LocalRateLimiter}. After a failed call, Redis is skipped for a cooldown, so that only one request per cooldown
+ * waits for the command to time out instead of every request.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "application.rateLimit.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRateLimiter implements RateLimiter {
+
+    static final String KEY_PREFIX = "ratelimit:";
+
+    /**
+     * KEYS holds the current and previous window counter of each limit, ARGV the window length, the time elapsed in the
+     * current window and the limits. Counters live for two windows, as long as they can still be read.
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+            local window = tonumber(ARGV[1])
+            local elapsed = tonumber(ARGV[2])
+            for i = 1, #KEYS, 2 do
+                local limit = tonumber(ARGV[2 + (i + 1) / 2])
+                local current = tonumber(redis.call('GET', KEYS[i])) or 0
+                local previous = tonumber(redis.call('GET', KEYS[i + 1])) or 0
+                if previous * (window - elapsed) / window + current >= limit then
+                    return 0
+                end
+            end
+            for i = 1, #KEYS, 2 do
+                if redis.call('INCR', KEYS[i]) == 1 then
+                    redis.call('PEXPIRE', KEYS[i], window * 2)
+                end
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final Clock clock;
+
+    private final long windowMillis;
+
+    private final LocalRateLimiter fallback;
+
+    private final long cooldownMillis;
+
+    /**
+     * Time until which Redis is skipped after a failure.
+     */
+    private volatile long redisRetryAt;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, Clock clock,
+            @Value("${application.rateLimit.window:60}") long windowSeconds,
+            @Value("${application.rateLimit.localMaxSize:100000}") int localMaxSize,
+            @Value("${application.rateLimit.redisCooldown:10}") long cooldownSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.windowMillis = windowSeconds * 1000;
+        this.fallback = new LocalRateLimiter(clock, windowMillis, localMaxSize);
+        this.cooldownMillis = cooldownSeconds * 1000;
+    }
+
+    @Override
+    public boolean tryAcquire(List<RateLimit> limits) {
+        long now = clock.millis();
+        if (now < redisRetryAt) {
+            return fallback.tryAcquire(limits);
+        }
+        long window = now / windowMillis;
+        List<String> keys = new ArrayList<>(limits.size() * 2);
+        String[] args = new String[limits.size() + 2];
+        args[0] = String.valueOf(windowMillis);
+        args[1] = String.valueOf(now % windowMillis);
+        for (int i = 0; i < limits.size(); i++) {
+            RateLimit limit = limits.get(i);
+            keys.add(KEY_PREFIX + limit.key() + ":" + window);
+            keys.add(KEY_PREFIX + limit.key() + ":" + (window - 1));
+            args[i + 2] = String.valueOf(limit.limit());
+        }
+        try {
+            Long acquired = redisTemplate.execute(ACQUIRE_SCRIPT, keys, (Object[]) args);
+            return acquired != null && acquired == 1;
+        }
+        catch (DataAccessException e) {
+            redisRetryAt = clock.millis() + cooldownMillis;
+            log.warn("Rate limiting falls back to local counters for {} ms: {}", cooldownMillis, e.getMessage());
+            return fallback.tryAcquire(limits);
+        }
+    }
+
+}
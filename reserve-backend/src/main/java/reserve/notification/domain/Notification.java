@@ -1,10 +1,12 @@
 package reserve.notification.domain;
 
 import jakarta.persistence.*;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import reserve.global.entity.BaseEntity;
+import reserve.global.id.Tsid;
 import reserve.user.domain.User;
 
 @Entity
@@ -14,7 +16,7 @@ import reserve.user.domain.User;
 public class Notification extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     @Column(name = "notification_id")
     private Long id;
 
@@ -29,18 +31,28 @@ public class Notification extends BaseEntity {
     @JoinColumn(nullable = false, updatable = false)
     private Long resourceId;
 
-    @Column(nullable = false, updatable = false)
-    private String message;
+    @Column(nullable = false)
+    @Convert(converter = NotificationTemplateConverter.class)
+    private NotificationTemplate template;
+
+    @Convert(converter = NotificationArgsConverter.class)
+    private List<String> args = List.of();
 
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private NotificationStatus status = NotificationStatus.UNREAD;
 
-    public Notification(User user, ResourceType resourceType, Long resourceId, String message) {
+    public Notification(User user, ResourceType resourceType, Long resourceId, NotificationTemplate template,
+            List<String> args) {
         this.user = user;
         this.resourceType = resourceType;
         this.resourceId = resourceId;
-        this.message = message;
+        this.template = template;
+        this.args = List.copyOf(args);
+    }
+
+    public Notification(User user, ResourceType resourceType, Long resourceId, NotificationTemplate template) {
+        this(user, resourceType, resourceId, template, List.of());
     }
 
     public boolean isStatusRead() {
@@ -51,4 +63,12 @@ public class Notification extends BaseEntity {
         this.status = NotificationStatus.READ;
     }
 
+    /**
+     * Replaces the message with a newer one about the same resource.
+     */
+    public void coalesce(NotificationTemplate template, List<String> args) {
+        this.template = template;
+        this.args = List.copyOf(args);
+    }
+
 }
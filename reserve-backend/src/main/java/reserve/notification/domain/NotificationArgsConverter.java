@@ -0,0 +1,27 @@
+package reserve.notification.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stores template arguments in one column, separated by the ASCII unit separator. No arguments are stored as
+ * {@code NULL}, which takes no space in the row.
+ */
+@Converter
+public class NotificationArgsConverter implements AttributeConverter<List<String>, String> {
+
+    private static final String SEPARATOR = "\u001F";
+
+    @Override
+    public String convertToDatabaseColumn(List<String> args) {
+        return args == null || args.isEmpty() ? null : String.join(SEPARATOR, args);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String value) {
+        return value == null ? List.of() : Arrays.asList(value.split(SEPARATOR, -1));
+    }
+
+}
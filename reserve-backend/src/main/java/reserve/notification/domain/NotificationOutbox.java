@@ -0,0 +1,49 @@
+package reserve.notification.domain;
+
+import jakarta.persistence.*;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import reserve.global.entity.BaseEntity;
+import reserve.global.id.Tsid;
+
+/**
+ * Reservation notification waiting to be delivered. It is written in the transaction that changes the reservation
+ * and turned into {@link Notification}s for the user and the registrant later.
+ */
+@Entity
+@Table(name = "notification_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class NotificationOutbox extends BaseEntity {
+
+    @Id
+    @Tsid
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long reservationId;
+
+    @Column(nullable = false, updatable = false)
+    @Convert(converter = NotificationTemplateConverter.class)
+    private NotificationTemplate template;
+
+    @Column(nullable = false, updatable = false)
+    @Convert(converter = NotificationTemplateConverter.class)
+    private NotificationTemplate registrantTemplate;
+
+    @Column(updatable = false)
+    @Convert(converter = NotificationArgsConverter.class)
+    private List<String> args = List.of();
+
+    public NotificationOutbox(Long reservationId, NotificationTemplate template,
+            NotificationTemplate registrantTemplate, List<String> args) {
+        this.reservationId = reservationId;
+        this.template = template;
+        this.registrantTemplate = registrantTemplate;
+        this.args = List.copyOf(args);
+    }
+
+}
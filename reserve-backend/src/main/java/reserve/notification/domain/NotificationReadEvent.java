@@ -0,0 +1,9 @@
+package reserve.notification.domain;
+
+/**
+ * Published when {@code count} unread notifications of a user are marked as read. Listeners run after the transaction
+ * commits.
+ */
+public record NotificationReadEvent(Long userId, int count) {
+
+}
@@ -0,0 +1,65 @@
+package reserve.notification.domain;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * Message of a notification. Rows store the {@link #code} and the arguments only, and the text is looked up by
+ * {@link #getMessageKey()} in the {@code messages} bundle when a notification is read.
+ * <p>
+ * Codes are persisted, so they must never be changed or reused.
+ * </p>
+ */
+@Getter
+public enum NotificationTemplate {
+
+    /**
+     * Message stored as text before templates were introduced. The text is the only argument.
+     */
+    LEGACY(0),
+
+    RESERVATION_CREATED(1),
+
+    RESERVATION_CREATED_FOR_REGISTRANT(2),
+
+    RESERVATION_UPDATED(3),
+
+    RESERVATION_UPDATED_FOR_REGISTRANT(4),
+
+    RESERVATION_CANCELED(5),
+
+    RESERVATION_CANCELED_FOR_REGISTRANT(6),
+
+    RESERVATION_CANCELED_BY_STORE(7),
+
+    RESERVATION_CANCELED_BY_STORE_FOR_REGISTRANT(8),
+
+    SERVICE_STARTED(9),
+
+    SERVICE_COMPLETED(10);
+
+    private static final Map<Short, NotificationTemplate> BY_CODE = Arrays.stream(values())
+        .collect(Collectors.toMap(NotificationTemplate::getCode, Function.identity()));
+
+    private final short code;
+
+    NotificationTemplate(int code) {
+        this.code = (short) code;
+    }
+
+    public String getMessageKey() {
+        return "notification." + name();
+    }
+
+    public static NotificationTemplate ofCode(short code) {
+        NotificationTemplate template = BY_CODE.get(code);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown notification template code: " + code);
+        }
+        return template;
+    }
+
+}
@@ -0,0 +1,19 @@
+package reserve.notification.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class NotificationTemplateConverter implements AttributeConverter<NotificationTemplate, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(NotificationTemplate template) {
+        return template == null ? null : template.getCode();
+    }
+
+    @Override
+    public NotificationTemplate convertToEntityAttribute(Short code) {
+        return code == null ? null : NotificationTemplate.ofCode(code);
+    }
+
+}
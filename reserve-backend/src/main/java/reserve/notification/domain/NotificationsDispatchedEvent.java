@@ -0,0 +1,11 @@
+package reserve.notification.domain;
+
+import java.util.List;
+
+/**
+ * Published once per dispatched batch, with the notifications it stored and the unread notifications into which it
+ * merged a newer message. Listeners run after the transaction commits, so they can handle the whole batch at once.
+ */
+public record NotificationsDispatchedEvent(List<Notification> created, List<Notification> coalesced) {
+
+}
@@ -0,0 +1,28 @@
+package reserve.notification.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import reserve.global.pagination.CursorCodec;
+import reserve.notification.dto.response.NotificationInfo;
+
+/**
+ * Position in the notification feed ordered by {@code (createdAt, notificationId)} descending. The time is encoded as
+ * epoch seconds and nanoseconds, because its text form contains the cursor delimiter.
+ */
+public record NotificationCursor(LocalDateTime createdAt, Long notificationId) {
+
+    public static NotificationCursor after(NotificationInfo last) {
+        return new NotificationCursor(last.getNotifiedTime(), last.getNotificationId());
+    }
+
+    public static NotificationCursor decode(String cursor) {
+        return CursorCodec.decode(cursor, 3,
+                values -> new NotificationCursor(LocalDateTime.ofEpochSecond(Long.parseLong(values[0]),
+                        Integer.parseInt(values[1]), ZoneOffset.UTC), Long.parseLong(values[2])));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(createdAt.toEpochSecond(ZoneOffset.UTC), createdAt.getNano(), notificationId);
+    }
+
+}
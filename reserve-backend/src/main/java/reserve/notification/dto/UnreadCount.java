@@ -0,0 +1,5 @@
+package reserve.notification.dto;
+
+public record UnreadCount(Long userId, long count) {
+
+}
@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
 import reserve.notification.domain.Notification;
 import reserve.notification.domain.NotificationStatus;
 import reserve.notification.domain.ResourceType;
@@ -30,9 +32,14 @@ public class NotificationInfo {
     @Schema(description = "Status of notification (READ, UNREAD)", example = "READ")
     private final NotificationStatus status;
 
-    public static NotificationInfo from(Notification notification) {
+    /**
+     * Renders the message of the notification in the locale of the current request.
+     */
+    public static NotificationInfo from(Notification notification, MessageSource messageSource) {
+        String message = messageSource.getMessage(notification.getTemplate().getMessageKey(),
+                notification.getArgs().toArray(), LocaleContextHolder.getLocale());
         return new NotificationInfo(notification.getId(), notification.getResourceType(), notification.getResourceId(),
-                notification.getMessage(), notification.getCreatedAt(), notification.getStatus());
+                message, notification.getCreatedAt(), notification.getStatus());
     }
 
 }
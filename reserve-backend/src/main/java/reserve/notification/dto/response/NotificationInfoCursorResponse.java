@@ -0,0 +1,43 @@
+package reserve.notification.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import reserve.notification.dto.NotificationCursor;
+
+@RequiredArgsConstructor
+@Getter
+@JsonPropertyOrder({ "pageSize", "hasNext", "nextCursor", "results" })
+public class NotificationInfoCursorResponse {
+
+    @Schema(description = "Page size", example = "20")
+    private final int pageSize;
+
+    @Getter(AccessLevel.PRIVATE)
+    private final boolean hasNext;
+
+    @Schema(description = "Cursor of the next page, or null if there is no next page.",
+            example = "MTczNTY4OTYwMDowOjE")
+    private final String nextCursor;
+
+    @Schema(description = "List of notification info")
+    private final List<NotificationInfo> results;
+
+    @Schema(description = "Whether there is a next page", example = "false")
+    @JsonProperty("hasNext")
+    public boolean hasNext() {
+        return this.hasNext;
+    }
+
+    public static NotificationInfoCursorResponse from(Slice<NotificationInfo> slice) {
+        List<NotificationInfo> content = slice.getContent();
+        String nextCursor = slice.hasNext() ? NotificationCursor.after(content.get(content.size() - 1)).encode() : null;
+        return new NotificationInfoCursorResponse(slice.getSize(), slice.hasNext(), nextCursor, content);
+    }
+
+}
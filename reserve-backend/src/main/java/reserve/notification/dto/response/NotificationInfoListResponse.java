@@ -8,13 +8,14 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @RequiredArgsConstructor
 @Getter
 @JsonPropertyOrder({ "count", "pageSize", "pageNumber", "hasNext", "results" })
 public class NotificationInfoListResponse {
 
-    @Schema(description = "Number of results", example = "1")
+    @Schema(description = "Number of results, or -1 if not counted", example = "1")
     private final long count;
 
     @Schema(description = "Page size", example = "20")
@@ -36,8 +37,15 @@ public class NotificationInfoListResponse {
     }
 
     public static NotificationInfoListResponse from(Page<NotificationInfo> page) {
-        return new NotificationInfoListResponse(page.getTotalElements(), page.getPageable().getPageSize(),
-                page.getPageable().getPageNumber(), page.hasNext(), page.getContent());
+        return from(page, page.getTotalElements());
+    }
+
+    /**
+     * @param count total number of results, or {@code -1} if it was not counted
+     */
+    public static NotificationInfoListResponse from(Slice<NotificationInfo> slice, long count) {
+        return new NotificationInfoListResponse(count, slice.getPageable().getPageSize(),
+                slice.getPageable().getPageNumber(), slice.hasNext(), slice.getContent());
     }
 
 }
@@ -0,0 +1,66 @@
+package reserve.notification.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reserve.notification.dto.UnreadCount;
+
+/**
+ * Keeps the number of unread notifications of each user in this process, for deployments of a single instance.
+ * Counters start empty after a restart and are rebuilt as users read them.
+ */
+@Component
+@ConditionalOnProperty(name = "application.notification.store", havingValue = "memory")
+public class InMemoryUnreadNotificationCounter extends UnreadNotificationCounter {
+
+    private final Map<Long, Long> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public Long get(Long userId) {
+        return counts.get(userId);
+    }
+
+    @Override
+    public void increment(Long userId, long delta) {
+        counts.computeIfPresent(userId, (key, count) -> count + delta);
+    }
+
+    @Override
+    public void decrement(Long userId, long delta) {
+        counts.computeIfPresent(userId, (key, count) -> Math.max(0, count - delta));
+    }
+
+    @Override
+    public void setIfAbsent(Long userId, long count) {
+        counts.putIfAbsent(userId, count);
+    }
+
+    @Override
+    public void setAll(Collection<UnreadCount> counts) {
+        counts.forEach(count -> this.counts.put(count.userId(), count.count()));
+    }
+
+    /**
+     * Counters created meanwhile may be skipped, as with a scan of Redis.
+     */
+    @Override
+    public void scanUserIds(int batchSize, Consumer<List<Long>> consumer) {
+        List<Long> userIds = new ArrayList<>(batchSize);
+        for (Long userId : counts.keySet()) {
+            userIds.add(userId);
+            if (userIds.size() == batchSize) {
+                consumer.accept(userIds);
+                userIds = new ArrayList<>(batchSize);
+            }
+        }
+        if (!userIds.isEmpty()) {
+            consumer.accept(userIds);
+        }
+    }
+
+}
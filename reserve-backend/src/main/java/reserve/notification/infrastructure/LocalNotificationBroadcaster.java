@@ -0,0 +1,52 @@
+package reserve.notification.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationsDispatchedEvent;
+import reserve.notification.dto.response.NotificationInfo;
+import reserve.notification.service.NotificationStreamService;
+
+/**
+ * Pushes new notifications to the streams of this instance only, for deployments of a single instance. Like
+ * {@link NotificationBroadcaster}, pushing is best effort.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "application.notification.store", havingValue = "memory")
+@RequiredArgsConstructor
+public class LocalNotificationBroadcaster {
+
+    private final ObjectMapper objectMapper;
+
+    private final MessageSource messageSource;
+
+    private final NotificationStreamService notificationStreamService;
+
+    /**
+     * Coalesced notifications are pushed again with the same ID, so clients replace the one they have.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsDispatched(NotificationsDispatchedEvent event) {
+        event.created().forEach(this::push);
+        event.coalesced().forEach(this::push);
+    }
+
+    private void push(Notification notification) {
+        try {
+            String json = objectMapper.writeValueAsString(NotificationInfo.from(notification, messageSource));
+            notificationStreamService.send(notification.getUser().getId(),
+                    NotificationStreamService.NOTIFICATION_EVENT, String.valueOf(notification.getId()), json);
+        }
+        catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to push notification {}", notification.getId(), e);
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package reserve.notification.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.MessageSource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationsDispatchedEvent;
+import reserve.notification.dto.response.NotificationInfo;
+import reserve.notification.service.NotificationStreamService;
+
+/**
+ * Fans out new notifications to the streams of every instance through a Redis channel.
+ * <p>
+ * A message is {@code <user ID>:<notification ID>:<notification JSON>}. The JSON is rendered once by the publishing
+ * instance, in its default locale, and forwarded as is, so subscribers only parse the IDs. The messages of a
+ * dispatched batch are published in one pipeline after it commits, so a batch costs a single round trip. Every
+ * instance receives the messages of all users and drops those without a local stream. Pushing is best effort: the
+ * notification is already stored, and clients can catch up with the notification list.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "application.notification.store", havingValue = "redis", matchIfMissing = true)
+public class NotificationBroadcaster implements MessageListener {
+
+    static final ChannelTopic TOPIC = ChannelTopic.of("notifications");
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final MessageSource messageSource;
+
+    private final NotificationStreamService notificationStreamService;
+
+    public NotificationBroadcaster(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+            MessageSource messageSource, NotificationStreamService notificationStreamService,
+            RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.messageSource = messageSource;
+        this.notificationStreamService = notificationStreamService;
+        listenerContainer.addMessageListener(this, TOPIC);
+    }
+
+    /**
+     * Coalesced notifications are pushed again with the same ID, so clients replace the one they have.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsDispatched(NotificationsDispatchedEvent event) {
+        List<String> messages = new ArrayList<>(event.created().size() + event.coalesced().size());
+        event.created().forEach(notification -> addMessage(messages, notification));
+        event.coalesced().forEach(notification -> addMessage(messages, notification));
+        if (messages.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                messages.forEach(message -> stringConnection.publish(TOPIC.getTopic(), message));
+                return null;
+            });
+        }
+        catch (RuntimeException e) {
+            log.warn("Failed to publish {} notifications", messages.size(), e);
+        }
+    }
+
+    private void addMessage(List<String> messages, Notification notification) {
+        try {
+            String json = objectMapper.writeValueAsString(NotificationInfo.from(notification, messageSource));
+            messages.add(notification.getUser().getId() + ":" + notification.getId() + ":" + json);
+        }
+        catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to publish notification {}", notification.getId(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":", 3);
+        if (parts.length < 3) {
+            log.warn("Malformed notification message: {}", body);
+            return;
+        }
+        notificationStreamService.send(Long.valueOf(parts[0]), NotificationStreamService.NOTIFICATION_EVENT, parts[1],
+                parts[2]);
+    }
+
+}
@@ -0,0 +1,23 @@
+package reserve.notification.infrastructure;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import reserve.notification.domain.NotificationOutbox;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * Locks the oldest entries until the end of the transaction. Entries locked by another dispatcher are skipped, so
+     * several instances can drain the outbox at the same time without waiting for each other.
+     */
+    @Query(value = """
+            SELECT * FROM notification_outbox
+            ORDER BY outbox_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<NotificationOutbox> findAllForDispatch(@Param("limit") int limit);
+
+}
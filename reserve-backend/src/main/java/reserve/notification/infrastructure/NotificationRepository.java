@@ -1,23 +1,107 @@
 package reserve.notification.infrastructure;
 
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationStatus;
+import reserve.notification.domain.ResourceType;
+import reserve.notification.dto.UnreadCount;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     Page<Notification> findAllByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    Slice<Notification> findSliceByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+
+    long countByUserId(Long userId);
+
+    long countByUserIdAndStatus(Long userId, NotificationStatus status);
+
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findFeedByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Returns the notifications of a user that come after the given position in the feed order. The redundant
+     * {@code createdAt <= :createdAt} bounds the index range scan on {@code (user_id, created_at, notification_id)}.
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.createdAt <= :createdAt "
+            + "AND (n.createdAt < :createdAt OR n.id < :notificationId) ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findFeedByUserIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("notificationId") Long notificationId, Pageable pageable);
+
+    /**
+     * Locks the unread notifications about the given resources that the given users received since the given time.
+     * The range is located on the {@code (user_id, created_at, notification_id)} index, so it stays small for a short
+     * window. Rows about other pairs of user and resource may be included and have to be filtered by the caller.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM Notification n WHERE n.user.id IN :userIds AND n.createdAt >= :since "
+            + "AND n.resourceType = :resourceType AND n.resourceId IN :resourceIds AND n.status = 'UNREAD'")
+    List<Notification> findAllUnreadForCoalescing(@Param("userIds") Collection<Long> userIds,
+            @Param("resourceType") ResourceType resourceType, @Param("resourceIds") Collection<Long> resourceIds,
+            @Param("since") LocalDateTime since);
+
+    /**
+     * @return the number of notifications changed from unread to read, {@code 0} or {@code 1}
+     */
     @Modifying
-    @Query("UPDATE Notification n SET n.status = 'READ' WHERE n.user.id = :userId AND n.id = :notificationId")
-    void setReadByUserIdAndId(@Param("userId") Long userId, @Param("notificationId") Long notificationId);
+    @Query("UPDATE Notification n SET n.status = 'READ' "
+            + "WHERE n.user.id = :userId AND n.id = :notificationId AND n.status = 'UNREAD'")
+    int setReadByUserIdAndId(@Param("userId") Long userId, @Param("notificationId") Long notificationId);
 
+    /**
+     * Marks up to {@code limit} unread notifications of a user as read, oldest first. Runs in a transaction of its own
+     * unless called in one, so each chunk releases its row locks on return.
+     * @return the number of notifications changed from unread to read
+     */
+    @Transactional
     @Modifying
-    @Query("UPDATE Notification n SET n.status = 'READ' WHERE n.user.id = :userId")
-    void setReadAllByUserId(@Param("userId") Long userId);
+    @Query(value = "UPDATE notifications SET status = 'READ' WHERE user_id = :userId AND status = 'UNREAD' "
+            + "ORDER BY notification_id LIMIT :limit", nativeQuery = true)
+    int setReadAllByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * Deletes up to {@code limit} notifications with an ID below {@code maxId} that were created before the given
+     * time. Notification IDs grow with creation time, so {@code maxId} taken from the same time bounds the primary key
+     * range the delete scans and locks. The scan never reaches the newest rows, and concurrent inserts of new
+     * notifications do not wait for it, even once no expired rows are left. Runs in a transaction of its own unless
+     * called in one.
+     * @return the number of deleted notifications
+     */
+    /**
+     * Returns the users with unread notifications among those {@link #deleteAllByIdLessThanAndCreatedAtBefore} would
+     * delete with the same arguments, so that their unread counters can be repaired after the delete.
+     */
+    @Query(value = "SELECT DISTINCT batch.user_id FROM (SELECT user_id, status FROM notifications "
+            + "WHERE notification_id < :maxId AND created_at < :before ORDER BY notification_id LIMIT :limit) batch "
+            + "WHERE batch.status = 'UNREAD'", nativeQuery = true)
+    List<Long> findUnreadUserIdsByIdLessThanAndCreatedAtBefore(@Param("maxId") long maxId,
+            @Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE notification_id < :maxId AND created_at < :before "
+            + "ORDER BY notification_id LIMIT :limit", nativeQuery = true)
+    int deleteAllByIdLessThanAndCreatedAtBefore(@Param("maxId") long maxId, @Param("before") LocalDateTime before,
+            @Param("limit") int limit);
+
+    @Query("SELECT new reserve.notification.dto.UnreadCount(n.user.id, COUNT(n)) FROM Notification n "
+            + "WHERE n.status = 'UNREAD' AND n.user.id > :userId GROUP BY n.user.id ORDER BY n.user.id")
+    List<UnreadCount> findUnreadCountsByUserIdGreaterThan(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT new reserve.notification.dto.UnreadCount(n.user.id, COUNT(n)) FROM Notification n "
+            + "WHERE n.status = 'UNREAD' AND n.user.id IN :userIds GROUP BY n.user.id")
+    List<UnreadCount> findUnreadCountsByUserIdIn(@Param("userIds") Collection<Long> userIds);
 
 }
@@ -0,0 +1,105 @@
+package reserve.notification.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reserve.notification.dto.UnreadCount;
+
+/**
+ * Keeps the number of unread notifications of each user in Redis, shared by all instances.
+ */
+@Component
+@ConditionalOnProperty(name = "application.notification.store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisUnreadNotificationCounter extends UnreadNotificationCounter {
+
+    static final String KEY_PREFIX = "notification:unread:";
+
+    private static final RedisScript<Long> INCREMENT_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            return redis.call('INCRBY', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private static final RedisScript<Long> DECREMENT_SCRIPT = RedisScript.of("""
+            local value = redis.call('GET', KEYS[1])
+            if not value then
+                return -1
+            end
+            local count = tonumber(value) - tonumber(ARGV[1])
+            if count < 0 then
+                count = 0
+            end
+            redis.call('SET', KEYS[1], count)
+            return count
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Long get(Long userId) {
+        String value = redisTemplate.opsForValue().get(key(userId));
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    @Override
+    public void increment(Long userId, long delta) {
+        redisTemplate.execute(INCREMENT_SCRIPT, List.of(key(userId)), String.valueOf(delta));
+    }
+
+    @Override
+    public void decrement(Long userId, long delta) {
+        redisTemplate.execute(DECREMENT_SCRIPT, List.of(key(userId)), String.valueOf(delta));
+    }
+
+    @Override
+    public void setIfAbsent(Long userId, long count) {
+        redisTemplate.opsForValue().setIfAbsent(key(userId), String.valueOf(count));
+    }
+
+    @Override
+    public void setAll(Collection<UnreadCount> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForValue()
+            .multiSet(counts.stream()
+                .collect(Collectors.toMap(count -> key(count.userId()), count -> String.valueOf(count.count()))));
+    }
+
+    /**
+     * Uses {@code SCAN}, so Redis is not blocked, but counters created meanwhile may be skipped.
+     */
+    @Override
+    public void scanUserIds(int batchSize, Consumer<List<Long>> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(batchSize).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<Long> userIds = new ArrayList<>(batchSize);
+            while (cursor.hasNext()) {
+                userIds.add(Long.valueOf(cursor.next().substring(KEY_PREFIX.length())));
+                if (userIds.size() == batchSize) {
+                    consumer.accept(userIds);
+                    userIds = new ArrayList<>(batchSize);
+                }
+            }
+            if (!userIds.isEmpty()) {
+                consumer.accept(userIds);
+            }
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+}
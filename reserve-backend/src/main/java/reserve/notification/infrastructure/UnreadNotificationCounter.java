@@ -0,0 +1,85 @@
+package reserve.notification.infrastructure;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reserve.notification.domain.NotificationReadEvent;
+import reserve.notification.domain.NotificationsDispatchedEvent;
+import reserve.notification.dto.UnreadCount;
+
+/**
+ * Keeps the number of unread notifications of each user.
+ * <p>
+ * Counters are updated by {@link NotificationsDispatchedEvent}s and {@link NotificationReadEvent}s after their
+ * transaction commits. Updates are best effort; a counter that drifted is repaired by the reconciliation job.
+ * </p>
+ * <p>
+ * Only existing counters are updated. A missing counter, as after a restart or a flush of the store, reads as
+ * {@code null} and is rebuilt from the database by the caller with {@link #setIfAbsent(Long, long)}, instead of
+ * counting only the events that arrive after it went missing.
+ * </p>
+ */
+@Slf4j
+public abstract class UnreadNotificationCounter {
+
+    /**
+     * @return {@code null} if the user has no counter
+     */
+    public abstract Long get(Long userId);
+
+    /**
+     * Increments the counter if it exists.
+     */
+    public abstract void increment(Long userId, long delta);
+
+    /**
+     * Decrements the counter if it exists, without going below zero, so a read that races with a reconciliation
+     * cannot leave a negative count.
+     */
+    public abstract void decrement(Long userId, long delta);
+
+    /**
+     * Creates the counter with the given count unless it exists.
+     */
+    public abstract void setIfAbsent(Long userId, long count);
+
+    public abstract void setAll(Collection<UnreadCount> counts);
+
+    /**
+     * Passes the IDs of the users that have a counter to {@code consumer}, at most {@code batchSize} at a time.
+     */
+    public abstract void scanUserIds(int batchSize, Consumer<List<Long>> consumer);
+
+    /**
+     * Increments the counter of each user once by the number of notifications the batch created for them.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsDispatched(NotificationsDispatchedEvent event) {
+        Map<Long, Long> created = event.created()
+            .stream()
+            .collect(Collectors.groupingBy(notification -> notification.getUser().getId(), Collectors.counting()));
+        created.forEach((userId, count) -> {
+            try {
+                increment(userId, count);
+            }
+            catch (RuntimeException e) {
+                log.warn("Failed to increment unread count of user {}", userId, e);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationRead(NotificationReadEvent event) {
+        try {
+            decrement(event.userId(), event.count());
+        }
+        catch (RuntimeException e) {
+            log.warn("Failed to decrement unread count of user {}", event.userId(), e);
+        }
+    }
+
+}
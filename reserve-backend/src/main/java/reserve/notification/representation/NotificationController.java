@@ -9,11 +9,24 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import reserve.auth.domain.AuthInfo;
 import reserve.auth.infrastructure.Authentication;
+import reserve.global.exception.AccessTokenException;
+import reserve.global.exception.AuthenticationException;
+import reserve.global.exception.ErrorCode;
+import reserve.global.pagination.CountMode;
+import reserve.global.swagger.annotation.ApiErrorCodeResponse;
+import reserve.global.swagger.annotation.ApiErrorCodeResponses;
+import reserve.notification.dto.response.NotificationInfo;
+import reserve.notification.dto.response.NotificationInfoCursorResponse;
 import reserve.notification.dto.response.NotificationInfoListResponse;
+import reserve.notification.dto.response.UnreadCountResponse;
 import reserve.notification.service.NotificationService;
+import reserve.notification.service.NotificationStreamService;
+import reserve.signin.service.SignInService;
 
 @RestController
 @RequestMapping("/v1/notifications")
@@ -23,6 +36,10 @@ public class NotificationController {
 
     private final NotificationService notificationService;
 
+    private final NotificationStreamService notificationStreamService;
+
+    private final SignInService signInService;
+
     @GetMapping
     @Operation(summary = "Get user notifications", description = "Get sign-in user's notifications",
             operationId = "1_getUserNotifications")
@@ -30,8 +47,66 @@ public class NotificationController {
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = NotificationInfoListResponse.class))))
     public NotificationInfoListResponse getUserNotifications(@Authentication AuthInfo authInfo,
-            @ParameterObject Pageable pageable) {
-        return notificationService.getUserNotifications(authInfo.getUserId(), pageable);
+            @ParameterObject Pageable pageable,
+            @RequestParam(value = "total", defaultValue = "EXACT") @Schema(
+                    description = "How to count the total: EXACT, CACHED (may be stale), or NONE (count is -1)",
+                    example = "NONE") CountMode total) {
+        return notificationService.getUserNotifications(authInfo.getUserId(), pageable, total);
+    }
+
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Get user notifications by cursor",
+            description = "Get sign-in user's notifications page by page without counting. Results are ordered by "
+                    + "notified time and ID in descending order. Pass an empty cursor for the first page and "
+                    + "'nextCursor' of the response for the next one.",
+            operationId = "6_getUserNotificationsByCursor")
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "Response with user notifications",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = NotificationInfoCursorResponse.class))))
+    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "400", errorCode = ErrorCode.INVALID_CURSOR))
+    public NotificationInfoCursorResponse getUserNotificationsByCursor(@Authentication AuthInfo authInfo,
+            @RequestParam("cursor") @Schema(description = "Continuation token", example = "") String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Schema(description = "Page size (max 100)",
+                    example = "20") int size) {
+        return notificationService.getUserNotificationsByCursor(authInfo.getUserId(), cursor, size);
+    }
+
+    @GetMapping("/unread-count")
+    @Operation(summary = "Get unread notification count",
+            description = "Get the number of sign-in user's unread notifications", operationId = "5_getUnreadCount")
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "Response with unread notification count",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = UnreadCountResponse.class))))
+    public UnreadCountResponse getUnreadCount(@Authentication AuthInfo authInfo) {
+        return notificationService.getUnreadCount(authInfo.getUserId());
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream user notifications",
+            description = "Open a Server-Sent Events stream of sign-in user's new notifications. A 'connected' event "
+                    + "is sent first, then a 'notification' event with the notification info for each new "
+                    + "notification. An unread notification updated with a newer message about the same resource is "
+                    + "sent again with the same ID. Browsers cannot set the Authorization header on an EventSource, "
+                    + "so without it the stream is authenticated with the refresh token cookie, which is sent when "
+                    + "the EventSource is created with 'withCredentials: true'. The refresh token is not rotated.",
+            operationId = "4_streamUserNotifications")
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "Event stream of new notifications",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = NotificationInfo.class))))
+    @ApiErrorCodeResponses({ @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.SIGN_IN_REQUIRED),
+            @ApiErrorCodeResponse(responseCode = "401", errorCode = ErrorCode.EXPIRED_REFRESH_TOKEN) })
+    public SseEmitter streamUserNotifications(@Authentication(required = false) AuthInfo authInfo,
+            @CookieValue(value = "refresh", required = false) String refreshToken) {
+        if (!authInfo.isGuest()) {
+            return notificationStreamService.subscribe(authInfo.getUserId());
+        }
+        if (refreshToken == null) {
+            if (authInfo.isExpired()) {
+                throw new AccessTokenException(ErrorCode.EXPIRED_ACCESS_TOKEN);
+            }
+            throw new AuthenticationException(ErrorCode.SIGN_IN_REQUIRED);
+        }
+        return notificationStreamService.subscribe(signInService.authenticateRefreshToken(refreshToken));
     }
 
     @PostMapping("/{notificationId}/read")
@@ -0,0 +1,58 @@
+package reserve.notification.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers queued reservation notifications in the background. Each batch is a transaction of its own; if one fails,
+ * its entries stay in the outbox and are delivered by a later run.
+ */
+@Component
+@ConditionalOnProperty(name = "application.notification.dispatcher.enabled", havingValue = "true",
+        matchIfMissing = true)
+public class NotificationDispatcher {
+
+    private final NotificationService notificationService;
+
+    private final Clock clock;
+
+    private final int batchSize;
+
+    private final long coalesceWindow;
+
+    public NotificationDispatcher(NotificationService notificationService, Clock clock,
+            @Value("${application.notification.dispatcher.batchSize:500}") int batchSize,
+            @Value("${application.notification.dispatcher.coalesceWindow:60}") long coalesceWindow) {
+        this.notificationService = notificationService;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.coalesceWindow = coalesceWindow;
+    }
+
+    /**
+     * Drains the outbox until a batch comes back short of {@link #batchSize}.
+     */
+    @Scheduled(fixedDelayString = "${application.notification.dispatcher.delay:1000}")
+    public void dispatch() {
+        int dispatched = batchSize;
+        while (dispatched == batchSize) {
+            dispatched = notificationService.dispatch(batchSize, coalesceSince());
+        }
+    }
+
+    /**
+     * Creation times are written by JPA auditing in the system time zone, so the window is computed in that zone too.
+     */
+    private LocalDateTime coalesceSince() {
+        if (coalesceWindow <= 0) {
+            return null;
+        }
+        return LocalDateTime.now(clock.withZone(ZoneId.systemDefault())).minusSeconds(coalesceWindow);
+    }
+
+}
@@ -0,0 +1,43 @@
+package reserve.notification.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically deletes notifications older than the retention period. Deletes run in small batches, so inserts of
+ * new notifications do not wait long for row locks.
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private final NotificationService notificationService;
+
+    private final Clock clock;
+
+    private final int retentionDays;
+
+    private final int batchSize;
+
+    public NotificationRetentionJob(NotificationService notificationService, Clock clock,
+            @Value("${application.notification.retention.days:90}") int retentionDays,
+            @Value("${application.notification.retention.batchSize:1000}") int batchSize) {
+        this.notificationService = notificationService;
+        this.clock = clock;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${application.notification.retention.cron:0 30 3 * * *}")
+    public void purge() {
+        Instant before = clock.instant().minus(Duration.ofDays(retentionDays));
+        long deleted = notificationService.purgeNotificationsBefore(before, batchSize);
+        log.info("Deleted {} notifications created before {}", deleted, before);
+    }
+
+}
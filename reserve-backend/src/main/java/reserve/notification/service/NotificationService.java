@@ -1,17 +1,48 @@
 package reserve.notification.service;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import reserve.global.exception.ErrorCode;
-import reserve.global.exception.ResourceNotFoundException;
+import org.springframework.util.StringUtils;
+import reserve.global.id.TsidFactory;
+import reserve.global.pagination.CountCache;
+import reserve.global.pagination.CountMode;
+import reserve.global.pagination.Slices;
 import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationOutbox;
+import reserve.notification.domain.NotificationReadEvent;
+import reserve.notification.domain.NotificationStatus;
+import reserve.notification.domain.NotificationTemplate;
+import reserve.notification.domain.NotificationsDispatchedEvent;
 import reserve.notification.domain.ResourceType;
+import reserve.notification.dto.NotificationCursor;
+import reserve.notification.dto.UnreadCount;
 import reserve.notification.dto.response.NotificationInfo;
+import reserve.notification.dto.response.NotificationInfoCursorResponse;
 import reserve.notification.dto.response.NotificationInfoListResponse;
+import reserve.notification.dto.response.UnreadCountResponse;
+import reserve.notification.infrastructure.NotificationOutboxRepository;
 import reserve.notification.infrastructure.NotificationRepository;
+import reserve.notification.infrastructure.UnreadNotificationCounter;
 import reserve.reservation.dto.ReservationForNotifyDto;
 import reserve.reservation.infrastructure.ReservationQueryRepository;
 import reserve.reservation.infrastructure.ReservationRepository;
@@ -21,47 +52,317 @@ import reserve.user.infrastructure.UserRepository;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private static final int READ_ALL_CHUNK_SIZE = 1000;
+
     private final NotificationRepository notificationRepository;
 
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
     private final UserRepository userRepository;
 
     private final ReservationRepository reservationRepository;
 
     private final ReservationQueryRepository reservationQueryRepository;
 
+    private final CountCache countCache;
+
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    private final MessageSource messageSource;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Queues notifications for the user and the registrant of a reservation. The entry is written in the caller's
+     * transaction, so it is stored if and only if the reservation change commits, and {@link NotificationDispatcher}
+     * delivers it afterward.
+     */
     @Transactional
-    public void notifyReservation(Long reservationId, String message, String registrantMessage) {
-        ReservationForNotifyDto reservationForNotifyDto = reservationQueryRepository.findForNotifyById(reservationId)
-            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND));
-        notificationRepository
-            .save(new Notification(userRepository.getReferenceById(reservationForNotifyDto.getUserId()),
-                    ResourceType.RESERVATION, reservationId, message));
-        notificationRepository
-            .save(new Notification(userRepository.getReferenceById(reservationForNotifyDto.getRegistrantId()),
-                    ResourceType.RESERVATION, reservationId, registrantMessage));
+    public void notifyReservation(Long reservationId, NotificationTemplate template,
+            NotificationTemplate registrantTemplate, String... args) {
+        notificationOutboxRepository
+            .save(new NotificationOutbox(reservationId, template, registrantTemplate, List.of(args)));
     }
 
     @Transactional
-    public void notifyReservation(Long reservationId, String message) {
-        notifyReservation(reservationId, message, message);
+    public void notifyReservation(Long reservationId, NotificationTemplate template) {
+        notifyReservation(reservationId, template, template);
+    }
+
+    @Transactional
+    public void notifyReservations(List<Long> reservationIds, NotificationTemplate template,
+            NotificationTemplate registrantTemplate) {
+        notificationOutboxRepository.saveAll(reservationIds.stream()
+            .map(reservationId -> new NotificationOutbox(reservationId, template, registrantTemplate, List.of()))
+            .toList());
+    }
+
+    @Transactional
+    public int dispatch(int batchSize) {
+        return dispatch(batchSize, null);
+    }
+
+    /**
+     * Turns up to {@code batchSize} queued entries into notifications and removes them from the outbox. The users and
+     * registrants of the whole batch are looked up with one query, and the notifications are inserted in JDBC batches.
+     * Entries of reservations that no longer exist are dropped. The notifications of the batch are published in one
+     * event, so that they are counted and pushed to the streams of their users together after commit.
+     * <p>
+     * Bursts of changes to a reservation are coalesced: of the entries of a reservation queued since
+     * {@code coalesceSince}, only the latest is delivered, and a user's unread notification about the reservation
+     * received since then is updated with the new message instead of storing another one. Coalesced notifications keep
+     * their ID and position in the feed and are pushed again. Entries queued before the window, such as a backlog
+     * left by an outage, are each delivered as a new notification.
+     * </p>
+     * @param coalesceSince start of the coalescing window, or {@code null} to deliver every entry as a new notification
+     * @return the number of outbox entries processed
+     */
+    @Transactional
+    public int dispatch(int batchSize, LocalDateTime coalesceSince) {
+        List<NotificationOutbox> entries = notificationOutboxRepository.findAllForDispatch(batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Map<Long, NotificationOutbox> latestEntries = new HashMap<>();
+        for (NotificationOutbox entry : entries) {
+            if (isCoalesced(entry, coalesceSince)) {
+                latestEntries.put(entry.getReservationId(), entry);
+            }
+        }
+        Map<Long, ReservationForNotifyDto> targets = reservationQueryRepository
+            .findForNotifyByIds(entries.stream().map(NotificationOutbox::getReservationId).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(ReservationForNotifyDto::getReservationId, Function.identity()));
+        Map<CoalesceKey, Notification> unread = findUnreadForCoalescing(latestEntries.keySet().stream()
+            .map(targets::get)
+            .filter(Objects::nonNull)
+            .toList(), coalesceSince);
+        List<Notification> notifications = new ArrayList<>();
+        for (NotificationOutbox entry : entries) {
+            ReservationForNotifyDto target = targets.get(entry.getReservationId());
+            if (target == null) {
+                continue;
+            }
+            if (!isCoalesced(entry, coalesceSince)) {
+                notifications.add(newNotification(target.getUserId(), entry.getReservationId(),
+                        entry.getTemplate(), entry.getArgs()));
+                notifications.add(newNotification(target.getRegistrantId(), entry.getReservationId(),
+                        entry.getRegistrantTemplate(), entry.getArgs()));
+            }
+            else if (latestEntries.get(entry.getReservationId()) == entry) {
+                notifications.add(deliver(unread, target.getUserId(), entry.getReservationId(), entry.getTemplate(),
+                        entry.getArgs()));
+                notifications.add(deliver(unread, target.getRegistrantId(), entry.getReservationId(),
+                        entry.getRegistrantTemplate(), entry.getArgs()));
+            }
+        }
+        // Only new notifications are without an ID before they are saved
+        Map<Boolean, List<Notification>> byNew = notifications.stream()
+            .collect(Collectors.partitioningBy(notification -> notification.getId() == null));
+        List<Notification> created = byNew.get(true);
+        List<Notification> coalesced = byNew.get(false);
+        notificationRepository.saveAll(created);
+        if (!notifications.isEmpty()) {
+            eventPublisher.publishEvent(new NotificationsDispatchedEvent(created, coalesced));
+        }
+        notificationOutboxRepository
+            .deleteAllByIdInBatch(entries.stream().map(NotificationOutbox::getId).toList());
+        return entries.size();
+    }
+
+    private static boolean isCoalesced(NotificationOutbox entry, LocalDateTime coalesceSince) {
+        return coalesceSince != null && !entry.getCreatedAt().isBefore(coalesceSince);
+    }
+
+    /**
+     * Locks the unread notifications the targets received since {@code since}, keeping the latest one of each user and
+     * reservation.
+     */
+    private Map<CoalesceKey, Notification> findUnreadForCoalescing(Collection<ReservationForNotifyDto> targets,
+            LocalDateTime since) {
+        if (since == null || targets.isEmpty()) {
+            return new HashMap<>();
+        }
+        Set<CoalesceKey> keys = new HashSet<>();
+        for (ReservationForNotifyDto target : targets) {
+            keys.add(new CoalesceKey(target.getUserId(), target.getReservationId()));
+            keys.add(new CoalesceKey(target.getRegistrantId(), target.getReservationId()));
+        }
+        Set<Long> userIds = keys.stream().map(CoalesceKey::userId).collect(Collectors.toSet());
+        Set<Long> reservationIds = keys.stream().map(CoalesceKey::resourceId).collect(Collectors.toSet());
+        Map<CoalesceKey, Notification> unread = new HashMap<>();
+        for (Notification notification : notificationRepository.findAllUnreadForCoalescing(userIds,
+                ResourceType.RESERVATION, reservationIds, since)) {
+            CoalesceKey key = new CoalesceKey(notification.getUser().getId(), notification.getResourceId());
+            if (keys.contains(key)) {
+                unread.merge(key, notification, (a, b) -> a.getId() > b.getId() ? a : b);
+            }
+        }
+        return unread;
+    }
+
+    /**
+     * Merges the message into the user's unread notification about the reservation, if there is one, or makes a new
+     * notification. Each unread notification takes at most one message, so a user who is also the registrant still
+     * gets both.
+     */
+    private Notification deliver(Map<CoalesceKey, Notification> unread, Long userId, Long reservationId,
+            NotificationTemplate template, List<String> args) {
+        Notification notification = unread.remove(new CoalesceKey(userId, reservationId));
+        if (notification == null) {
+            return newNotification(userId, reservationId, template, args);
+        }
+        notification.coalesce(template, args);
+        return notification;
+    }
+
+    private Notification newNotification(Long userId, Long reservationId, NotificationTemplate template,
+            List<String> args) {
+        return new Notification(userRepository.getReferenceById(userId), ResourceType.RESERVATION, reservationId,
+                template, args);
+    }
+
+    @Transactional(readOnly = true)
+    public NotificationInfoListResponse getUserNotifications(Long userId, Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            Page<Notification> notificationPage = notificationRepository.findAllByUserIdOrderByCreatedAtDesc(userId,
+                    pageable);
+            Page<NotificationInfo> dtoPage = notificationPage.map(this::toInfo);
+            return NotificationInfoListResponse.from(dtoPage);
+        }
+        Slice<NotificationInfo> dtoSlice = notificationRepository
+            .findSliceByUserIdOrderByCreatedAtDesc(userId, pageable)
+            .map(this::toInfo);
+        long count = -1;
+        if (countMode == CountMode.CACHED) {
+            count = countCache.get(CountCache.key("notifications", userId), dtoSlice,
+                    () -> notificationRepository.countByUserId(userId));
+        }
+        return NotificationInfoListResponse.from(dtoSlice, count);
     }
 
+    /**
+     * Returns a page of the notification feed of a user, newest first. Pages are located by keyset on
+     * {@code (createdAt, notificationId)} and the total is never counted, so the cost does not grow with the history of
+     * the user.
+     * @param cursor continuation token of the previous page, or an empty string for the first page
+     */
     @Transactional(readOnly = true)
-    public NotificationInfoListResponse getUserNotifications(Long userId, Pageable pageable) {
-        Page<Notification> notificationPage = notificationRepository.findAllByUserIdOrderByCreatedAtDesc(userId,
-                pageable);
-        Page<NotificationInfo> dtoPage = notificationPage.map(NotificationInfo::from);
-        return NotificationInfoListResponse.from(dtoPage);
+    public NotificationInfoCursorResponse getUserNotificationsByCursor(Long userId, String cursor, int size) {
+        NotificationCursor after = StringUtils.hasText(cursor) ? NotificationCursor.decode(cursor) : null;
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Notification> notifications = after == null ? notificationRepository.findFeedByUserId(userId, limit)
+                : notificationRepository.findFeedByUserIdAfter(userId, after.createdAt(), after.notificationId(),
+                        limit);
+        List<NotificationInfo> infos = notifications.stream().map(this::toInfo).toList();
+        return NotificationInfoCursorResponse.from(Slices.of(infos, Pageable.ofSize(pageSize)));
+    }
+
+    /**
+     * Returns the number of unread notifications of a user. It is served from {@link UnreadNotificationCounter}, so
+     * this method deliberately runs without a transaction. A missing counter is rebuilt from the database with one
+     * count on the {@code (user_id, status)} index.
+     */
+    public UnreadCountResponse getUnreadCount(Long userId) {
+        Long count = unreadNotificationCounter.get(userId);
+        if (count == null) {
+            count = notificationRepository.countByUserIdAndStatus(userId, NotificationStatus.UNREAD);
+            unreadNotificationCounter.setIfAbsent(userId, count);
+        }
+        return new UnreadCountResponse(count);
     }
 
     @Transactional
     public void readNotification(Long userId, Long notificationId) {
-        notificationRepository.setReadByUserIdAndId(userId, notificationId);
+        int read = notificationRepository.setReadByUserIdAndId(userId, notificationId);
+        if (read > 0) {
+            eventPublisher.publishEvent(new NotificationReadEvent(userId, read));
+        }
     }
 
-    @Transactional
+    /**
+     * Marks the unread notifications of a user as read in chunks of {@value #READ_ALL_CHUNK_SIZE}. Each chunk commits
+     * on its own, so row locks are held briefly and never on notifications that were already read. This method
+     * deliberately runs without a transaction; if it fails halfway, the chunks already done stay read.
+     */
     public void readAllNotifications(Long userId) {
-        notificationRepository.setReadAllByUserId(userId);
+        int read;
+        do {
+            read = notificationRepository.setReadAllByUserId(userId, READ_ALL_CHUNK_SIZE);
+            if (read > 0) {
+                eventPublisher.publishEvent(new NotificationReadEvent(userId, read));
+            }
+        } while (read == READ_ALL_CHUNK_SIZE);
+    }
+
+    /**
+     * Deletes notifications created before the given time, {@code batchSize} at a time, each batch in a transaction
+     * of its own. Each batch only scans IDs generated before that time. The unread counters of the users whose unread
+     * notifications are in a batch are counted again after it is deleted.
+     * @return the number of deleted notifications
+     */
+    public long purgeNotificationsBefore(Instant before, int batchSize) {
+        long maxId = TsidFactory.minIdAt(before);
+        LocalDateTime createdBefore = LocalDateTime.ofInstant(before, ZoneId.systemDefault());
+        long total = 0;
+        int deleted;
+        do {
+            List<Long> unreadUserIds = notificationRepository.findUnreadUserIdsByIdLessThanAndCreatedAtBefore(maxId,
+                    createdBefore, batchSize);
+            deleted = notificationRepository.deleteAllByIdLessThanAndCreatedAtBefore(maxId, createdBefore, batchSize);
+            if (!unreadUserIds.isEmpty()) {
+                recountUnread(unreadUserIds);
+            }
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+
+    /**
+     * Overwrites the unread counters with the counts in the database, {@code batchSize} users at a time. First every
+     * user with unread notifications is visited in user ID order, then every remaining counter, which covers users
+     * whose notifications were all read.
+     * <p>
+     * Each batch is read in a short query of its own instead of one long transaction. A notification created or read
+     * between the read and the write of its batch is lost from the counter until the next run.
+     * </p>
+     */
+    public void reconcileUnreadCounts(int batchSize) {
+        Long lastUserId = 0L;
+        List<UnreadCount> counts;
+        do {
+            counts = notificationRepository.findUnreadCountsByUserIdGreaterThan(lastUserId,
+                    PageRequest.of(0, batchSize));
+            unreadNotificationCounter.setAll(counts);
+            if (!counts.isEmpty()) {
+                lastUserId = counts.get(counts.size() - 1).userId();
+            }
+        } while (counts.size() == batchSize);
+
+        unreadNotificationCounter.scanUserIds(batchSize, this::recountUnread);
+    }
+
+    /**
+     * Overwrites the unread counters of the given users with the counts in the database.
+     */
+    private void recountUnread(Collection<Long> userIds) {
+        Map<Long, Long> found = notificationRepository.findUnreadCountsByUserIdIn(userIds)
+            .stream()
+            .collect(Collectors.toMap(UnreadCount::userId, UnreadCount::count));
+        unreadNotificationCounter.setAll(userIds.stream()
+            .map(userId -> new UnreadCount(userId, found.getOrDefault(userId, 0L)))
+            .toList());
+    }
+
+    private NotificationInfo toInfo(Notification notification) {
+        return NotificationInfo.from(notification, messageSource);
+    }
+
+    private record CoalesceKey(Long userId, Long resourceId) {
+
     }
 
 }
@@ -0,0 +1,165 @@
+package reserve.notification.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Keeps the Server-Sent Events connections of the users signed in to this instance.
+ * <p>
+ * Connections are asynchronous requests, so an idle subscriber holds no servlet thread, only its emitter and socket.
+ * A heartbeat comment is sent periodically so that proxies keep the connections open and dead ones are detected.
+ * </p>
+ * <p>
+ * Events are only queued on the connection by the caller, which may be the scheduler or the Redis listener, and are
+ * written by a few dedicated threads. Each connection is written by one thread at a time, in order, so a slow client
+ * only delays its own events. A connection that falls {@code maxPendingEvents} behind is closed, and its client
+ * reconnects and catches up with the notification list.
+ * </p>
+ */
+@Service
+public class NotificationStreamService {
+
+    public static final String NOTIFICATION_EVENT = "notification";
+
+    private static final String CONNECTED_EVENT = "connected";
+
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor executor;
+
+    private final long timeoutMillis;
+
+    private final int maxPendingEvents;
+
+    public NotificationStreamService(@Value("${application.notification.stream.timeout:1800}") long timeout,
+            @Value("${application.notification.stream.threads:4}") int threads,
+            @Value("${application.notification.stream.maxPendingEvents:100}") int maxPendingEvents) {
+        if (threads <= 0 || maxPendingEvents <= 0) {
+            throw new IllegalArgumentException("Threads and max pending events must be positive.");
+        }
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeout);
+        this.maxPendingEvents = maxPendingEvents;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-stream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        Connection connection = new Connection(userId, new SseEmitter(timeoutMillis));
+        // Added in compute, so a concurrent removal of the last connection cannot drop the set it is added to.
+        connections.compute(userId, (key, userConnections) -> {
+            Set<Connection> result = userConnections == null ? ConcurrentHashMap.newKeySet() : userConnections;
+            result.add(connection);
+            return result;
+        });
+        connection.emitter.onCompletion(() -> remove(connection));
+        connection.emitter.onTimeout(() -> remove(connection));
+        connection.emitter.onError(e -> remove(connection));
+        // The first event commits the response, so clients know they are connected before any notification.
+        connection.enqueue(SseEmitter.event().name(CONNECTED_EVENT).data(""));
+        return connection.emitter;
+    }
+
+    /**
+     * Queues an event on every connection of the user on this instance. Users without a connection are ignored.
+     * @param data JSON representation of the event
+     */
+    public void send(Long userId, String eventName, String eventId, String data) {
+        Set<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        for (Connection connection : userConnections) {
+            connection.enqueue(SseEmitter.event().id(eventId).name(eventName).data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    public int getSubscriberCount() {
+        return connections.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Scheduled(fixedRateString = "${application.notification.stream.heartbeat:30}", timeUnit = TimeUnit.SECONDS)
+    public void sendHeartbeat() {
+        connections.values()
+            .forEach(userConnections -> userConnections
+                .forEach(connection -> connection.enqueue(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    private void remove(Connection connection) {
+        connection.closed = true;
+        connections.computeIfPresent(connection.userId, (key, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    /**
+     * An emitter with the events waiting to be written to it. Whoever queues the first pending event submits the
+     * connection, which then writes until no event is pending.
+     */
+    private final class Connection implements Runnable {
+
+        private final Long userId;
+
+        private final SseEmitter emitter;
+
+        private final Queue<SseEmitter.SseEventBuilder> events = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private volatile boolean closed;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            events.add(event);
+            int count = pending.incrementAndGet();
+            if (count == 1) {
+                executor.execute(this);
+            }
+            else if (count > maxPendingEvents) {
+                remove(this);
+                emitter.complete();
+            }
+        }
+
+        @Override
+        public void run() {
+            do {
+                SseEmitter.SseEventBuilder event = events.poll();
+                if (event != null && !closed) {
+                    try {
+                        emitter.send(event);
+                    }
+                    catch (IOException | IllegalStateException e) {
+                        // The connection is gone; the container completes the emitter, so only forget it here.
+                        remove(this);
+                    }
+                }
+            }
+            while (pending.decrementAndGet() > 0);
+        }
+
+    }
+
+}
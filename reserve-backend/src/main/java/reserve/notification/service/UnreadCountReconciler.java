@@ -0,0 +1,28 @@
+package reserve.notification.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically repairs the unread notification counters from the database, in case an update was lost.
+ */
+@Component
+public class UnreadCountReconciler {
+
+    private final NotificationService notificationService;
+
+    private final int batchSize;
+
+    public UnreadCountReconciler(NotificationService notificationService,
+            @Value("${application.notification.unreadCount.batchSize:1000}") int batchSize) {
+        this.notificationService = notificationService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${application.notification.unreadCount.reconcileCron:0 0 4 * * *}")
+    public void reconcile() {
+        notificationService.reconcileUnreadCounts(batchSize);
+    }
+
+}
@@ -9,6 +9,7 @@ import lombok.Setter;
 import reserve.global.entity.BaseEntity;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.ReservationStatusException;
+import reserve.global.id.Tsid;
 import reserve.store.domain.Store;
 import reserve.user.domain.User;
 
@@ -19,7 +20,7 @@ import reserve.user.domain.User;
 public class Reservation extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     @Column(name = "reservation_id")
     private Long id;
 
@@ -50,11 +51,23 @@ public class Reservation extends BaseEntity {
         this.hour = hour;
     }
 
-    public void cancel() {
-        if (!status.equals(ReservationStatusType.READY) && !status.equals(ReservationStatusType.CANCELLED)) {
+    /**
+     * @return {@code true} if the reservation has been cancelled by this call, {@code false} if it was already
+     * cancelled.
+     */
+    public boolean cancel() {
+        if (status.equals(ReservationStatusType.CANCELLED)) {
+            return false;
+        }
+        if (!status.equals(ReservationStatusType.READY)) {
             throw new ReservationStatusException(ErrorCode.RESERVATION_CANNOT_CANCEL);
         }
         status = ReservationStatusType.CANCELLED;
+        return true;
+    }
+
+    public boolean isCancelled() {
+        return status.equals(ReservationStatusType.CANCELLED);
     }
 
     public void start() {
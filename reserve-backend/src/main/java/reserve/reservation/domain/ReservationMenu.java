@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import reserve.global.entity.BaseEntity;
+import reserve.global.id.Tsid;
 
 @Entity
 @Table(name = "reservation_menus")
@@ -13,7 +14,7 @@ import reserve.global.entity.BaseEntity;
 public class ReservationMenu extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     @Column(name = "reservation_menu_id")
     private Long id;
 
@@ -0,0 +1,35 @@
+package reserve.reservation.dto;
+
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reserve.menu.domain.Menu;
+import reserve.slot.domain.Slot;
+
+/**
+ * Everything needed to validate a reservation creation, loaded by a single query.
+ */
+@RequiredArgsConstructor
+@Getter
+public class ReservationCreateContext {
+
+    /**
+     * ID of the user who registered the store, or {@code null} if the store does not exist.
+     */
+    private final Long registrantId;
+
+    /**
+     * Requested menus that exist and belong to the store, by ID.
+     */
+    private final Map<Long, Menu> menus;
+
+    /**
+     * Slot of the requested hour, or {@code null} if it does not exist yet.
+     */
+    private final Slot slot;
+
+    public boolean isStoreFound() {
+        return registrantId != null;
+    }
+
+}
@@ -0,0 +1,25 @@
+package reserve.reservation.dto;
+
+import java.time.LocalDate;
+import reserve.global.pagination.CursorCodec;
+import reserve.reservation.dto.response.ReservationInfoResponse;
+
+/**
+ * Position in the reservation search ordered by {@code (date, hour, reservationId)} descending.
+ */
+public record ReservationCursor(LocalDate date, int hour, Long reservationId) {
+
+    public static ReservationCursor after(ReservationInfoResponse last) {
+        return new ReservationCursor(last.getDate(), last.getHour(), last.getReservationId());
+    }
+
+    public static ReservationCursor decode(String cursor) {
+        return CursorCodec.decode(cursor, 3, values -> new ReservationCursor(LocalDate.parse(values[0]),
+                Integer.parseInt(values[1]), Long.parseLong(values[2])));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(date, hour, reservationId);
+    }
+
+}
@@ -0,0 +1,22 @@
+package reserve.reservation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class ReservationBatchCreateRequest {
+
+    @Schema(description = "Reservations to create", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "Reservations required.")
+    @Size(max = 500, message = "Reservations are available up to 500 items.")
+    private List<@Valid ReservationCreateRequest> reservations = List.of();
+
+}
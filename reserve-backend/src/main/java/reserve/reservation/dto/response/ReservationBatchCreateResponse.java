@@ -0,0 +1,33 @@
+package reserve.reservation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class ReservationBatchCreateResponse {
+
+    @Schema(description = "Number of created reservations", example = "1")
+    private final int created;
+
+    @Schema(description = "Number of failed reservations", example = "0")
+    private final int failed;
+
+    @Schema(description = "Result of each item, in request order")
+    private final List<ReservationBatchItemResponse> results;
+
+    @JsonIgnore
+    public List<Long> getReservationIds() {
+        return results.stream().map(ReservationBatchItemResponse::getReservationId).filter(Objects::nonNull).toList();
+    }
+
+    public static ReservationBatchCreateResponse from(List<ReservationBatchItemResponse> results) {
+        int created = (int) results.stream().filter(result -> result.getError() == null).count();
+        return new ReservationBatchCreateResponse(created, results.size() - created, results);
+    }
+
+}
@@ -0,0 +1,31 @@
+package reserve.reservation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reserve.global.exception.ErrorCode;
+
+@RequiredArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReservationBatchItemResponse {
+
+    @Schema(description = "Index of the item in the request", example = "0")
+    private final int index;
+
+    @Schema(description = "ID of the created reservation, absent if failed", example = "1")
+    private final Long reservationId;
+
+    @Schema(description = "Reason of the failure, absent if created")
+    private final ErrorCode error;
+
+    public static ReservationBatchItemResponse created(int index, Long reservationId) {
+        return new ReservationBatchItemResponse(index, reservationId, null);
+    }
+
+    public static ReservationBatchItemResponse failed(int index, ErrorCode error) {
+        return new ReservationBatchItemResponse(index, null, error);
+    }
+
+}
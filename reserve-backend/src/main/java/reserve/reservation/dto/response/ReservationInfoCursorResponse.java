@@ -0,0 +1,43 @@
+package reserve.reservation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import reserve.reservation.dto.ReservationCursor;
+
+@RequiredArgsConstructor
+@Getter
+@JsonPropertyOrder({ "pageSize", "hasNext", "nextCursor", "results" })
+public class ReservationInfoCursorResponse {
+
+    @Schema(description = "Page size", example = "20")
+    private final int pageSize;
+
+    @Getter(AccessLevel.PRIVATE)
+    private final boolean hasNext;
+
+    @Schema(description = "Cursor of the next page, or null if there is no next page.",
+            example = "MjAyNS0wMS0wMToxMjox")
+    private final String nextCursor;
+
+    @Schema(description = "List of reservation info")
+    private final List<ReservationInfoResponse> results;
+
+    @Schema(description = "Whether there is a next page", example = "false")
+    @JsonProperty("hasNext")
+    public boolean hasNext() {
+        return this.hasNext;
+    }
+
+    public static ReservationInfoCursorResponse from(Slice<ReservationInfoResponse> slice) {
+        List<ReservationInfoResponse> content = slice.getContent();
+        String nextCursor = slice.hasNext() ? ReservationCursor.after(content.get(content.size() - 1)).encode() : null;
+        return new ReservationInfoCursorResponse(slice.getSize(), slice.hasNext(), nextCursor, content);
+    }
+
+}
@@ -1,8 +1,13 @@
 package reserve.reservation.infrastructure;
 
+import static reserve.menu.domain.QMenu.menu;
 import static reserve.reservation.domain.QReservation.*;
+import static reserve.slot.domain.QSlot.slot;
+import static reserve.store.domain.QStore.store;
+import static reserve.user.domain.QUser.user;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -10,16 +15,24 @@ import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.ResourceNotFoundException;
+import reserve.global.pagination.Slices;
+import reserve.menu.domain.Menu;
+import reserve.reservation.dto.ReservationCreateContext;
+import reserve.reservation.dto.ReservationCursor;
 import reserve.reservation.dto.ReservationForNotifyDto;
 import reserve.reservation.dto.request.ReservationSearchRequest;
 import reserve.reservation.dto.response.ReservationInfoResponse;
@@ -59,6 +72,39 @@ public class ReservationQueryRepository {
         return result;
     }
 
+    /**
+     * Checks the user, the store, and the menus of a reservation to create, and reads the slot of its hour, in one
+     * statement. The user is the root so that a missing store or menu still yields a row; the store, the slot, and the
+     * menus are outer joined to it.
+     * @return empty if the user does not exist
+     */
+    public Optional<ReservationCreateContext> findCreateContext(Long userId, Long storeId, LocalDate date, int hour,
+            Collection<Long> menuIds) {
+        List<Tuple> rows = queryFactory.select(store.user.id, slot, menu)
+            .from(user)
+            .leftJoin(store)
+            .on(store.id.eq(storeId))
+            .leftJoin(slot)
+            .on(slot.store.id.eq(store.id), slot.date.eq(date), slot.hour.eq(hour))
+            .leftJoin(menu)
+            .on(menu.store.id.eq(store.id), menuIds.isEmpty() ? Expressions.FALSE.isTrue() : menu.id.in(menuIds))
+            .where(user.id.eq(userId))
+            .fetch();
+
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<Long, Menu> menus = new HashMap<>();
+        for (Tuple row : rows) {
+            Menu found = row.get(menu);
+            if (found != null) {
+                menus.put(found.getId(), found);
+            }
+        }
+        Tuple first = rows.get(0);
+        return Optional.of(new ReservationCreateContext(first.get(store.user.id), menus, first.get(slot)));
+    }
+
     public Optional<ReservationForNotifyDto> findForNotifyById(Long reservationId) {
         ReservationForNotifyDto result = queryFactory
             .select(Projections.constructor(ReservationForNotifyDto.class, reservation.id, reservation.user.id,
@@ -70,12 +116,18 @@ public class ReservationQueryRepository {
         return Optional.ofNullable(result);
     }
 
+    public List<ReservationForNotifyDto> findForNotifyByIds(Collection<Long> reservationIds) {
+        return queryFactory
+            .select(Projections.constructor(ReservationForNotifyDto.class, reservation.id, reservation.user.id,
+                    reservation.store.user.id))
+            .from(reservation)
+            .where(reservation.id.in(reservationIds))
+            .fetch();
+    }
+
     public Page<ReservationInfoResponse> findResponsesBySearch(Long userId,
             ReservationSearchRequest reservationSearchRequest, Pageable pageable) {
-        BooleanBuilder condition = new BooleanBuilder();
-        condition.and(registrantOrCustomerCondition(reservationSearchRequest.getType(), userId));
-        condition.and(storeQueryCondition(reservationSearchRequest.getQuery()));
-        condition.and(dateCondition(reservationSearchRequest.getDate()));
+        BooleanBuilder condition = searchCondition(userId, reservationSearchRequest);
 
         List<ReservationInfoResponse> result = queryFactory.select(getReservationInfoResponseProjection())
             .from(reservation)
@@ -89,6 +141,65 @@ public class ReservationQueryRepository {
         return new PageImpl<>(result, pageable, count);
     }
 
+    /**
+     * Same as {@link #findResponsesBySearch} without the count query. One extra row is fetched to find out whether
+     * there is a next page.
+     */
+    public Slice<ReservationInfoResponse> findSliceBySearch(Long userId,
+            ReservationSearchRequest reservationSearchRequest, Pageable pageable) {
+        List<ReservationInfoResponse> result = queryFactory.select(getReservationInfoResponseProjection())
+            .from(reservation)
+            .where(searchCondition(userId, reservationSearchRequest))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize() + 1L)
+            .fetch();
+
+        return Slices.of(result, pageable);
+    }
+
+    public long countBySearch(Long userId, ReservationSearchRequest reservationSearchRequest) {
+        Long count = queryFactory.select(reservation.count())
+            .from(reservation)
+            .where(searchCondition(userId, reservationSearchRequest))
+            .fetchOne();
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Keyset pagination of the search ordered by {@code (date, hour, id)} descending. One extra row is fetched to find
+     * out whether there is a next page instead of counting.
+     * <p>
+     * In {@code CUSTOMER} mode, rows after the cursor are sought through the {@code (user_id, date, hour)} index, so
+     * the cost of a page does not depend on its depth. In {@code REGISTRANT} mode the filter is on the owner of the
+     * store, and the {@code (store_id, date, hour)} index is ordered within one store only. A registrant of a single
+     * store still gets the same seek, but one with several stores pays for a join and a sort over the reservations of
+     * all their stores on every page, which grows with their number of reservations rather than with page depth.
+     * </p>
+     * @param cursor position of the last row of the previous page, or {@code null} for the first page
+     */
+    public Slice<ReservationInfoResponse> findResponsesBySearchAfter(Long userId,
+            ReservationSearchRequest reservationSearchRequest, ReservationCursor cursor, int size) {
+        BooleanBuilder condition = searchCondition(userId, reservationSearchRequest);
+        condition.and(cursorCondition(cursor));
+
+        List<ReservationInfoResponse> result = queryFactory.select(getReservationInfoResponseProjection())
+            .from(reservation)
+            .where(condition)
+            .orderBy(reservation.date.desc(), reservation.hour.desc(), reservation.id.desc())
+            .limit(size + 1L)
+            .fetch();
+
+        return Slices.of(result, Pageable.ofSize(size));
+    }
+
+    private BooleanBuilder searchCondition(Long userId, ReservationSearchRequest reservationSearchRequest) {
+        BooleanBuilder condition = new BooleanBuilder();
+        condition.and(registrantOrCustomerCondition(reservationSearchRequest.getType(), userId));
+        condition.and(storeQueryCondition(reservationSearchRequest.getQuery()));
+        condition.and(dateCondition(reservationSearchRequest.getDate()));
+        return condition;
+    }
+
     private static ConstructorExpression<ReservationInfoResponse> getReservationInfoResponseProjection() {
         return Projections.constructor(ReservationInfoResponse.class, reservation.id, reservation.store.id,
                 reservation.store.user.username, reservation.user.username, reservation.date, reservation.hour);
@@ -114,6 +225,20 @@ public class ReservationQueryRepository {
         return null;
     }
 
+    /**
+     * Expansion of {@code (date, hour, id) < (cursor.date, cursor.hour, cursor.id)}. The leading
+     * {@code date <= cursor.date} gives the optimizer a range on the index.
+     */
+    private static BooleanExpression cursorCondition(ReservationCursor cursor) {
+        if (cursor != null) {
+            return reservation.date.loe(cursor.date())
+                .and(reservation.date.lt(cursor.date())
+                    .or(reservation.hour.lt(cursor.hour()))
+                    .or(reservation.hour.eq(cursor.hour()).and(reservation.id.lt(cursor.reservationId()))));
+        }
+        return null;
+    }
+
     private static BooleanExpression dateCondition(LocalDate date) {
         if (date != null) {
             return reservation.date.eq(date);
@@ -1,10 +1,12 @@
 package reserve.reservation.infrastructure;
 
+import java.time.LocalDate;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import reserve.reservation.domain.Reservation;
+import reserve.reservation.domain.ReservationStatusType;
 import reserve.reservation.dto.response.ReservationInfoResponse;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
@@ -16,6 +18,9 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     Optional<Reservation> findByIdAndStoreUserId(@Param("reservationId") Long reservationId,
             @Param("userId") Long userId);
 
+    long countByStoreIdAndDateAndHourAndStatusNot(Long storeId, LocalDate date, int hour,
+            ReservationStatusType status);
+
     @Query("SELECT r.store.user.id FROM Reservation r WHERE r.id = :reservationId")
     Optional<Long> findStoreUserIdById(@Param("reservationId") Long reservationId);
 
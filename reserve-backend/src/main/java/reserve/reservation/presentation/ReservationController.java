@@ -16,12 +16,15 @@ import org.springframework.web.bind.annotation.*;
 import reserve.auth.domain.AuthInfo;
 import reserve.auth.infrastructure.Authentication;
 import reserve.global.exception.ErrorCode;
+import reserve.global.pagination.CountMode;
 import reserve.global.swagger.annotation.ApiErrorCodeResponse;
 import reserve.global.swagger.annotation.ApiErrorCodeResponses;
-import reserve.notification.service.NotificationService;
+import reserve.reservation.dto.request.ReservationBatchCreateRequest;
 import reserve.reservation.dto.request.ReservationCreateRequest;
 import reserve.reservation.dto.request.ReservationSearchRequest;
 import reserve.reservation.dto.request.ReservationUpdateRequest;
+import reserve.reservation.dto.response.ReservationBatchCreateResponse;
+import reserve.reservation.dto.response.ReservationInfoCursorResponse;
 import reserve.reservation.dto.response.ReservationInfoListResponse;
 import reserve.reservation.dto.response.ReservationInfoResponse;
 import reserve.reservation.dto.response.ReservationMenuListResponse;
@@ -35,8 +38,6 @@ public class ReservationController {
 
     private final ReservationService reservationService;
 
-    private final NotificationService notificationService;
-
     @PostMapping
     @Operation(summary = "Create reservation", description = "Create reservation", operationId = "1_create")
     @ApiResponses(@ApiResponse(responseCode = "201", description = "Successfully reserved"))
@@ -45,11 +46,23 @@ public class ReservationController {
     public ResponseEntity<Void> create(@Authentication AuthInfo authInfo,
             @RequestBody @Validated ReservationCreateRequest reservationCreateRequest) {
         Long reservationId = reservationService.create(authInfo.getUserId(), reservationCreateRequest);
-        notificationService.notifyReservation(reservationId, "Reservation has been created.",
-                "New customer has made a reservation.");
         return ResponseEntity.created(URI.create("/v1/reservations/" + reservationId)).build();
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create reservations in bulk",
+            description = "Create up to 500 reservations at once. Each item succeeds or fails on its own, and items "
+                    + "of the same store, date, and hour are accepted only if all of them fit in the slot.",
+            operationId = "1_createAll")
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "Response with the result of each item",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ReservationBatchCreateResponse.class))))
+    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.INVALID_SIGN_IN_INFO))
+    public ReservationBatchCreateResponse createAll(@Authentication AuthInfo authInfo,
+            @RequestBody @Validated ReservationBatchCreateRequest reservationBatchCreateRequest) {
+        return reservationService.createAll(authInfo.getUserId(), reservationBatchCreateRequest);
+    }
+
     @GetMapping("/{reservationId}")
     @Operation(summary = "Get reservation info", description = "Get reservation info by reservation ID",
             operationId = "2_getReservationInfo")
@@ -85,8 +98,30 @@ public class ReservationController {
     @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.INVALID_SIGN_IN_INFO))
     public ReservationInfoListResponse search(@Authentication AuthInfo authInfo,
             @ModelAttribute @Validated @ParameterObject ReservationSearchRequest reservationSearchRequest,
-            @ParameterObject Pageable pageable) {
-        return reservationService.search(authInfo.getUserId(), reservationSearchRequest, pageable);
+            @ParameterObject Pageable pageable,
+            @RequestParam(value = "total", defaultValue = "EXACT") @Schema(
+                    description = "How to count the total: EXACT, CACHED (may be stale), or NONE (count is -1)",
+                    example = "NONE") CountMode total) {
+        return reservationService.search(authInfo.getUserId(), reservationSearchRequest, pageable, total);
+    }
+
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Search reservations by cursor",
+            description = "Search reservations page by page without counting. Results are ordered by date, hour, and "
+                    + "ID in descending order. Pass an empty cursor for the first page and 'nextCursor' of the "
+                    + "response for the next one.",
+            operationId = "4_searchByCursor")
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "Response with reservation info list",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ReservationInfoCursorResponse.class))))
+    @ApiErrorCodeResponses({ @ApiErrorCodeResponse(responseCode = "400", errorCode = ErrorCode.INVALID_CURSOR),
+            @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.INVALID_SIGN_IN_INFO) })
+    public ReservationInfoCursorResponse searchByCursor(@Authentication AuthInfo authInfo,
+            @ModelAttribute @Validated @ParameterObject ReservationSearchRequest reservationSearchRequest,
+            @RequestParam("cursor") @Schema(description = "Continuation token", example = "") String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Schema(description = "Page size (max 100)",
+                    example = "20") int size) {
+        return reservationService.searchByCursor(authInfo.getUserId(), reservationSearchRequest, cursor, size);
     }
 
     @PutMapping("/{reservationId}")
@@ -98,8 +133,6 @@ public class ReservationController {
             @PathVariable("reservationId") @Schema(description = "ID of reservation", example = "1") Long reservationId,
             @RequestBody @Validated ReservationUpdateRequest reservationUpdateRequest) {
         reservationService.update(authInfo.getUserId(), reservationId, reservationUpdateRequest);
-        notificationService.notifyReservation(reservationId, "Reservation has been updated.",
-                "Customer has updated the reservation.");
     }
 
     @PostMapping("/{reservationId}/cancel")
@@ -111,8 +144,6 @@ public class ReservationController {
             @PathVariable("reservationId") @Schema(description = "ID of reservation",
                     example = "1") Long reservationId) {
         reservationService.cancel(authInfo.getUserId(), reservationId);
-        notificationService.notifyReservation(reservationId, "Reservation has been canceled.",
-                "Customer has canceled the reservation.");
     }
 
 }
@@ -15,7 +15,6 @@ import reserve.auth.infrastructure.Authentication;
 import reserve.global.exception.ErrorCode;
 import reserve.global.swagger.annotation.ApiErrorCodeResponse;
 import reserve.global.swagger.annotation.ApiErrorCodeResponses;
-import reserve.notification.service.NotificationService;
 import reserve.reservation.service.ReservationManageService;
 
 @RestController
@@ -26,8 +25,6 @@ public class ReservationManageController {
 
     private final ReservationManageService reservationManageService;
 
-    private final NotificationService notificationService;
-
     @PostMapping("/{reservationId}/cancel")
     @Operation(summary = "Cancel reservation", description = "Cancel reservation by reservation ID",
             operationId = "1_cancel")
@@ -37,8 +34,6 @@ public class ReservationManageController {
             @PathVariable("reservationId") @Schema(description = "ID of reservation",
                     example = "1") Long reservationId) {
         reservationManageService.cancel(authInfo.getUserId(), reservationId);
-        notificationService.notifyReservation(reservationId, "Reservation has been cancelled.",
-                "Customer has cancelled the reservation.");
     }
 
     @PostMapping("/{reservationId}/start")
@@ -50,7 +45,6 @@ public class ReservationManageController {
             @PathVariable("reservationId") @Schema(description = "ID of reservation",
                     example = "1") Long reservationId) {
         reservationManageService.startService(authInfo.getUserId(), reservationId);
-        notificationService.notifyReservation(reservationId, "Service has been started.");
     }
 
     @PostMapping("/{reservationId}/complete")
@@ -62,7 +56,6 @@ public class ReservationManageController {
             @PathVariable("reservationId") @Schema(description = "ID of reservation",
                     example = "1") Long reservationId) {
         reservationManageService.complete(authInfo.getUserId(), reservationId);
-        notificationService.notifyReservation(reservationId, "Service has been completed.");
     }
 
 }
@@ -5,8 +5,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.ResourceNotFoundException;
+import reserve.notification.domain.NotificationTemplate;
+import reserve.notification.service.NotificationService;
 import reserve.reservation.domain.Reservation;
 import reserve.reservation.infrastructure.ReservationRepository;
+import reserve.slot.service.SlotService;
 
 @Service
 @RequiredArgsConstructor
@@ -14,11 +17,19 @@ public class ReservationManageService {
 
     private final ReservationRepository reservationRepository;
 
+    private final SlotService slotService;
+
+    private final NotificationService notificationService;
+
     @Transactional
     public void cancel(Long registrantId, Long reservationId) {
         Reservation reservation = reservationRepository.findByIdAndStoreUserId(reservationId, registrantId)
             .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND));
-        reservation.cancel();
+        if (reservation.cancel()) {
+            slotService.release(reservation.getStore().getId(), reservation.getDate(), reservation.getHour());
+        }
+        notificationService.notifyReservation(reservationId, NotificationTemplate.RESERVATION_CANCELED_BY_STORE,
+                NotificationTemplate.RESERVATION_CANCELED_BY_STORE_FOR_REGISTRANT);
     }
 
     @Transactional
@@ -26,6 +37,7 @@ public class ReservationManageService {
         Reservation reservation = reservationRepository.findByIdAndStoreUserId(reservationId, registrantId)
             .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND));
         reservation.start();
+        notificationService.notifyReservation(reservationId, NotificationTemplate.SERVICE_STARTED);
     }
 
     @Transactional
@@ -33,6 +45,7 @@ public class ReservationManageService {
         Reservation reservation = reservationRepository.findByIdAndStoreUserId(reservationId, registrantId)
             .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND));
         reservation.complete();
+        notificationService.notifyReservation(reservationId, NotificationTemplate.SERVICE_COMPLETED);
     }
 
 }
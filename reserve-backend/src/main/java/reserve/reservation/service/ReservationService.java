@@ -1,20 +1,32 @@
 package reserve.reservation.service;
 
-import java.util.List;
-import java.util.Map;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import reserve.global.exception.AuthenticationException;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.ResourceNotFoundException;
+import reserve.global.exception.SlotCapacityException;
+import reserve.global.pagination.CountCache;
+import reserve.global.pagination.CountMode;
 import reserve.menu.domain.Menu;
 import reserve.menu.infrastructure.MenuRepository;
+import reserve.notification.domain.NotificationTemplate;
+import reserve.notification.service.NotificationService;
 import reserve.reservation.domain.Reservation;
 import reserve.reservation.domain.ReservationMenu;
+import reserve.reservation.dto.ReservationCreateContext;
+import reserve.reservation.dto.ReservationCursor;
+import reserve.reservation.dto.request.ReservationBatchCreateRequest;
 import reserve.reservation.dto.request.ReservationCreateRequest;
 import reserve.reservation.dto.request.ReservationMenuCreateRequest;
 import reserve.reservation.dto.request.ReservationSearchRequest;
@@ -23,13 +35,20 @@ import reserve.reservation.dto.response.*;
 import reserve.reservation.infrastructure.ReservationMenuRepository;
 import reserve.reservation.infrastructure.ReservationQueryRepository;
 import reserve.reservation.infrastructure.ReservationRepository;
+import reserve.slot.domain.Slot;
+import reserve.slot.infrastructure.SlotRepository;
+import reserve.slot.service.SlotService;
+import reserve.store.domain.Store;
 import reserve.store.infrastructure.StoreRepository;
+import reserve.user.domain.User;
 import reserve.user.infrastructure.UserRepository;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ReservationRepository reservationRepository;
 
     private final ReservationQueryRepository reservationQueryRepository;
@@ -42,36 +61,162 @@ public class ReservationService {
 
     private final UserRepository userRepository;
 
+    private final SlotRepository slotRepository;
+
+    private final SlotService slotService;
+
+    private final NotificationService notificationService;
+
+    private final CountCache countCache;
+
+    /**
+     * Creates a reservation. The user, the store, and the menus are validated with a single query that also reads the
+     * slot, and the IDs are assigned without a round trip, so the whole creation takes one {@code SELECT}, one batched
+     * {@code INSERT} for each table, and one statement for the slot. A slot read as full fails after the query alone.
+     */
     @Transactional
     public Long create(Long userId, ReservationCreateRequest reservationCreateRequest) {
-        if (!userRepository.existsById(userId)) {
-            throw new AuthenticationException(ErrorCode.INVALID_SIGN_IN_INFO);
-        }
-        if (!storeRepository.existsById(reservationCreateRequest.getStoreId())) {
+        Long storeId = reservationCreateRequest.getStoreId();
+        List<Long> menuIdList = reservationCreateRequest.getMenus()
+            .stream()
+            .map(ReservationMenuCreateRequest::getMenuId)
+            .toList();
+        LocalDate date = reservationCreateRequest.getDate();
+        int hour = reservationCreateRequest.getHour();
+        ReservationCreateContext context = reservationQueryRepository
+            .findCreateContext(userId, storeId, date, hour, menuIdList)
+            .orElseThrow(() -> new AuthenticationException(ErrorCode.INVALID_SIGN_IN_INFO));
+        if (!context.isStoreFound()) {
             throw new ResourceNotFoundException(ErrorCode.STORE_NOT_FOUND);
         }
+        if (context.getSlot() != null && context.getSlot().isFull()) {
+            throw new SlotCapacityException(ErrorCode.RESERVATION_SLOT_FULL);
+        }
         Reservation reservation = reservationRepository.save(new Reservation(userRepository.getReferenceById(userId),
-                storeRepository.getReferenceById(reservationCreateRequest.getStoreId()),
-                reservationCreateRequest.getDate(), reservationCreateRequest.getHour()));
-        Map<Long, Menu> menuMap = getMenuMap(reservationCreateRequest);
+                storeRepository.getReferenceById(storeId), date, hour));
         List<ReservationMenu> reservationMenuList = reservationCreateRequest.getMenus()
             .stream()
-            .map(req -> createReservationMenu(reservation, menuMap.get(req.getMenuId()), req.getQuantity()))
+            .map(req -> createReservationMenu(reservation, context.getMenus().get(req.getMenuId()), req.getQuantity()))
             .toList();
         reservationMenuRepository.saveAll(reservationMenuList);
+        notificationService.notifyReservation(reservation.getId(), NotificationTemplate.RESERVATION_CREATED,
+                NotificationTemplate.RESERVATION_CREATED_FOR_REGISTRANT);
+        // IDs are assigned without an insert, so flush the batched inserts now and take the slot last so that its row
+        // lock is held only until commit.
+        reservationMenuRepository.flush();
+        slotService.acquire(storeId, date, hour, context.getSlot());
         return reservation.getId();
     }
 
-    private Map<Long, Menu> getMenuMap(ReservationCreateRequest reservationCreateRequest) {
-        List<Long> menuIdList = reservationCreateRequest.getMenus()
+    /**
+     * Creates reservations of a user in one transaction and reports the result of each item. Stores, menus, and slots
+     * of all items are loaded with one query each, and the rows are inserted in JDBC batches.
+     * <p>
+     * Items referring to a missing store or menu fail on their own. The remaining items are grouped by slot, and groups
+     * that do not fit in their slot as read fail without a statement. Each other group takes its seats with a single
+     * statement before anything is inserted, so either the whole group fits or every item of it fails with
+     * {@link ErrorCode#RESERVATION_SLOT_FULL}, and only the groups that got their seats are inserted. Groups are taken
+     * in store, date and hour order, so concurrent batches lock slot rows in the same order and cannot deadlock each
+     * other. The slot rows stay locked while the reservations are inserted, which costs less than inserting rows for
+     * groups that are then rejected and deleting them again.
+     * </p>
+     */
+    @Transactional
+    public ReservationBatchCreateResponse createAll(Long userId,
+            ReservationBatchCreateRequest reservationBatchCreateRequest) {
+        if (!userRepository.existsById(userId)) {
+            throw new AuthenticationException(ErrorCode.INVALID_SIGN_IN_INFO);
+        }
+        List<ReservationCreateRequest> requests = reservationBatchCreateRequest.getReservations();
+        Set<Long> storeIds = requests.stream().map(ReservationCreateRequest::getStoreId).collect(Collectors.toSet());
+        Map<Long, Store> storeMap = storeRepository.findAllById(storeIds)
             .stream()
+            .collect(Collectors.toMap(Store::getId, Function.identity()));
+        Set<Long> menuIds = requests.stream()
+            .flatMap(request -> request.getMenus().stream())
             .map(ReservationMenuCreateRequest::getMenuId)
+            .collect(Collectors.toSet());
+        Map<Long, Menu> menuMap = menuRepository.findAllById(menuIds)
+            .stream()
+            .collect(Collectors.toMap(Menu::getId, Function.identity()));
+        Set<LocalDate> dates = requests.stream().map(ReservationCreateRequest::getDate).collect(Collectors.toSet());
+        Map<SlotKey, Slot> slotMap = slotRepository.findAllByStoreIdInAndDateIn(storeMap.keySet(), dates)
+            .stream()
+            .collect(Collectors.toMap(slot -> new SlotKey(slot.getStore().getId(), slot.getDate(), slot.getHour()),
+                    Function.identity()));
+
+        ErrorCode[] errors = new ErrorCode[requests.size()];
+        Map<SlotKey, List<Integer>> slotGroups = new TreeMap<>(SlotKey.ORDER);
+        for (int i = 0; i < requests.size(); i++) {
+            ReservationCreateRequest request = requests.get(i);
+            errors[i] = validate(request, storeMap, menuMap);
+            if (errors[i] == null) {
+                slotGroups.computeIfAbsent(new SlotKey(request.getStoreId(), request.getDate(), request.getHour()),
+                        key -> new ArrayList<>())
+                    .add(i);
+            }
+        }
+        slotGroups.entrySet().removeIf(group -> {
+            Slot slot = slotMap.get(group.getKey());
+            if (slot != null && slot.getRemaining() < group.getValue().size()) {
+                group.getValue().forEach(i -> errors[i] = ErrorCode.RESERVATION_SLOT_FULL);
+                return true;
+            }
+            return false;
+        });
+
+        slotGroups.forEach((key, indexes) -> {
+            if (!slotService.tryAcquire(key.storeId(), key.date(), key.hour(), indexes.size(), slotMap.get(key))) {
+                indexes.forEach(i -> errors[i] = ErrorCode.RESERVATION_SLOT_FULL);
+            }
+        });
+
+        User user = userRepository.getReferenceById(userId);
+        Reservation[] created = new Reservation[requests.size()];
+        List<ReservationMenu> reservationMenuList = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (errors[i] != null) {
+                continue;
+            }
+            ReservationCreateRequest request = requests.get(i);
+            Reservation reservation = new Reservation(user, storeMap.get(request.getStoreId()), request.getDate(),
+                    request.getHour());
+            for (ReservationMenuCreateRequest menuRequest : request.getMenus()) {
+                Menu menu = menuMap.get(menuRequest.getMenuId());
+                reservationMenuList
+                    .add(new ReservationMenu(reservation, menu.getName(), menu.getPrice(), menuRequest.getQuantity()));
+            }
+            created[i] = reservation;
+        }
+        reservationRepository.saveAll(Arrays.stream(created).filter(Objects::nonNull).toList());
+        reservationMenuRepository.saveAll(reservationMenuList);
+        List<Long> createdIds = Arrays.stream(created).filter(Objects::nonNull).map(Reservation::getId).toList();
+        notificationService.notifyReservations(createdIds, NotificationTemplate.RESERVATION_CREATED,
+                NotificationTemplate.RESERVATION_CREATED_FOR_REGISTRANT);
+
+        List<ReservationBatchItemResponse> results = IntStream.range(0, requests.size())
+            .mapToObj(i -> errors[i] == null ? ReservationBatchItemResponse.created(i, created[i].getId())
+                    : ReservationBatchItemResponse.failed(i, errors[i]))
             .toList();
-        return menuRepository.findAllById(menuIdList).stream().collect(Collectors.toMap(Menu::getId, m -> m));
+        return ReservationBatchCreateResponse.from(results);
+    }
+
+    private static ErrorCode validate(ReservationCreateRequest request, Map<Long, Store> storeMap,
+            Map<Long, Menu> menuMap) {
+        if (!storeMap.containsKey(request.getStoreId())) {
+            return ErrorCode.STORE_NOT_FOUND;
+        }
+        for (ReservationMenuCreateRequest menuRequest : request.getMenus()) {
+            Menu menu = menuMap.get(menuRequest.getMenuId());
+            if (menu == null || !menu.getStore().getId().equals(request.getStoreId())) {
+                return ErrorCode.MENU_NOT_FOUND;
+            }
+        }
+        return null;
     }
 
     private ReservationMenu createReservationMenu(Reservation reservation, Menu menu, int quantity) {
-        if (menu == null || !menu.getStore().getId().equals(reservation.getStore().getId())) {
+        if (menu == null) {
             throw new ResourceNotFoundException(ErrorCode.MENU_NOT_FOUND);
         }
         return new ReservationMenu(reservation, menu.getName(), menu.getPrice(), quantity);
@@ -94,28 +239,92 @@ public class ReservationService {
 
     @Transactional(readOnly = true)
     public ReservationInfoListResponse search(Long userId, ReservationSearchRequest reservationSearchRequest,
-            Pageable pageable) {
+            Pageable pageable, CountMode countMode) {
         if (!userRepository.existsById(userId)) {
             throw new AuthenticationException(ErrorCode.INVALID_SIGN_IN_INFO);
         }
-        Page<ReservationInfoResponse> result = reservationQueryRepository.findResponsesBySearch(userId,
+        if (countMode == CountMode.EXACT) {
+            Page<ReservationInfoResponse> result = reservationQueryRepository.findResponsesBySearch(userId,
+                    reservationSearchRequest, pageable);
+            return ReservationInfoListResponse.from(result);
+        }
+        Slice<ReservationInfoResponse> result = reservationQueryRepository.findSliceBySearch(userId,
                 reservationSearchRequest, pageable);
-        return ReservationInfoListResponse.from(result);
+        long count = -1;
+        if (countMode == CountMode.CACHED) {
+            String key = CountCache.key("reservations", userId, reservationSearchRequest.getType(),
+                    reservationSearchRequest.getQuery(), reservationSearchRequest.getDate());
+            count = countCache.get(key, result,
+                    () -> reservationQueryRepository.countBySearch(userId, reservationSearchRequest));
+        }
+        return ReservationInfoListResponse.from(result, count);
     }
 
+    /**
+     * Searches reservations with keyset pagination. Unlike {@link #search}, no count query is run.
+     * @param cursor continuation token of the previous page, or an empty string for the first page
+     */
+    @Transactional(readOnly = true)
+    public ReservationInfoCursorResponse searchByCursor(Long userId, ReservationSearchRequest reservationSearchRequest,
+            String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new AuthenticationException(ErrorCode.INVALID_SIGN_IN_INFO);
+        }
+        ReservationCursor after = StringUtils.hasText(cursor) ? ReservationCursor.decode(cursor) : null;
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Slice<ReservationInfoResponse> result = reservationQueryRepository.findResponsesBySearchAfter(userId,
+                reservationSearchRequest, after, pageSize);
+        return ReservationInfoCursorResponse.from(result);
+    }
+
+    /**
+     * Moves a reservation to another date and hour. The seat of the old slot is given back and one of the new slot is
+     * taken in store, date and hour order, as in {@link #createAll}, so two users moving reservations in opposite
+     * directions between the same slots lock the slot rows in the same order and cannot deadlock each other.
+     */
     @Transactional
     public void update(Long userId, Long reservationId, ReservationUpdateRequest reservationUpdateRequest) {
         Reservation reservation = reservationRepository.findByIdAndUserId(reservationId, userId)
             .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND));
+        LocalDate oldDate = reservation.getDate();
+        int oldHour = reservation.getHour();
         reservation.setDate(reservationUpdateRequest.getDate());
         reservation.setHour(reservationUpdateRequest.getHour());
+        boolean moved = !oldDate.equals(reservation.getDate()) || oldHour != reservation.getHour();
+        if (moved && !reservation.isCancelled()) {
+            Long storeId = reservation.getStore().getId();
+            SlotKey from = new SlotKey(storeId, oldDate, oldHour);
+            SlotKey to = new SlotKey(storeId, reservation.getDate(), reservation.getHour());
+            if (SlotKey.ORDER.compare(from, to) < 0) {
+                slotService.release(from.storeId(), from.date(), from.hour());
+                slotService.acquire(to.storeId(), to.date(), to.hour());
+            }
+            else {
+                slotService.acquire(to.storeId(), to.date(), to.hour());
+                slotService.release(from.storeId(), from.date(), from.hour());
+            }
+        }
+        notificationService.notifyReservation(reservationId, NotificationTemplate.RESERVATION_UPDATED,
+                NotificationTemplate.RESERVATION_UPDATED_FOR_REGISTRANT);
     }
 
     @Transactional
     public void cancel(Long userId, Long reservationId) {
-        reservationRepository.findByIdAndUserId(reservationId, userId)
-            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND))
-            .cancel();
+        Reservation reservation = reservationRepository.findByIdAndUserId(reservationId, userId)
+            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND));
+        if (reservation.cancel()) {
+            slotService.release(reservation.getStore().getId(), reservation.getDate(), reservation.getHour());
+        }
+        notificationService.notifyReservation(reservationId, NotificationTemplate.RESERVATION_CANCELED,
+                NotificationTemplate.RESERVATION_CANCELED_FOR_REGISTRANT);
+    }
+
+    private record SlotKey(Long storeId, LocalDate date, int hour) {
+
+        static final Comparator<SlotKey> ORDER = Comparator.comparing(SlotKey::storeId)
+            .thenComparing(SlotKey::date)
+            .thenComparingInt(SlotKey::hour);
+
     }
 
 }
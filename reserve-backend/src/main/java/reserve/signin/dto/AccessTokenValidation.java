@@ -0,0 +1,35 @@
+package reserve.signin.dto;
+
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reserve.signin.domain.TokenDetails;
+
+/**
+ * Outcome of verifying an access token once: either the token has expired, or it is valid and carries its
+ * {@link TokenDetails} and the time it expires at.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class AccessTokenValidation {
+
+    private static final AccessTokenValidation EXPIRED = new AccessTokenValidation(null, null);
+
+    private final TokenDetails tokenDetails;
+
+    private final Instant expiresAt;
+
+    public static AccessTokenValidation expired() {
+        return EXPIRED;
+    }
+
+    public static AccessTokenValidation valid(TokenDetails tokenDetails, Instant expiresAt) {
+        return new AccessTokenValidation(tokenDetails, expiresAt);
+    }
+
+    public boolean isExpired() {
+        return tokenDetails == null;
+    }
+
+}
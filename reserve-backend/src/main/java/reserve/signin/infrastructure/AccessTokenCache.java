@@ -0,0 +1,93 @@
+package reserve.signin.infrastructure;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reserve.global.cache.LruCache;
+import reserve.signin.dto.AccessTokenValidation;
+
+/**
+ * Remembers access tokens whose signature has already been verified by {@link JwtProvider}, so that a token presented
+ * again before it expires is resolved without verifying the signature or decoding the claims.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the token, which keeps every key the same size and keeps bearer tokens
+ * out of the heap. An entry is used only while the {@link Clock} is not past the expiration of its token, and the
+ * number of entries is bounded by an {@link LruCache}. Expired and invalid tokens are never cached.
+ * </p>
+ */
+@Component
+public class AccessTokenCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "accessTokens";
+
+    private final JwtProvider jwtProvider;
+
+    private final Clock clock;
+
+    private final LruCache<Digest, AccessTokenValidation> cache;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    public AccessTokenCache(JwtProvider jwtProvider, Clock clock,
+            @Value("${application.security.jwt.accessTokenCacheSize:10000}") int maxSize) {
+        this.jwtProvider = jwtProvider;
+        this.clock = clock;
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    /**
+     * Same as {@link JwtProvider#validateAccessToken(String)}, but served from the cache when the token has been
+     * verified before.
+     */
+    public AccessTokenValidation validate(String jwt) {
+        Digest digest = Digest.of(jwt);
+        AccessTokenValidation cached = cache.get(digest);
+        if (cached != null) {
+            if (!clock.instant().isAfter(cached.getExpiresAt())) {
+                hits.increment();
+                return cached;
+            }
+            cache.remove(digest);
+        }
+        misses.increment();
+        AccessTokenValidation validation = jwtProvider.validateAccessToken(jwt);
+        if (!validation.isExpired()) {
+            cache.put(digest, validation);
+        }
+        return validation;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+            .tags("cache", CACHE_NAME, "result", "hit")
+            .description("The number of times access tokens were resolved from the cache")
+            .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+            .tags("cache", CACHE_NAME, "result", "miss")
+            .description("The number of times access tokens were verified because they were not cached")
+            .register(registry);
+        Gauge.builder("cache.size", cache, LruCache::size)
+            .tags("cache", CACHE_NAME)
+            .description("The number of verified access tokens in the cache")
+            .register(registry);
+    }
+
+    private record Digest(long h0, long h1, long h2, long h3) {
+
+        static Digest of(String jwt) {
+            ByteBuffer buffer = ByteBuffer.wrap(TokenDigest.sha256(jwt));
+            return new Digest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+
+    }
+
+}
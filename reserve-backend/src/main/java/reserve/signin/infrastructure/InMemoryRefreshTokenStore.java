@@ -0,0 +1,220 @@
+package reserve.signin.infrastructure;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps refresh tokens in this process, for deployments of a single instance, so that no operation leaves the
+ * process. Tokens are keyed by their digest as in {@link RedisRefreshTokenStore}.
+ * <p>
+ * Expiration is tracked by a hashed timing wheel. Every token is linked into the bucket of the tick it expires in, and
+ * the buckets the clock has fully passed are swept at the start of the next operation. A bucket also holds tokens that
+ * expire in later turns of the wheel, which are kept until their turn. Sweeping therefore costs time in proportion to
+ * the tokens in the passed buckets rather than to all tokens. Lookups compare the expiration themselves, so a token is
+ * never accepted after it expires even before its bucket is swept.
+ * </p>
+ * <p>
+ * At most {@code maxSize} tokens are kept. Beyond that, the token saved longest ago is dropped, which signs its session
+ * out early. All operations share one lock, and each touches a few tokens only.
+ * </p>
+ */
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    public static final long DEFAULT_TICK_MILLIS = 60_000;
+
+    public static final int DEFAULT_WHEEL_SIZE = 4096;
+
+    private final Clock clock;
+
+    private final int maxSize;
+
+    private final long tickMillis;
+
+    private final Entry[] wheel;
+
+    private final int wheelMask;
+
+    /**
+     * In insertion order, so the eldest entry is the token saved longest ago.
+     */
+    private final LinkedHashMap<String, Entry> tokens = new LinkedHashMap<>();
+
+    private final Map<Long, Set<String>> userTokens = new HashMap<>();
+
+    private long sweptTick;
+
+    public InMemoryRefreshTokenStore(Clock clock, int maxSize) {
+        this(clock, maxSize, DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * @param wheelSize number of buckets, rounded down to a power of two
+     */
+    public InMemoryRefreshTokenStore(Clock clock, int maxSize, long tickMillis, int wheelSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive.");
+        }
+        this.clock = clock;
+        this.maxSize = maxSize;
+        this.tickMillis = tickMillis;
+        this.wheel = new Entry[Integer.highestOneBit(Math.max(1, wheelSize))];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = Entry.bucket();
+        }
+        this.wheelMask = wheel.length - 1;
+        this.sweptTick = clock.millis() / tickMillis - 1;
+    }
+
+    @Override
+    public synchronized void save(String tokenValue, Long userId, int expiration) {
+        long now = sweep();
+        add(TokenDigest.sha256Base64(tokenValue), userId, now + expiration * 1000L);
+    }
+
+    @Override
+    public synchronized boolean contains(String tokenValue, Long userId) {
+        long now = sweep();
+        Entry entry = find(TokenDigest.sha256Base64(tokenValue), now);
+        return entry != null && entry.userId.equals(userId);
+    }
+
+    @Override
+    public synchronized boolean rotate(String tokenValue, String newTokenValue, Long userId, int expiration) {
+        long now = sweep();
+        Entry entry = find(TokenDigest.sha256Base64(tokenValue), now);
+        if (entry == null || !entry.userId.equals(userId)) {
+            return false;
+        }
+        remove(entry);
+        add(TokenDigest.sha256Base64(newTokenValue), userId, now + expiration * 1000L);
+        return true;
+    }
+
+    @Override
+    public synchronized void delete(String tokenValue, Long userId) {
+        sweep();
+        Entry entry = tokens.get(TokenDigest.sha256Base64(tokenValue));
+        if (entry != null && entry.userId.equals(userId)) {
+            remove(entry);
+        }
+    }
+
+    @Override
+    public synchronized void deleteAll(Long userId) {
+        sweep();
+        Set<String> digests = userTokens.remove(userId);
+        if (digests != null) {
+            for (String digest : digests) {
+                Entry entry = tokens.get(digest);
+                if (entry != null) {
+                    remove(entry);
+                }
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return tokens.size();
+    }
+
+    /**
+     * Removes the expired tokens of every bucket whose tick has fully passed since the last sweep. After a pause longer
+     * than a turn of the wheel, each bucket is swept once.
+     * @return the current time in milliseconds
+     */
+    private long sweep() {
+        long now = clock.millis();
+        long lastPassedTick = now / tickMillis - 1;
+        for (long tick = Math.max(sweptTick + 1, lastPassedTick - wheelMask); tick <= lastPassedTick; tick++) {
+            Entry bucket = wheel[(int) (tick & wheelMask)];
+            for (Entry entry = bucket.next; entry != bucket; ) {
+                Entry next = entry.next;
+                if (entry.isExpired(now)) {
+                    remove(entry);
+                }
+                entry = next;
+            }
+        }
+        sweptTick = Math.max(sweptTick, lastPassedTick);
+        return now;
+    }
+
+    private Entry find(String digest, long now) {
+        Entry entry = tokens.get(digest);
+        return entry == null || entry.isExpired(now) ? null : entry;
+    }
+
+    private void add(String digest, Long userId, long expiresAt) {
+        Entry previous = tokens.get(digest);
+        if (previous != null) {
+            remove(previous);
+        }
+        Entry entry = new Entry(digest, userId, expiresAt);
+        tokens.put(digest, entry);
+        entry.linkBefore(wheel[(int) ((expiresAt / tickMillis) & wheelMask)]);
+        userTokens.computeIfAbsent(userId, id -> new HashSet<>()).add(digest);
+        while (tokens.size() > maxSize) {
+            remove(tokens.values().iterator().next());
+        }
+    }
+
+    private void remove(Entry entry) {
+        entry.unlink();
+        tokens.remove(entry.digest);
+        Set<String> digests = userTokens.get(entry.userId);
+        if (digests != null) {
+            digests.remove(entry.digest);
+            if (digests.isEmpty()) {
+                userTokens.remove(entry.userId);
+            }
+        }
+    }
+
+    /**
+     * A token linked into its bucket, or the head of an empty bucket, whose list is circular.
+     */
+    private static final class Entry {
+
+        private final String digest;
+
+        private final Long userId;
+
+        private final long expiresAt;
+
+        private Entry previous = this, next = this;
+
+        private Entry(String digest, Long userId, long expiresAt) {
+            this.digest = digest;
+            this.userId = userId;
+            this.expiresAt = expiresAt;
+        }
+
+        static Entry bucket() {
+            return new Entry(null, null, Long.MAX_VALUE);
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+
+        void linkBefore(Entry head) {
+            previous = head.previous;
+            next = head;
+            head.previous.next = this;
+            head.previous = this;
+        }
+
+        void unlink() {
+            previous.next = next;
+            next.previous = previous;
+            previous = this;
+            next = this;
+        }
+
+    }
+
+}
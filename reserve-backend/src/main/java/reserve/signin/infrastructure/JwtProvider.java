@@ -13,7 +13,9 @@ import org.springframework.stereotype.Component;
 import reserve.global.exception.AccessTokenException;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.InvalidAuthorizationException;
+import reserve.global.exception.RefreshTokenException;
 import reserve.signin.domain.TokenDetails;
+import reserve.signin.dto.AccessTokenValidation;
 import reserve.signin.dto.SignInToken;
 
 @Component
@@ -31,6 +33,10 @@ public class JwtProvider {
 
     private final Key refreshTokenSigningKey;
 
+    private final JwtParser accessTokenParser;
+
+    private final JwtParser refreshTokenParser;
+
     private final int accessTokenExpPeriod;
 
     private final int refreshTokenExpPeriod;
@@ -46,6 +52,16 @@ public class JwtProvider {
         this.accessTokenExpPeriod = accessTokenExpPeriod;
         this.refreshTokenExpPeriod = refreshTokenExpPeriod;
         this.clock = clock;
+        this.accessTokenParser = buildParser(accessTokenSigningKey);
+        this.refreshTokenParser = buildParser(refreshTokenSigningKey);
+    }
+
+    /**
+     * Parsers are immutable and thread-safe once built, so one per key is shared by all requests. The clock is read on
+     * every parse, not when the parser is built.
+     */
+    private JwtParser buildParser(Key signingKey) {
+        return Jwts.parserBuilder().setSigningKey(signingKey).setClock(() -> Date.from(clock.instant())).build();
     }
 
     public SignInToken generateSignInToken(TokenDetails tokenDetails) {
@@ -80,7 +96,7 @@ public class JwtProvider {
 
     public boolean isAccessTokenExpired(String jwt) {
         try {
-            parseToken(jwt, accessTokenSigningKey);
+            accessTokenParser.parseClaimsJws(jwt);
         }
         catch (ExpiredJwtException e) {
             return true;
@@ -93,7 +109,7 @@ public class JwtProvider {
 
     public boolean isRefreshTokenExpired(String jwt) {
         try {
-            parseToken(jwt, refreshTokenSigningKey);
+            refreshTokenParser.parseClaimsJws(jwt);
         }
         catch (ExpiredJwtException e) {
             return true;
@@ -104,11 +120,23 @@ public class JwtProvider {
         return false;
     }
 
+    /**
+     * Reads the ID of the user a refresh token was issued to, after verifying its signature.
+     * @throws RefreshTokenException with {@link ErrorCode#EXPIRED_REFRESH_TOKEN} if the token is expired, malformed or
+     * signed with another key, the error clients have always received for a refresh token that is not stored
+     */
+    public Long extractRefreshTokenUserId(String jwt) {
+        try {
+            return Long.valueOf(refreshTokenParser.parseClaimsJws(jwt).getBody().getSubject());
+        }
+        catch (JwtException | IllegalArgumentException e) {
+            throw new RefreshTokenException(ErrorCode.EXPIRED_REFRESH_TOKEN);
+        }
+    }
+
     public TokenDetails extractAccessTokenDetails(String jwt) {
         try {
-            Claims body = parseToken(jwt, accessTokenSigningKey).getBody();
-            return new TokenDetails(body.getSubject(), body.get("username", String.class),
-                    body.get("nickname", String.class));
+            return toTokenDetails(accessTokenParser.parseClaimsJws(jwt).getBody());
         }
         catch (ExpiredJwtException e) {
             throw new AccessTokenException(ErrorCode.EXPIRED_ACCESS_TOKEN, e);
@@ -118,12 +146,27 @@ public class JwtProvider {
         }
     }
 
-    private Jws<Claims> parseToken(String jwt, Key signingKey) {
-        return Jwts.parserBuilder()
-            .setSigningKey(signingKey)
-            .setClock(() -> Date.from(clock.instant()))
-            .build()
-            .parseClaimsJws(jwt);
+    /**
+     * Verifies the signature of an access token and reads its details in a single parse, instead of calling
+     * {@link #isAccessTokenExpired(String)} and {@link #extractAccessTokenDetails(String)} one after another.
+     * @throws InvalidAuthorizationException if the token is malformed or its signature does not match
+     */
+    public AccessTokenValidation validateAccessToken(String jwt) {
+        try {
+            Claims body = accessTokenParser.parseClaimsJws(jwt).getBody();
+            return AccessTokenValidation.valid(toTokenDetails(body), body.getExpiration().toInstant());
+        }
+        catch (ExpiredJwtException e) {
+            return AccessTokenValidation.expired();
+        }
+        catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidAuthorizationException(ErrorCode.INVALID_ACCESS_TOKEN_FORMAT, e);
+        }
+    }
+
+    private TokenDetails toTokenDetails(Claims body) {
+        return new TokenDetails(body.getSubject(), body.get("username", String.class),
+                body.get("nickname", String.class));
     }
 
 }
@@ -0,0 +1,220 @@
+package reserve.signin.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores each refresh token as a string key holding the user ID, and the tokens of each user in a set. Every change
+ * is a single script, so a change takes one round trip and the token keys and the set never disagree.
+ * <p>
+ * Tokens are neither used as keys nor kept in the sets as they are. Both hold the SHA-256 digest of the token in
+ * Base64url instead, which is 43 bytes whatever the length of the signed token. The user ID is stored as a decimal
+ * string, which Redis keeps as an integer.
+ * </p>
+ * <p>
+ * The keys of a user share the hash tag {@code {<user ID>}}, so they are in one hash slot of a Redis Cluster, and every
+ * key a script touches is passed in {@code KEYS}. The user ID is therefore part of every operation, and callers read
+ * it from the subject of the token they verified.
+ * </p>
+ * <p>
+ * A user's set expires with the last token added to it. Tokens that expire on their own stay in the set until then,
+ * which only makes {@link #deleteAll(Long)} delete a few keys that are already gone.
+ * </p>
+ * <p>
+ * Tokens saved by the former {@code @RedisHash("refresh")} mapping, a hash at {@code refresh:<token>} listed in the
+ * {@code refresh} set, are still accepted. A lookup that misses moves the token to this layout with its remaining time
+ * to live, and {@link #migrateLegacyTokens(int)} moves the others in the background, so that sessions survive the
+ * change of layout and {@link #deleteAll(Long)} reaches them too. Once the {@code refresh} set is empty, the legacy
+ * path costs one extra read for unknown tokens only and can be removed.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "application.security.refreshTokens.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    /**
+     * KEYS: token key, user key. ARGV: user ID, expiration in seconds, token digest.
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: old token key, new token key, user key. ARGV: user ID, expiration in seconds, old token digest, new
+     * token digest. The old token key belongs to the user, so deleting it is the check that the token is stored.
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of("""
+            if redis.call('DEL', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[2])
+            redis.call('SREM', KEYS[3], ARGV[3])
+            redis.call('SADD', KEYS[3], ARGV[4])
+            redis.call('EXPIRE', KEYS[3], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: token key, user key. ARGV: token digest.
+     */
+    private static final RedisScript<Long> DELETE_SCRIPT = RedisScript.of("""
+            if redis.call('DEL', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('SREM', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: user key, then the token keys to delete. ARGV: the digests of those tokens, in the same order. Returns the
+     * number of tokens left in the set, which were added after it was read.
+     */
+    private static final RedisScript<Long> DELETE_ALL_SCRIPT = RedisScript.of("""
+            for i = 2, #KEYS do
+                redis.call('DEL', KEYS[i])
+                redis.call('SREM', KEYS[1], ARGV[i - 1])
+            end
+            return redis.call('SCARD', KEYS[1])
+            """, Long.class);
+
+    /**
+     * KEYS: legacy hash key. ARGV: user ID. Deletes the hash if it belongs to the user and returns its remaining time
+     * to live in seconds, or 0 if nothing was deleted. Only one caller can delete it, so a token is moved only once.
+     */
+    private static final RedisScript<Long> CLAIM_LEGACY_SCRIPT = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], 'userId') ~= ARGV[1] then
+                return 0
+            end
+            local ttl = redis.call('TTL', KEYS[1])
+            if ttl <= 0 then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            return ttl
+            """, Long.class);
+
+    static final String LEGACY_SET_KEY = "refresh";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void save(String tokenValue, Long userId, int expiration) {
+        String digest = TokenDigest.sha256Base64(tokenValue);
+        redisTemplate.execute(SAVE_SCRIPT, List.of(tokenKey(userId, digest), userKey(userId)), userId.toString(),
+                String.valueOf(expiration), digest);
+    }
+
+    @Override
+    public boolean contains(String tokenValue, Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(tokenKey(userId, TokenDigest.sha256Base64(tokenValue))))
+                || migrateLegacy(tokenValue, userId);
+    }
+
+    @Override
+    public boolean rotate(String tokenValue, String newTokenValue, Long userId, int expiration) {
+        String digest = TokenDigest.sha256Base64(tokenValue);
+        String newDigest = TokenDigest.sha256Base64(newTokenValue);
+        List<String> keys = List.of(tokenKey(userId, digest), tokenKey(userId, newDigest), userKey(userId));
+        Long rotated = redisTemplate.execute(ROTATE_SCRIPT, keys, userId.toString(), String.valueOf(expiration),
+                digest, newDigest);
+        if ((rotated == null || rotated == 0) && migrateLegacy(tokenValue, userId)) {
+            rotated = redisTemplate.execute(ROTATE_SCRIPT, keys, userId.toString(), String.valueOf(expiration),
+                    digest, newDigest);
+        }
+        return rotated != null && rotated == 1;
+    }
+
+    @Override
+    public void delete(String tokenValue, Long userId) {
+        String digest = TokenDigest.sha256Base64(tokenValue);
+        List<String> keys = List.of(tokenKey(userId, digest), userKey(userId));
+        Long deleted = redisTemplate.execute(DELETE_SCRIPT, keys, digest);
+        if ((deleted == null || deleted == 0) && migrateLegacy(tokenValue, userId)) {
+            redisTemplate.execute(DELETE_SCRIPT, keys, digest);
+        }
+    }
+
+    /**
+     * Reads the user's set and deletes the tokens in it, again until none is left, since a script may only touch the
+     * token keys passed to it.
+     */
+    @Override
+    public void deleteAll(Long userId) {
+        String userKey = userKey(userId);
+        Set<String> digests = redisTemplate.opsForSet().members(userKey);
+        while (digests != null && !digests.isEmpty()) {
+            List<String> digestList = List.copyOf(digests);
+            List<String> keys = new ArrayList<>(digestList.size() + 1);
+            keys.add(userKey);
+            digestList.forEach(digest -> keys.add(tokenKey(userId, digest)));
+            Long remaining = redisTemplate.execute(DELETE_ALL_SCRIPT, keys, digestList.toArray());
+            digests = remaining != null && remaining > 0 ? redisTemplate.opsForSet().members(userKey) : null;
+        }
+    }
+
+    /**
+     * Moves up to {@code batchSize} tokens of the former {@code @RedisHash} mapping, picked at random from the
+     * {@code refresh} set, to this layout. Tokens whose hash has expired are only removed from the set.
+     * @return the number of tokens taken from the set, 0 once it is empty
+     */
+    public int migrateLegacyTokens(int batchSize) {
+        Set<String> tokenValues = redisTemplate.opsForSet().distinctRandomMembers(LEGACY_SET_KEY, batchSize);
+        if (tokenValues == null) {
+            return 0;
+        }
+        for (String tokenValue : tokenValues) {
+            Object userId = redisTemplate.opsForHash().get(legacyKey(tokenValue), "userId");
+            if (userId == null || !migrateLegacy(tokenValue, Long.valueOf(userId.toString()))) {
+                removeLegacy(tokenValue);
+            }
+        }
+        return tokenValues.size();
+    }
+
+    /**
+     * Moves a token of the former {@code @RedisHash} mapping to this layout if it is stored for the user.
+     * @return {@code true} if this call moved the token
+     */
+    private boolean migrateLegacy(String tokenValue, Long userId) {
+        Long ttl = redisTemplate.execute(CLAIM_LEGACY_SCRIPT, List.of(legacyKey(tokenValue)), userId.toString());
+        if (ttl == null || ttl <= 0) {
+            return false;
+        }
+        save(tokenValue, userId, ttl.intValue());
+        removeLegacy(tokenValue);
+        return true;
+    }
+
+    /**
+     * Removes what the mapping kept besides the hash: the copy it read expired values from, and the set member.
+     */
+    private void removeLegacy(String tokenValue) {
+        redisTemplate.delete(legacyKey(tokenValue) + ":phantom");
+        redisTemplate.opsForSet().remove(LEGACY_SET_KEY, tokenValue);
+    }
+
+    static String legacyKey(String tokenValue) {
+        return LEGACY_SET_KEY + ":" + tokenValue;
+    }
+
+    static String tokenKey(Long userId, String digest) {
+        return "rt:{" + userId + "}:" + digest;
+    }
+
+    static String userKey(Long userId) {
+        return "rt:u:{" + userId + "}";
+    }
+
+}
@@ -0,0 +1,37 @@
+package reserve.signin.infrastructure;
+
+/**
+ * Keeps the refresh tokens that are still accepted, together with the user each one belongs to and an index of the
+ * tokens of every user.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * @param expiration seconds until the token is forgotten
+     */
+    void save(String tokenValue, Long userId, int expiration);
+
+    /**
+     * @param userId subject of the verified token
+     */
+    boolean contains(String tokenValue, Long userId);
+
+    /**
+     * Replaces {@code tokenValue} by {@code newTokenValue} as one atomic step. Of concurrent rotations of the same
+     * token, only one succeeds.
+     * @return {@code false} if {@code tokenValue} is not stored for {@code userId}, in which case nothing is changed
+     */
+    boolean rotate(String tokenValue, String newTokenValue, Long userId, int expiration);
+
+    /**
+     * Deletes the token if it is stored for {@code userId}.
+     * @param userId subject of the verified token
+     */
+    void delete(String tokenValue, Long userId);
+
+    /**
+     * Deletes every refresh token of the user, signing the user out of all sessions.
+     */
+    void deleteAll(Long userId);
+
+}
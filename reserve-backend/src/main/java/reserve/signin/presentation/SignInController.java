@@ -6,11 +6,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reserve.auth.domain.AuthInfo;
+import reserve.auth.infrastructure.Authentication;
 import reserve.global.exception.ErrorCode;
+import reserve.global.ratelimit.CredentialRateLimiter;
 import reserve.global.swagger.annotation.ApiErrorCodeResponse;
 import reserve.global.swagger.annotation.ApiErrorCodeResponses;
 import reserve.signin.dto.SignInToken;
@@ -26,10 +30,13 @@ public class SignInController {
 
     private final SignInService signInService;
 
+    private final CredentialRateLimiter credentialRateLimiter;
+
     public SignInController(@Value("${application.security.jwt.refreshTokenExpire}") int refreshTokenExpire,
-            SignInService signInService) {
+            SignInService signInService, CredentialRateLimiter credentialRateLimiter) {
         this.refreshTokenExpire = refreshTokenExpire;
         this.signInService = signInService;
+        this.credentialRateLimiter = credentialRateLimiter;
     }
 
     @PostMapping("/sign-in")
@@ -37,8 +44,12 @@ public class SignInController {
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Successfully signed in",
             headers = { @Header(name = "Authorization", description = "Bearer access token"),
                     @Header(name = "Set-Cookie", description = "Refresh token cookie with name 'refresh'") }))
-    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "401", errorCode = ErrorCode.WRONG_CREDENTIAL))
-    public void signIn(@RequestBody @Validated SignInRequest signInRequest, HttpServletResponse response) {
+    @ApiErrorCodeResponses({ @ApiErrorCodeResponse(responseCode = "401", errorCode = ErrorCode.WRONG_CREDENTIAL),
+            @ApiErrorCodeResponse(responseCode = "429", errorCode = ErrorCode.TOO_MANY_REQUESTS),
+            @ApiErrorCodeResponse(responseCode = "503", errorCode = ErrorCode.SERVER_BUSY) })
+    public void signIn(@RequestBody @Validated SignInRequest signInRequest, HttpServletRequest request,
+            HttpServletResponse response) {
+        credentialRateLimiter.checkSignIn(request, signInRequest.getUsername());
         SignInToken signInToken = signInService.signIn(signInRequest);
         response.setHeader("Authorization", signInToken.getAccessToken());
         response.addCookie(createRefreshCookie(signInToken));
@@ -79,4 +90,19 @@ public class SignInController {
         response.addCookie(refreshCookie);
     }
 
+    @PostMapping("/sign-out-all")
+    @Operation(summary = "Sign out of all sessions",
+            description = "Revoke every refresh token of the signed-in user. Issued access tokens stay valid until "
+                    + "they expire.", operationId = "4_signOutAll")
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "Successfully signed out of all sessions"))
+    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.INVALID_SIGN_IN_INFO))
+    public void signOutAll(@Authentication AuthInfo authInfo, HttpServletResponse response) {
+        signInService.signOutAll(authInfo.getUserId());
+        // delete cookie
+        Cookie refreshCookie = new Cookie("refresh", "");
+        refreshCookie.setMaxAge(0);
+        refreshCookie.setPath("/");
+        response.addCookie(refreshCookie);
+    }
+
 }
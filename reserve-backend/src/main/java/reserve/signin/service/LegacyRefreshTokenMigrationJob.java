@@ -0,0 +1,38 @@
+package reserve.signin.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reserve.signin.infrastructure.RedisRefreshTokenStore;
+
+/**
+ * Periodically moves refresh tokens saved by the former {@code @RedisHash} mapping to the layout of
+ * {@link RedisRefreshTokenStore}, a small batch per run so that other scheduled tasks are not held up. Tokens that are
+ * used in the meantime are moved on their own. Once every token is moved, a run is a single read.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "application.security.refreshTokens.store", havingValue = "redis", matchIfMissing = true)
+public class LegacyRefreshTokenMigrationJob {
+
+    private final RedisRefreshTokenStore refreshTokenStore;
+
+    private final int batchSize;
+
+    public LegacyRefreshTokenMigrationJob(RedisRefreshTokenStore refreshTokenStore,
+            @Value("${application.security.refreshTokens.legacyMigration.batchSize:1000}") int batchSize) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${application.security.refreshTokens.legacyMigration.cron:*/10 * * * * *}")
+    public void migrate() {
+        int migrated = refreshTokenStore.migrateLegacyTokens(batchSize);
+        if (migrated > 0) {
+            log.info("Processed {} refresh tokens of the former layout", migrated);
+        }
+    }
+
+}
@@ -1,21 +1,22 @@
 package reserve.signin.service;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.RefreshTokenException;
+import reserve.global.exception.ServerBusyException;
 import reserve.global.exception.WrongCredentialException;
-import reserve.signin.domain.RefreshToken;
 import reserve.signin.domain.TokenDetails;
 import reserve.signin.dto.SignInToken;
 import reserve.signin.dto.request.SignInRequest;
 import reserve.signin.infrastructure.JwtProvider;
-import reserve.signin.infrastructure.RefreshTokenRepository;
+import reserve.signin.infrastructure.RefreshTokenStore;
 import reserve.signup.infrastructure.PasswordEncoder;
 import reserve.user.domain.User;
 import reserve.user.infrastructure.UserRepository;
 
+@Slf4j
 @Service
 public class SignInService {
 
@@ -23,54 +24,106 @@ public class SignInService {
 
     private final UserRepository userRepository;
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     private final PasswordEncoder passwordEncoder;
 
     private final JwtProvider jwtProvider;
 
     public SignInService(@Value("${application.security.jwt.refreshTokenExpire}") int refreshTokenExpiration,
-            UserRepository userRepository, RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository, RefreshTokenStore refreshTokenStore,
             PasswordEncoder passwordEncoder, JwtProvider jwtProvider) {
         this.refreshTokenExpiration = refreshTokenExpiration;
         this.userRepository = userRepository;
-        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenStore = refreshTokenStore;
         this.passwordEncoder = passwordEncoder;
         this.jwtProvider = jwtProvider;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Signs the user in. A password hash made with other parameters than the configured ones is replaced by a new hash
+     * of the verified password, so stored hashes follow the configured cost as users sign in. If the hashing threads
+     * are busy, the rehash is left to a later sign-in rather than failing this one.
+     * <p>
+     * This method deliberately runs without a transaction, so that no database connection is held while the password
+     * waits for a hashing thread and is hashed. The user is read in a read-only transaction of its own, and a new hash
+     * is written with a short conditional update that does nothing if the password was changed in the meantime.
+     * </p>
+     */
     public SignInToken signIn(SignInRequest signInRequest) {
         User user = userRepository.findByUsername(signInRequest.getUsername())
             .orElseThrow(() -> new WrongCredentialException(ErrorCode.WRONG_CREDENTIAL));
-        if (!passwordEncoder.matches(signInRequest.getPassword(), user.getPasswordHash())) {
+        String passwordHash = user.getPasswordHash();
+        if (!passwordEncoder.matches(signInRequest.getPassword(), passwordHash)) {
             throw new WrongCredentialException(ErrorCode.WRONG_CREDENTIAL);
         }
+        if (passwordEncoder.upgradeEncoding(passwordHash)) {
+            try {
+                userRepository.updatePasswordHash(user.getId(), passwordHash,
+                        passwordEncoder.encode(signInRequest.getPassword()));
+            }
+            catch (ServerBusyException e) {
+                log.debug("Password rehash of user {} skipped: {}", user.getId(), e.getMessage());
+            }
+        }
         Long userId = user.getId();
         TokenDetails tokenDetails = new TokenDetails(userId.toString(), user.getUsername(), user.getNickname());
         SignInToken signInToken = jwtProvider.generateSignInToken(tokenDetails);
-        refreshTokenRepository.save(new RefreshToken(signInToken.getRefreshToken(), userId, refreshTokenExpiration));
+        refreshTokenStore.save(signInToken.getRefreshToken(), userId, refreshTokenExpiration);
         return signInToken;
     }
 
+    /**
+     * Issues new tokens and rotates the refresh token in one atomic step, so a refresh token is accepted only once even
+     * when it is presented by concurrent requests.
+     */
     public SignInToken refreshAccessToken(String refreshTokenValue) {
-        RefreshToken refreshToken = refreshTokenRepository.findById(refreshTokenValue)
-            .orElseThrow(() -> new RefreshTokenException(ErrorCode.EXPIRED_REFRESH_TOKEN));
-        Long userId = refreshToken.getUserId();
+        Long userId = jwtProvider.extractRefreshTokenUserId(refreshTokenValue);
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new RefreshTokenException(ErrorCode.INVALID_REFRESH_TOKEN));
         TokenDetails tokenDetails = new TokenDetails(user.getId().toString(), user.getUsername(), user.getNickname());
         SignInToken signInToken = jwtProvider.generateSignInToken(tokenDetails);
-        // Refresh token rotation.
-        refreshTokenRepository.save(new RefreshToken(signInToken.getRefreshToken(), userId, refreshTokenExpiration));
-        refreshTokenRepository.delete(refreshToken);
+        if (!refreshTokenStore.rotate(refreshTokenValue, signInToken.getRefreshToken(), userId,
+                refreshTokenExpiration)) {
+            throw new RefreshTokenException(ErrorCode.EXPIRED_REFRESH_TOKEN);
+        }
         return signInToken;
     }
 
+    /**
+     * Returns the user of a refresh token that is still in the store, without rotating it. This authenticates clients
+     * that cannot send an access token, such as the event streams of browsers, with the refresh cookie.
+     * @throws RefreshTokenException if the token is malformed, expired or no longer in the store
+     */
+    public Long authenticateRefreshToken(String refreshTokenValue) {
+        Long userId = jwtProvider.extractRefreshTokenUserId(refreshTokenValue);
+        if (!refreshTokenStore.contains(refreshTokenValue, userId)) {
+            throw new RefreshTokenException(ErrorCode.EXPIRED_REFRESH_TOKEN);
+        }
+        return userId;
+    }
+
+    /**
+     * Deletes the refresh token. An expired token is already gone from the store, so it is ignored, and a malformed one
+     * is rejected.
+     */
     public void signOut(String refreshTokenValue) {
-        if (!jwtProvider.isRefreshTokenExpired(refreshTokenValue)) {
-            refreshTokenRepository.deleteById(refreshTokenValue);
+        if (jwtProvider.isRefreshTokenExpired(refreshTokenValue)) {
+            return;
         }
+        Long userId;
+        try {
+            userId = jwtProvider.extractRefreshTokenUserId(refreshTokenValue);
+        }
+        catch (RefreshTokenException e) {
+            // Expired since the check above
+            return;
+        }
+        refreshTokenStore.delete(refreshTokenValue, userId);
+    }
+
+    public void signOutAll(Long userId) {
+        refreshTokenStore.deleteAll(userId);
     }
 
 }
@@ -0,0 +1,142 @@
+package reserve.signup.infrastructure;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.ServerBusyException;
+
+/**
+ * Runs a slow {@link PasswordEncoder} on a fixed number of dedicated threads, so that a burst of sign-ins can only
+ * occupy those threads instead of every request thread.
+ * <p>
+ * Work that finds all threads busy waits in a bounded queue. When the queue is full as well, the caller fails
+ * immediately with {@link ServerBusyException} rather than waiting behind the burst.
+ * </p>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder {
+
+    private final PasswordEncoder delegate;
+
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder rejections = new LongAdder();
+
+    private final HashStats encodeStats = new HashStats();
+
+    private final HashStats matchesStats = new HashStats();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        if (threads <= 0 || queueCapacity < 0) {
+            throw new IllegalArgumentException("Threads must be positive and queue capacity must not be negative.");
+        }
+        this.delegate = delegate;
+        BlockingQueue<Runnable> queue = queueCapacity == 0 ? new SynchronousQueue<>()
+                : new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), encodeStats);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, CharSequence encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesStats);
+    }
+
+    /**
+     * Only parses the encoded password, so it runs on the calling thread.
+     */
+    @Override
+    public boolean upgradeEncoding(CharSequence encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Supplier<T> task, HashStats stats) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.get();
+                }
+                finally {
+                    stats.record(System.nanoTime() - start);
+                }
+            });
+        }
+        catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ServerBusyException(ErrorCode.SERVER_BUSY);
+        }
+        try {
+            return future.get();
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size())
+            .description("The number of password hashing tasks waiting for a thread")
+            .register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("The number of password hashing threads at work")
+            .register(registry);
+        FunctionCounter.builder("password.hash.rejected", rejections, LongAdder::sum)
+            .description("The number of password hashing tasks rejected because the queue was full")
+            .register(registry);
+        encodeStats.register(registry, "encode");
+        matchesStats.register(registry, "matches");
+    }
+
+    private static class HashStats {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+        }
+
+        void register(MeterRegistry registry, String operation) {
+            FunctionTimer
+                .builder("password.hash", this, stats -> stats.count.sum(), stats -> stats.totalNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .tags("operation", operation)
+                .description("Time spent hashing passwords, excluding the wait in the queue")
+                .register(registry);
+        }
+
+    }
+
+}
@@ -0,0 +1,258 @@
+package reserve.signup.infrastructure;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * PBKDF2-HMAC-SHA256 encoder writing self-describing hashes of the form
+ * {@code $pbkdf2-sha256$i=<iterations>$<salt>$<hash>}, with salt and hash in unpadded Base64. Parameters are read back
+ * from each hash, so hashes made with a different cost still match and {@link #upgradeEncoding(CharSequence)} reports
+ * them for rehashing.
+ * <p>
+ * The hex hashes of {@link Pbkdf2PasswordEncoder}, which carry no parameters, are matched with its defaults and always
+ * reported for rehashing.
+ * </p>
+ * <p>
+ * Instead of going through {@code SecretKeyFactory}, the PBKDF2 loop runs on two SHA-256 digests kept per thread, and
+ * every block is written into buffers that are reused across iterations and calls, so the loop allocates nothing. The
+ * key-derived state is cleared after each call. One {@link SecureRandom} is shared for salts, and hashes are compared
+ * in constant time.
+ * </p>
+ */
+public class FastPbkdf2PasswordEncoder implements PasswordEncoder {
+
+    public static final String PREFIX = "$pbkdf2-sha256$";
+
+    private static final String ITERATIONS_PARAMETER = "i=";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final int BLOCK_LENGTH = 64;
+
+    private static final int HMAC_LENGTH = 32;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder().withoutPadding();
+
+    private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();
+
+    private static final ThreadLocal<HmacState> HMAC_STATE = ThreadLocal.withInitial(HmacState::new);
+
+    private final int iterations, hashLength, saltLength;
+
+    /**
+     * @param hashLength length of the derived key in bits, as in {@link Pbkdf2PasswordEncoder}
+     */
+    public FastPbkdf2PasswordEncoder(int iterations, int hashLength, int saltLength) {
+        if (hashLength % 8 != 0) {
+            throw new IllegalArgumentException("Hash length must be a multiple of 8 bits.");
+        }
+        this.iterations = iterations;
+        this.hashLength = hashLength / 8;
+        this.saltLength = saltLength;
+    }
+
+    public FastPbkdf2PasswordEncoder() {
+        this(Pbkdf2PasswordEncoder.DEFAULT_ITERATIONS, Pbkdf2PasswordEncoder.DEFAULT_HASH_LENGTH,
+                Pbkdf2PasswordEncoder.DEFAULT_SALT_LENGTH);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        byte[] salt = new byte[saltLength];
+        RANDOM.nextBytes(salt);
+        byte[] hash = generateHash(rawPassword, salt, iterations, hashLength);
+        return PREFIX + ITERATIONS_PARAMETER + iterations + "$" + BASE64_ENCODER.encodeToString(salt) + "$"
+                + BASE64_ENCODER.encodeToString(hash);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, CharSequence encodedPassword) {
+        EncodedHash encodedHash = EncodedHash.parse(encodedPassword);
+        if (encodedHash == null) {
+            return false;
+        }
+        byte[] expected = encodedHash.hash();
+        return MessageDigest.isEqual(expected,
+                generateHash(rawPassword, encodedHash.salt(), encodedHash.iterations(), expected.length));
+    }
+
+    /**
+     * Returns {@code true} for legacy hex hashes and for hashes whose parameters differ from the configured ones.
+     */
+    @Override
+    public boolean upgradeEncoding(CharSequence encodedPassword) {
+        EncodedHash encodedHash = EncodedHash.parse(encodedPassword);
+        return encodedHash != null && (encodedHash.legacy() || encodedHash.iterations() != iterations
+                || encodedHash.salt().length != saltLength || encodedHash.hash().length != hashLength);
+    }
+
+    static byte[] generateHash(CharSequence rawPassword, byte[] salt, int iterations, int hashLength) {
+        byte[] password = toUtf8(rawPassword);
+        HmacState state = HMAC_STATE.get();
+        try {
+            state.init(password);
+            byte[] hash = new byte[hashLength];
+            for (int block = 1, offset = 0; offset < hashLength; block++, offset += HMAC_LENGTH) {
+                state.deriveBlock(salt, block, iterations);
+                state.writeBlock(hash, offset, Math.min(HMAC_LENGTH, hashLength - offset));
+            }
+            return hash;
+        }
+        catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+        finally {
+            Arrays.fill(password, (byte) 0);
+            state.clear();
+        }
+    }
+
+    /**
+     * Encodes the password as UTF-8 like {@code PBEKeySpec} does for PBKDF2.
+     */
+    private static byte[] toUtf8(CharSequence rawPassword) {
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(CharBuffer.wrap(rawPassword));
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        if (buffer.hasArray()) {
+            Arrays.fill(buffer.array(), (byte) 0);
+        }
+        return bytes;
+    }
+
+    private record EncodedHash(int iterations, byte[] salt, byte[] hash, boolean legacy) {
+
+        private static final int LEGACY_SALT_LENGTH = Pbkdf2PasswordEncoder.DEFAULT_SALT_LENGTH;
+
+        private static final int LEGACY_HASH_LENGTH = Pbkdf2PasswordEncoder.DEFAULT_HASH_LENGTH / 8;
+
+        private static final int LEGACY_LENGTH = (LEGACY_SALT_LENGTH + LEGACY_HASH_LENGTH) * 2;
+
+        /**
+         * @return {@code null} if the value is in neither format
+         */
+        static EncodedHash parse(CharSequence encodedPassword) {
+            String value = encodedPassword.toString();
+            try {
+                if (value.startsWith(PREFIX)) {
+                    String[] parts = value.substring(PREFIX.length()).split("\\$", -1);
+                    if (parts.length != 3 || !parts[0].startsWith(ITERATIONS_PARAMETER)) {
+                        return null;
+                    }
+                    int iterations = Integer.parseInt(parts[0].substring(ITERATIONS_PARAMETER.length()));
+                    byte[] salt = BASE64_DECODER.decode(parts[1]);
+                    byte[] hash = BASE64_DECODER.decode(parts[2]);
+                    return iterations > 0 && hash.length > 0 ? new EncodedHash(iterations, salt, hash, false) : null;
+                }
+                if (value.length() == LEGACY_LENGTH) {
+                    byte[] bytes = HexUtils.hexToBytes(value);
+                    return new EncodedHash(Pbkdf2PasswordEncoder.DEFAULT_ITERATIONS,
+                            Arrays.copyOf(bytes, LEGACY_SALT_LENGTH),
+                            Arrays.copyOfRange(bytes, LEGACY_SALT_LENGTH, bytes.length), true);
+                }
+            }
+            catch (IllegalArgumentException e) {
+                return null;
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * HMAC-SHA256 over an inner and an outer digest that are reset by every hash and reused. Both key pads are hashed
+     * again for each HMAC rather than resumed from a copy of the digest after them, since that copy would be allocated
+     * twice per iteration, while the pad block is a single call of the intrinsic SHA-256 compression.
+     */
+    private static class HmacState {
+
+        private final MessageDigest inner, outer;
+
+        private final byte[] innerPad = new byte[BLOCK_LENGTH];
+
+        private final byte[] outerPad = new byte[BLOCK_LENGTH];
+
+        private final byte[] u = new byte[HMAC_LENGTH];
+
+        private final byte[] t = new byte[HMAC_LENGTH];
+
+        HmacState() {
+            try {
+                this.inner = MessageDigest.getInstance(DIGEST_ALGORITHM);
+                this.outer = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            }
+            catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void init(byte[] password) {
+            byte[] key = password.length > BLOCK_LENGTH ? inner.digest(password) : password;
+            for (int i = 0; i < BLOCK_LENGTH; i++) {
+                byte keyByte = i < key.length ? key[i] : 0;
+                innerPad[i] = (byte) (keyByte ^ 0x36);
+                outerPad[i] = (byte) (keyByte ^ 0x5c);
+            }
+            if (key != password) {
+                Arrays.fill(key, (byte) 0);
+            }
+        }
+
+        /**
+         * Computes {@code T = U_1 ^ U_2 ^ ... ^ U_c} of RFC 8018 into {@link #t}.
+         */
+        void deriveBlock(byte[] salt, int block, int iterations) throws DigestException {
+            inner.update(innerPad);
+            inner.update(salt);
+            inner.update((byte) (block >>> 24));
+            inner.update((byte) (block >>> 16));
+            inner.update((byte) (block >>> 8));
+            inner.update((byte) block);
+            inner.digest(u, 0, HMAC_LENGTH);
+            finish();
+            System.arraycopy(u, 0, t, 0, HMAC_LENGTH);
+            for (int i = 1; i < iterations; i++) {
+                inner.update(innerPad);
+                inner.update(u);
+                inner.digest(u, 0, HMAC_LENGTH);
+                finish();
+                for (int j = 0; j < HMAC_LENGTH; j++) {
+                    t[j] ^= u[j];
+                }
+            }
+        }
+
+        /**
+         * Finishes the HMAC whose inner hash is in {@link #u}, writing the result back into it.
+         */
+        private void finish() throws DigestException {
+            outer.update(outerPad);
+            outer.update(u);
+            outer.digest(u, 0, HMAC_LENGTH);
+        }
+
+        void writeBlock(byte[] hash, int offset, int length) {
+            System.arraycopy(t, 0, hash, offset, length);
+        }
+
+        void clear() {
+            inner.reset();
+            outer.reset();
+            Arrays.fill(innerPad, (byte) 0);
+            Arrays.fill(outerPad, (byte) 0);
+            Arrays.fill(u, (byte) 0);
+            Arrays.fill(t, (byte) 0);
+        }
+
+    }
+
+}
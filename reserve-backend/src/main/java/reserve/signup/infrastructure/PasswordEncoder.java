@@ -6,4 +6,12 @@ public interface PasswordEncoder {
 
     boolean matches(CharSequence rawPassword, CharSequence encodedPassword);
 
+    /**
+     * Returns {@code true} if the encoded password should be encoded again, e.g. because it was made with weaker
+     * parameters than the ones currently configured.
+     */
+    default boolean upgradeEncoding(CharSequence encodedPassword) {
+        return false;
+    }
+
 }
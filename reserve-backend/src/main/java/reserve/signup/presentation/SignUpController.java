@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import reserve.global.exception.ErrorCode;
+import reserve.global.ratelimit.CredentialRateLimiter;
 import reserve.global.swagger.annotation.ApiErrorCodeResponse;
 import reserve.global.swagger.annotation.ApiErrorCodeResponses;
 import reserve.signup.dto.request.SignUpRequest;
@@ -26,11 +28,17 @@ public class SignUpController {
 
     private final SignUpService signUpService;
 
+    private final CredentialRateLimiter credentialRateLimiter;
+
     @PostMapping
     @Operation(summary = "Sign up", description = "Sign up", operationId = "1_signUp")
     @ApiResponses(@ApiResponse(responseCode = "201", description = "Successfully signed up"))
-    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "409", errorCode = ErrorCode.USERNAME_DUPLICATE))
-    public ResponseEntity<Void> signUp(@RequestBody @Validated SignUpRequest signUpRequest) {
+    @ApiErrorCodeResponses({ @ApiErrorCodeResponse(responseCode = "409", errorCode = ErrorCode.USERNAME_DUPLICATE),
+            @ApiErrorCodeResponse(responseCode = "429", errorCode = ErrorCode.TOO_MANY_REQUESTS),
+            @ApiErrorCodeResponse(responseCode = "503", errorCode = ErrorCode.SERVER_BUSY) })
+    public ResponseEntity<Void> signUp(@RequestBody @Validated SignUpRequest signUpRequest,
+            HttpServletRequest request) {
+        credentialRateLimiter.checkSignUp(request);
         signUpService.signUp(signUpRequest);
         return ResponseEntity.created(URI.create("/v1/users/" + signUpRequest.getUsername())).build();
     }
@@ -0,0 +1,81 @@
+package reserve.slot.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import reserve.global.entity.BaseEntity;
+import reserve.global.id.Tsid;
+import reserve.store.domain.Store;
+
+/**
+ * Reservation capacity of a store for a single hour of a date.
+ *
+ * <p>
+ * {@code reserved} is only changed by the conditional bulk updates in
+ * {@link reserve.slot.infrastructure.SlotRepository}, never through dirty checking.
+ * {@link DynamicUpdate} keeps capacity changes from writing back a stale
+ * {@code reserved} value.
+ * </p>
+ * <p>
+ * An hour the registrant has not configured gets a slot without capacity when its
+ * first seat is taken. Such a slot never fills, but it keeps the count, so that
+ * configuring the hour later only has to set the capacity.
+ * </p>
+ */
+@Entity
+@Table(name = "slots")
+@DynamicUpdate
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class Slot extends BaseEntity {
+
+    @Id
+    @Tsid
+    @Column(name = "slot_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id", nullable = false, updatable = false)
+    private Store store;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDate date;
+
+    @Column(columnDefinition = "TINYINT", nullable = false, updatable = false)
+    private int hour;
+
+    /**
+     * {@code null} if the registrant has not configured the hour.
+     */
+    private Integer capacity;
+
+    @Column(nullable = false)
+    private int reserved;
+
+    public Slot(Store store, LocalDate date, int hour, Integer capacity, int reserved) {
+        this.store = store;
+        this.date = date;
+        this.hour = hour;
+        this.capacity = capacity;
+        this.reserved = reserved;
+    }
+
+    public boolean isConfigured() {
+        return capacity != null;
+    }
+
+    public boolean isFull() {
+        return capacity != null && reserved >= capacity;
+    }
+
+    /**
+     * @return the number of seats still available, or {@link Integer#MAX_VALUE} if the hour is not configured
+     */
+    public int getRemaining() {
+        return capacity == null ? Integer.MAX_VALUE : Math.max(capacity - reserved, 0);
+    }
+
+}
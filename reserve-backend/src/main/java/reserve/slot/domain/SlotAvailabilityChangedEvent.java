@@ -0,0 +1,10 @@
+package reserve.slot.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Published when a slot becomes full or gets a free seat again.
+ */
+public record SlotAvailabilityChangedEvent(Long storeId, LocalDate date, int hour, boolean available) {
+
+}
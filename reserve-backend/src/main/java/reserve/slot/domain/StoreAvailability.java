@@ -0,0 +1,47 @@
+package reserve.slot.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Open hours of a store on a date, packed into the lower 24 bits of an {@code int}. Bit {@code n} is set when hour
+ * {@code n} still accepts reservations.
+ */
+public final class StoreAvailability {
+
+    public static final int HOURS = 24;
+
+    public static final int ALL_OPEN = (1 << HOURS) - 1;
+
+    private StoreAvailability() {
+    }
+
+    public static int of(Iterable<Slot> slots) {
+        int bits = ALL_OPEN;
+        for (Slot slot : slots) {
+            if (slot.isFull()) {
+                bits &= ~(1 << slot.getHour());
+            }
+        }
+        return bits;
+    }
+
+    public static int with(int bits, int hour, boolean available) {
+        return available ? bits | (1 << hour) : bits & ~(1 << hour);
+    }
+
+    public static boolean isAvailable(int bits, int hour) {
+        return (bits & (1 << hour)) != 0;
+    }
+
+    public static List<Integer> toHours(int bits) {
+        List<Integer> hours = new ArrayList<>(Integer.bitCount(bits));
+        for (int hour = 0; hour < HOURS; hour++) {
+            if (isAvailable(bits, hour)) {
+                hours.add(hour);
+            }
+        }
+        return hours;
+    }
+
+}
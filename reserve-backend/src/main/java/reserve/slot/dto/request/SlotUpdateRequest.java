@@ -0,0 +1,33 @@
+package reserve.slot.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class SlotUpdateRequest {
+
+    @Schema(description = "Date", example = "2025-01-01", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Date required.")
+    private LocalDate date;
+
+    @Schema(description = "Hours to configure", example = "[11, 12, 13]", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "Hours required.")
+    @Size(max = 24, message = "Hours are available up to 24 items.")
+    private List<@NotNull(message = "Hour required.") @Min(value = 0,
+            message = "Hour must be between 0 and 23.") @Max(value = 23,
+                    message = "Hour must be between 0 and 23.") Integer> hours = List.of();
+
+    @Schema(description = "Maximum number of reservations per hour", example = "10",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Capacity required.")
+    @Min(value = 0, message = "Capacity must be zero or more.")
+    private Integer capacity;
+
+}
@@ -0,0 +1,22 @@
+package reserve.slot.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class AvailabilityResponse {
+
+    @Schema(description = "Store ID", example = "1")
+    private final Long storeId;
+
+    @Schema(description = "Date", example = "2025-01-01")
+    private final LocalDate date;
+
+    @Schema(description = "Hours that still accept reservations", example = "[11, 12, 18]")
+    private final List<Integer> availableHours;
+
+}
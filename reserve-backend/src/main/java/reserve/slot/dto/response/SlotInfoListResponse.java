@@ -0,0 +1,29 @@
+package reserve.slot.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class SlotInfoListResponse {
+
+    @Schema(description = "Store ID", example = "1")
+    private final Long storeId;
+
+    @Schema(description = "Date", example = "2025-01-01")
+    private final LocalDate date;
+
+    @Schema(description = "Number of configured hours", example = "1")
+    private final long count;
+
+    @Schema(description = "List of configured hours")
+    private final List<SlotInfoResponse> results;
+
+    public static SlotInfoListResponse from(Long storeId, LocalDate date, List<SlotInfoResponse> responses) {
+        return new SlotInfoListResponse(storeId, date, responses.size(), responses);
+    }
+
+}
@@ -0,0 +1,28 @@
+package reserve.slot.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reserve.slot.domain.Slot;
+
+@RequiredArgsConstructor
+@Getter
+public class SlotInfoResponse {
+
+    @Schema(description = "Hour", example = "12")
+    private final int hour;
+
+    @Schema(description = "Maximum number of reservations", example = "10")
+    private final int capacity;
+
+    @Schema(description = "Number of reservations made", example = "3")
+    private final int reserved;
+
+    @Schema(description = "Number of reservations still available", example = "7")
+    private final int remaining;
+
+    public static SlotInfoResponse from(Slot slot) {
+        return new SlotInfoResponse(slot.getHour(), slot.getCapacity(), slot.getReserved(), slot.getRemaining());
+    }
+
+}
@@ -0,0 +1,69 @@
+package reserve.slot.infrastructure;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reserve.global.cache.LruCache;
+import reserve.slot.domain.SlotAvailabilityChangedEvent;
+import reserve.slot.domain.StoreAvailability;
+
+/**
+ * Caches the open hours of each store and date as a {@link StoreAvailability} bitmap.
+ * <p>
+ * Cached entries are kept up to date by {@link SlotAvailabilityChangedEvent}s after their transaction commits.
+ * Entries that are not cached are ignored by the events and loaded from the database on the next read.
+ * </p>
+ * <p>
+ * The events only reach the instance that changed the slot, so entries also expire after
+ * {@code application.availability.cacheTtl} seconds. That bounds how long other instances serve an hour that has
+ * filled or opened since they loaded it.
+ * </p>
+ */
+@Component
+public class AvailabilityCache {
+
+    private final LruCache<Key, CachedAvailability> cache;
+
+    private final long ttlMillis;
+
+    private final Clock clock;
+
+    public AvailabilityCache(@Value("${application.availability.cacheMaxSize:100000}") int maxSize,
+            @Value("${application.availability.cacheTtl:60}") long ttlSeconds, Clock clock) {
+        this.cache = new LruCache<>(maxSize);
+        this.ttlMillis = ttlSeconds * 1000;
+        this.clock = clock;
+    }
+
+    public int get(Long storeId, LocalDate date, Supplier<Integer> loader) {
+        Key key = new Key(storeId, date);
+        CachedAvailability cached = cache.getOrLoad(key, k -> load(loader));
+        if (cached.expiresAt() <= clock.millis()) {
+            cache.computeIfPresent(key, (k, current) -> current == cached ? null : current);
+            cached = cache.getOrLoad(key, k -> load(loader));
+        }
+        return cached.bits();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(SlotAvailabilityChangedEvent event) {
+        cache.computeIfPresent(new Key(event.storeId(), event.date()), (key, cached) -> new CachedAvailability(
+                StoreAvailability.with(cached.bits(), event.hour(), event.available()), cached.expiresAt()));
+    }
+
+    private CachedAvailability load(Supplier<Integer> loader) {
+        return new CachedAvailability(loader.get(), clock.millis() + ttlMillis);
+    }
+
+    private record Key(Long storeId, LocalDate date) {
+
+    }
+
+    private record CachedAvailability(int bits, long expiresAt) {
+
+    }
+
+}
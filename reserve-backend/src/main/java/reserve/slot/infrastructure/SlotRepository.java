@@ -0,0 +1,99 @@
+package reserve.slot.infrastructure;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import reserve.slot.domain.Slot;
+
+public interface SlotRepository extends JpaRepository<Slot, Long> {
+
+    List<Slot> findAllByStoreIdAndDateOrderByHour(Long storeId, LocalDate date);
+
+    Optional<Slot> findByStoreIdAndDateAndHour(Long storeId, LocalDate date, int hour);
+
+    List<Slot> findAllByStoreIdInAndDateIn(Collection<Long> storeIds, Collection<LocalDate> dates);
+
+    /**
+     * Inserts the slot of an hour the registrant has not configured with {@code count} seats taken. If the slot exists
+     * already, nothing but its modification time is changed, which is always moved forward so that the row is reported
+     * as updated. Either way, the row is locked exclusively, not shared, so concurrent callers that find the slot of
+     * one another wait in turn instead of deadlocking on the lock upgrade.
+     * @return 1 if the slot was inserted, or 2 if it exists
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO slots (slot_id, store_id, date, hour, capacity, reserved, created_at, modified_at)
+            VALUES (:id, :storeId, :date, :hour, NULL, :count, :now, :now)
+            ON DUPLICATE KEY UPDATE modified_at = GREATEST(modified_at + INTERVAL 1 MICROSECOND, :now)
+            """, nativeQuery = true)
+    int insertUnconfigured(@Param("id") long id, @Param("storeId") Long storeId, @Param("date") LocalDate date,
+            @Param("hour") int hour, @Param("count") int count, @Param("now") LocalDateTime now);
+
+    /**
+     * Sets the capacity of a slot, inserting it with no seat taken if it does not exist. Every reservation already
+     * has a slot, so a missing slot has no reservations to count.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO slots (slot_id, store_id, date, hour, capacity, reserved, created_at, modified_at)
+            VALUES (:id, :storeId, :date, :hour, :capacity, 0, :now, :now)
+            ON DUPLICATE KEY UPDATE capacity = :capacity, modified_at = :now
+            """, nativeQuery = true)
+    int upsertCapacity(@Param("id") long id, @Param("storeId") Long storeId, @Param("date") LocalDate date,
+            @Param("hour") int hour, @Param("capacity") int capacity, @Param("now") LocalDateTime now);
+
+    /**
+     * Takes {@code count} seats only if the slot still has a free seat afterward, or always if it has no capacity.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Slot slot
+            SET slot.reserved = slot.reserved + :count
+            WHERE slot.store.id = :storeId AND slot.date = :date AND slot.hour = :hour
+                AND (slot.capacity IS NULL OR slot.reserved + :count < slot.capacity)
+            """)
+    int increaseReservedKeepingAvailable(@Param("storeId") Long storeId, @Param("date") LocalDate date,
+            @Param("hour") int hour, @Param("count") int count);
+
+    /**
+     * Takes {@code count} seats if all of them are free.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Slot slot
+            SET slot.reserved = slot.reserved + :count
+            WHERE slot.store.id = :storeId AND slot.date = :date AND slot.hour = :hour
+                AND slot.reserved + :count <= slot.capacity
+            """)
+    int increaseReserved(@Param("storeId") Long storeId, @Param("date") LocalDate date, @Param("hour") int hour,
+            @Param("count") int count);
+
+    /**
+     * Gives a seat back only if the slot has a free seat afterward.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Slot slot
+            SET slot.reserved = slot.reserved - 1
+            WHERE slot.store.id = :storeId AND slot.date = :date AND slot.hour = :hour
+                AND slot.reserved > 0 AND slot.reserved - 1 < slot.capacity
+            """)
+    int decreaseReservedMakingAvailable(@Param("storeId") Long storeId, @Param("date") LocalDate date,
+            @Param("hour") int hour);
+
+    @Modifying
+    @Query("""
+            UPDATE Slot slot
+            SET slot.reserved = slot.reserved - 1
+            WHERE slot.store.id = :storeId AND slot.date = :date AND slot.hour = :hour
+                AND slot.reserved > 0
+            """)
+    int decreaseReserved(@Param("storeId") Long storeId, @Param("date") LocalDate date, @Param("hour") int hour);
+
+}
@@ -0,0 +1,72 @@
+package reserve.slot.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reserve.auth.domain.AuthInfo;
+import reserve.auth.infrastructure.Authentication;
+import reserve.global.exception.ErrorCode;
+import reserve.global.swagger.annotation.ApiErrorCodeResponse;
+import reserve.global.swagger.annotation.ApiErrorCodeResponses;
+import reserve.slot.dto.request.SlotUpdateRequest;
+import reserve.slot.dto.response.AvailabilityResponse;
+import reserve.slot.dto.response.SlotInfoListResponse;
+import reserve.slot.service.SlotService;
+
+@RestController
+@RequestMapping("/v1/stores/{storeId}")
+@RequiredArgsConstructor
+@Tag(name = "Slots", description = "Reservation slot API")
+public class SlotController {
+
+    private final SlotService slotService;
+
+    @PutMapping("/slots")
+    @Operation(summary = "Configure slots",
+            description = "Set the reservation capacity of the given hours of a date. Only the registrant can configure.",
+            operationId = "1_updateSlots")
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "Successfully configured"))
+    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "404", errorCode = ErrorCode.STORE_NOT_FOUND))
+    public void update(@Authentication AuthInfo authInfo,
+            @PathVariable("storeId") @Schema(description = "Store ID", example = "1") Long storeId,
+            @RequestBody @Validated SlotUpdateRequest slotUpdateRequest) {
+        slotService.update(authInfo.getUserId(), storeId, slotUpdateRequest);
+    }
+
+    @GetMapping("/slots")
+    @Operation(summary = "Get slots", description = "Get the configured slots of a store on a date",
+            operationId = "2_getSlots")
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "Response with slot information list",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = SlotInfoListResponse.class))))
+    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "404", errorCode = ErrorCode.STORE_NOT_FOUND))
+    public SlotInfoListResponse getSlots(
+            @PathVariable("storeId") @Schema(description = "Store ID", example = "1") Long storeId,
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @Schema(description = "Date",
+                    example = "2025-01-01") LocalDate date) {
+        return slotService.getSlots(storeId, date);
+    }
+
+    @GetMapping("/availability")
+    @Operation(summary = "Get availability", description = "Get the hours of a date that still accept reservations",
+            operationId = "3_getAvailability")
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "Response with available hours",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = AvailabilityResponse.class))))
+    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "404", errorCode = ErrorCode.STORE_NOT_FOUND))
+    public AvailabilityResponse getAvailability(
+            @PathVariable("storeId") @Schema(description = "Store ID", example = "1") Long storeId,
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @Schema(description = "Date",
+                    example = "2025-01-01") LocalDate date) {
+        return slotService.getAvailability(storeId, date);
+    }
+
+}
@@ -0,0 +1,180 @@
+package reserve.slot.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.ResourceNotFoundException;
+import reserve.global.exception.SlotCapacityException;
+import reserve.global.id.TsidFactory;
+import reserve.slot.domain.Slot;
+import reserve.slot.domain.SlotAvailabilityChangedEvent;
+import reserve.slot.domain.StoreAvailability;
+import reserve.slot.dto.request.SlotUpdateRequest;
+import reserve.slot.dto.response.AvailabilityResponse;
+import reserve.slot.dto.response.SlotInfoListResponse;
+import reserve.slot.dto.response.SlotInfoResponse;
+import reserve.slot.infrastructure.AvailabilityCache;
+import reserve.slot.infrastructure.SlotRepository;
+import reserve.store.infrastructure.StoreRepository;
+
+@Service
+@RequiredArgsConstructor
+public class SlotService {
+
+    private final SlotRepository slotRepository;
+
+    private final StoreRepository storeRepository;
+
+    private final AvailabilityCache availabilityCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TsidFactory tsidFactory;
+
+    /**
+     * Takes one reservation out of the slot of the given store, date and hour. Hours the registrant has not configured
+     * are not limited, but their reservations are counted in a slot without capacity.
+     * @throws SlotCapacityException if the slot has no remaining capacity
+     */
+    @Transactional
+    public void acquire(Long storeId, LocalDate date, int hour) {
+        acquire(storeId, date, hour, slotRepository.findByStoreIdAndDateAndHour(storeId, date, hour).orElse(null));
+    }
+
+    /**
+     * Same as {@link #acquire(Long, LocalDate, int)}, but starts from {@code slot}, the slot as read earlier in the
+     * transaction, instead of reading it again. Callers that read the slot with their own validation query take the
+     * seat with a single statement.
+     * @param slot the slot of the hour, or {@code null} if it did not exist
+     * @throws SlotCapacityException if the slot has no remaining capacity
+     */
+    @Transactional
+    public void acquire(Long storeId, LocalDate date, int hour, Slot slot) {
+        if (!tryAcquire(storeId, date, hour, 1, slot)) {
+            throw new SlotCapacityException(ErrorCode.RESERVATION_SLOT_FULL);
+        }
+    }
+
+    /**
+     * Takes {@code count} reservations out of a slot at once, or none of them if they do not all fit. Unlike
+     * {@link #acquire(Long, LocalDate, int)}, a full slot is reported by the return value, so callers can go on with
+     * other slots in the same transaction.
+     * @return {@code false} if the slot does not have {@code count} remaining seats
+     */
+    @Transactional
+    public boolean tryAcquire(Long storeId, LocalDate date, int hour, int count) {
+        return tryAcquire(storeId, date, hour, count,
+                slotRepository.findByStoreIdAndDateAndHour(storeId, date, hour).orElse(null));
+    }
+
+    /**
+     * Same as {@link #tryAcquire(Long, LocalDate, int, int)}, but starts from {@code slot}, the slot as read earlier in
+     * the transaction, instead of reading it again.
+     * <p>
+     * The slot as read picks the first statement, and every statement checks and takes the seats at once, so the row
+     * lock is the only coordination between concurrent requests. Callers should invoke this as late in their
+     * transaction as they can to keep the lock hold time short.
+     * </p>
+     * <ul>
+     *     <li>A missing slot is inserted without capacity. Only if another transaction has inserted it in the meantime
+     *     are the conditional updates below run, under the row lock of the insert.</li>
+     *     <li>A slot with more seats remaining than {@code count} is taken with an update that keeps it open. If the
+     *     seats have been taken in the meantime, the next update is tried.</li>
+     *     <li>A slot with exactly {@code count} seats remaining is taken with an update that fills it, which is
+     *     published as an availability change.</li>
+     *     <li>A slot read with fewer seats remaining is rejected without a statement. Seats freed since the read are
+     *     only seen by later requests.</li>
+     * </ul>
+     * Slots are never deleted, so a slot that was read is still there.
+     * @param slot the slot of the hour, or {@code null} if it did not exist
+     */
+    @Transactional
+    public boolean tryAcquire(Long storeId, LocalDate date, int hour, int count, Slot slot) {
+        if (slot == null) {
+            if (slotRepository.insertUnconfigured(tsidFactory.generate(), storeId, date, hour, count,
+                    LocalDateTime.now()) == 1) {
+                return true;
+            }
+        }
+        else if (slot.getRemaining() < count) {
+            return false;
+        }
+        if ((slot == null || slot.getRemaining() > count)
+                && slotRepository.increaseReservedKeepingAvailable(storeId, date, hour, count) > 0) {
+            return true;
+        }
+        if (slotRepository.increaseReserved(storeId, date, hour, count) > 0) {
+            eventPublisher.publishEvent(new SlotAvailabilityChangedEvent(storeId, date, hour, false));
+            return true;
+        }
+        return false;
+    }
+
+    @Transactional
+    public void release(Long storeId, LocalDate date, int hour) {
+        if (slotRepository.decreaseReservedMakingAvailable(storeId, date, hour) > 0) {
+            eventPublisher.publishEvent(new SlotAvailabilityChangedEvent(storeId, date, hour, true));
+            return;
+        }
+        slotRepository.decreaseReserved(storeId, date, hour);
+    }
+
+    /**
+     * Sets the capacity of the given hours. Every reservation is counted in the slot of its hour, configured or not,
+     * so each hour is a single upsert that keeps the count and locks the row. Hours are upserted in ascending order,
+     * the order reservations take slots in.
+     */
+    @Transactional
+    public void update(Long userId, Long storeId, SlotUpdateRequest slotUpdateRequest) {
+        if (storeRepository.findByIdAndUserId(storeId, userId).isEmpty()) {
+            throw new ResourceNotFoundException(ErrorCode.STORE_NOT_FOUND);
+        }
+        LocalDate date = slotUpdateRequest.getDate();
+        Set<Integer> hours = new TreeSet<>(slotUpdateRequest.getHours());
+        LocalDateTime now = LocalDateTime.now();
+        for (int hour : hours) {
+            slotRepository.upsertCapacity(tsidFactory.generate(), storeId, date, hour,
+                    slotUpdateRequest.getCapacity(), now);
+        }
+        slotRepository.findAllByStoreIdAndDateOrderByHour(storeId, date)
+            .stream()
+            .filter(slot -> hours.contains(slot.getHour()))
+            .forEach(slot -> eventPublisher.publishEvent(
+                    new SlotAvailabilityChangedEvent(storeId, date, slot.getHour(), !slot.isFull())));
+    }
+
+    @Transactional(readOnly = true)
+    public SlotInfoListResponse getSlots(Long storeId, LocalDate date) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new ResourceNotFoundException(ErrorCode.STORE_NOT_FOUND);
+        }
+        List<SlotInfoResponse> responses = slotRepository.findAllByStoreIdAndDateOrderByHour(storeId, date)
+            .stream()
+            .filter(Slot::isConfigured)
+            .map(SlotInfoResponse::from)
+            .toList();
+        return SlotInfoListResponse.from(storeId, date, responses);
+    }
+
+    /**
+     * Returns the open hours of a store on a date. Reads are served from {@link AvailabilityCache}; the database is
+     * only queried on a cache miss, so this method deliberately runs without a transaction.
+     */
+    public AvailabilityResponse getAvailability(Long storeId, LocalDate date) {
+        int bits = availabilityCache.get(storeId, date, () -> {
+            if (!storeRepository.existsById(storeId)) {
+                throw new ResourceNotFoundException(ErrorCode.STORE_NOT_FOUND);
+            }
+            return StoreAvailability.of(slotRepository.findAllByStoreIdAndDateOrderByHour(storeId, date));
+        });
+        return new AvailabilityResponse(storeId, date, StoreAvailability.toHours(bits));
+    }
+
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.SQLRestriction;
 import reserve.global.entity.DeletableBaseEntity;
+import reserve.global.id.Tsid;
 import reserve.user.domain.User;
 
 @Entity
@@ -17,7 +18,7 @@ import reserve.user.domain.User;
 public class Store extends DeletableBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     @Column(name = "store_id", nullable = false)
     private Long id;
 
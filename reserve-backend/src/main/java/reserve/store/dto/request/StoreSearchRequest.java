@@ -1,7 +1,11 @@
 package reserve.store.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -19,4 +23,19 @@ public class StoreSearchRequest {
     @Size(min = 0, message = "'query' cannot be empty string.")
     private String query;
 
+    @Schema(description = "Date of the reservation. Only stores with a free seat at 'date' and 'hour' are returned.",
+            example = "2025-01-01")
+    private LocalDate date;
+
+    @Schema(description = "Hour of the reservation. Must be given together with 'date'.", example = "19")
+    @Min(value = 0, message = "Hour must be between 0 and 23.")
+    @Max(value = 23, message = "Hour must be between 0 and 23.")
+    private Integer hour;
+
+    @Schema(hidden = true)
+    @AssertTrue(message = "'date' and 'hour' must be given together.")
+    public boolean isAvailabilityConditionValid() {
+        return (date == null) == (hour == null);
+    }
+
 }
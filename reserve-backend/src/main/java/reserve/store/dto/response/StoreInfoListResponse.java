@@ -8,13 +8,14 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @RequiredArgsConstructor
 @Getter
 @JsonPropertyOrder({ "count", "pageSize", "pageNumber", "hasNext", "results" })
 public class StoreInfoListResponse {
 
-    @Schema(description = "Total number of stores", example = "1")
+    @Schema(description = "Total number of stores, or -1 if not counted", example = "1")
     private final long count;
 
     @Schema(description = "Number of stores per page", example = "1")
@@ -36,8 +37,15 @@ public class StoreInfoListResponse {
     }
 
     public static StoreInfoListResponse from(Page<StoreInfoResponse> page) {
-        return new StoreInfoListResponse(page.getTotalElements(), page.getPageable().getPageSize(),
-                page.getPageable().getPageNumber(), page.hasNext(), page.getContent());
+        return from(page, page.getTotalElements());
+    }
+
+    /**
+     * @param count total number of results, or {@code -1} if it was not counted
+     */
+    public static StoreInfoListResponse from(Slice<StoreInfoResponse> slice, long count) {
+        return new StoreInfoListResponse(count, slice.getPageable().getPageSize(), slice.getPageable().getPageNumber(),
+                slice.hasNext(), slice.getContent());
     }
 
 }
@@ -1,5 +1,6 @@
 package reserve.store.infrastructure;
 
+import static reserve.slot.domain.QSlot.*;
 import static reserve.store.domain.QStore.*;
 
 import com.querydsl.core.BooleanBuilder;
@@ -7,15 +8,19 @@ import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
+import reserve.global.pagination.Slices;
 import reserve.store.dto.request.StoreSearchRequest;
 import reserve.store.dto.response.StoreInfoResponse;
 
@@ -32,9 +37,7 @@ public class StoreQueryRepository {
     }
 
     public Page<StoreInfoResponse> findResponsesBySearch(StoreSearchRequest storeSearchRequest, Pageable pageable) {
-        BooleanBuilder condition = new BooleanBuilder();
-        condition.and(registrantUsernameCondition(storeSearchRequest.getRegistrant()));
-        condition.and(queryStringCondition(storeSearchRequest.getQuery()));
+        BooleanBuilder condition = searchCondition(storeSearchRequest);
 
         List<StoreInfoResponse> content = queryFactory.select(getStoreInfoResponseProjection())
             .from(store)
@@ -48,6 +51,37 @@ public class StoreQueryRepository {
         return new PageImpl<>(content, pageable, count);
     }
 
+    /**
+     * Same as {@link #findResponsesBySearch} without the count query. One extra row is fetched to find out whether
+     * there is a next page.
+     */
+    public Slice<StoreInfoResponse> findSliceBySearch(StoreSearchRequest storeSearchRequest, Pageable pageable) {
+        List<StoreInfoResponse> content = queryFactory.select(getStoreInfoResponseProjection())
+            .from(store)
+            .where(searchCondition(storeSearchRequest))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize() + 1L)
+            .fetch();
+
+        return Slices.of(content, pageable);
+    }
+
+    public long countBySearch(StoreSearchRequest storeSearchRequest) {
+        Long count = queryFactory.select(store.count())
+            .from(store)
+            .where(searchCondition(storeSearchRequest))
+            .fetchOne();
+        return count != null ? count : 0;
+    }
+
+    private BooleanBuilder searchCondition(StoreSearchRequest storeSearchRequest) {
+        BooleanBuilder condition = new BooleanBuilder();
+        condition.and(registrantUsernameCondition(storeSearchRequest.getRegistrant()));
+        condition.and(queryStringCondition(storeSearchRequest.getQuery()));
+        condition.and(availabilityCondition(storeSearchRequest.getDate(), storeSearchRequest.getHour()));
+        return condition;
+    }
+
     private static ConstructorExpression<StoreInfoResponse> getStoreInfoResponseProjection() {
         return Projections.constructor(StoreInfoResponse.class, store.id, store.user.username, store.name,
                 store.address, store.description);
@@ -68,4 +102,20 @@ public class StoreQueryRepository {
         return null;
     }
 
+    /**
+     * Excludes stores whose slot at the given date and hour is full. Hours without a slot are not limited, so an
+     * anti-join against the full slots is enough. It is resolved within
+     * {@code ix_slots_date_hour_storeid_reserved_capacity} without touching the slot rows.
+     */
+    private static BooleanExpression availabilityCondition(LocalDate date, Integer hour) {
+        if (date != null && hour != null) {
+            return JPAExpressions.selectOne()
+                .from(slot)
+                .where(slot.date.eq(date), slot.hour.eq(hour), slot.store.id.eq(store.id),
+                        slot.reserved.goe(slot.capacity))
+                .notExists();
+        }
+        return null;
+    }
+
 }
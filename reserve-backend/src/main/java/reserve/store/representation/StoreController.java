@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 import reserve.auth.domain.AuthInfo;
 import reserve.auth.infrastructure.Authentication;
 import reserve.global.exception.ErrorCode;
+import reserve.global.pagination.CountMode;
 import reserve.global.swagger.annotation.ApiErrorCodeResponse;
 import reserve.global.swagger.annotation.ApiErrorCodeResponses;
 import reserve.store.dto.request.StoreCreateRequest;
@@ -56,15 +57,19 @@ public class StoreController {
     }
 
     @GetMapping
-    @Operation(summary = "Search stores", description = "Search stores by username of registrant and query string",
+    @Operation(summary = "Search stores",
+            description = "Search stores by username of registrant, query string, and free seats at a date and hour",
             operationId = "3_searchStores")
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Response with store information list",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = StoreInfoListResponse.class))))
     public StoreInfoListResponse search(
             @ModelAttribute @Validated @ParameterObject StoreSearchRequest storeSearchRequest,
-            @ParameterObject Pageable pageable) {
-        return storeService.search(storeSearchRequest, pageable);
+            @ParameterObject Pageable pageable,
+            @RequestParam(value = "total", defaultValue = "EXACT") @Schema(
+                    description = "How to count the total: EXACT, CACHED (may be stale), or NONE (count is -1)",
+                    example = "NONE") CountMode total) {
+        return storeService.search(storeSearchRequest, pageable, total);
     }
 
     @PutMapping("/{storeId}")
@@ -3,12 +3,15 @@ package reserve.store.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import reserve.global.exception.AuthenticationException;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.ResourceNotFoundException;
+import reserve.global.pagination.CountCache;
+import reserve.global.pagination.CountMode;
 import reserve.store.domain.Store;
 import reserve.store.dto.request.StoreCreateRequest;
 import reserve.store.dto.request.StoreSearchRequest;
@@ -29,6 +32,8 @@ public class StoreService {
 
     private final UserRepository userRepository;
 
+    private final CountCache countCache;
+
     @Transactional
     public Long create(Long userId, StoreCreateRequest storeCreateRequest) {
         if (!userRepository.existsById(userId)) {
@@ -46,9 +51,20 @@ public class StoreService {
     }
 
     @Transactional(readOnly = true)
-    public StoreInfoListResponse search(StoreSearchRequest storeSearchRequest, Pageable pageable) {
-        Page<StoreInfoResponse> page = storeQueryRepository.findResponsesBySearch(storeSearchRequest, pageable);
-        return StoreInfoListResponse.from(page);
+    public StoreInfoListResponse search(StoreSearchRequest storeSearchRequest, Pageable pageable,
+            CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            Page<StoreInfoResponse> page = storeQueryRepository.findResponsesBySearch(storeSearchRequest, pageable);
+            return StoreInfoListResponse.from(page);
+        }
+        Slice<StoreInfoResponse> slice = storeQueryRepository.findSliceBySearch(storeSearchRequest, pageable);
+        long count = -1;
+        if (countMode == CountMode.CACHED) {
+            String key = CountCache.key("stores", storeSearchRequest.getRegistrant(), storeSearchRequest.getQuery(),
+                    storeSearchRequest.getDate(), storeSearchRequest.getHour());
+            count = countCache.get(key, slice, () -> storeQueryRepository.countBySearch(storeSearchRequest));
+        }
+        return StoreInfoListResponse.from(slice, count);
     }
 
     @Transactional
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.SQLRestriction;
 import reserve.global.entity.DeletableBaseEntity;
+import reserve.global.id.Tsid;
 
 @Entity
 @Table(name = "users")
@@ -16,7 +17,7 @@ import reserve.global.entity.DeletableBaseEntity;
 public class User extends DeletableBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     @Column(name = "user_id")
     private Long id;
 
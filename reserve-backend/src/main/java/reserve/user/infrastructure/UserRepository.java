@@ -5,12 +5,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import reserve.user.domain.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByUsername(String username);
 
+    @Transactional(readOnly = true)
     Optional<User> findByUsername(String username);
 
     @Modifying
@@ -21,4 +23,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
             """)
     void deleteById(@Param("userId") Long id);
 
+    /**
+     * Replaces the password hash of a user only if it is still {@code oldPasswordHash}, so that a password changed in
+     * the meantime is never overwritten. Runs in a transaction of its own unless called in one.
+     * @return 1 if the hash was replaced
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE User user
+            SET user.passwordHash = :newPasswordHash
+            WHERE user.id = :userId AND user.passwordHash = :oldPasswordHash
+            """)
+    int updatePasswordHash(@Param("userId") Long id, @Param("oldPasswordHash") String oldPasswordHash,
+            @Param("newPasswordHash") String newPasswordHash);
+
 }
@@ -55,7 +55,8 @@ public class UserController {
             operationId = "3_updatePassword")
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Successfully updated"))
     @ApiErrorCodeResponses({ @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.INVALID_SIGN_IN_INFO),
-            @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.WRONG_PASSWORD) })
+            @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.WRONG_PASSWORD),
+            @ApiErrorCodeResponse(responseCode = "503", errorCode = ErrorCode.SERVER_BUSY) })
     public void updatePassword(@Authentication AuthInfo authInfo,
             @RequestBody @Validated PasswordUpdateRequest passwordUpdateRequest) {
         userService.updatePassword(authInfo.getUserId(), passwordUpdateRequest);
@@ -65,7 +66,8 @@ public class UserController {
     @Operation(summary = "Delete user", description = "Delete the signed-in user", operationId = "4_deleteUser")
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Successfully deleted"))
     @ApiErrorCodeResponses({ @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.INVALID_SIGN_IN_INFO),
-            @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.WRONG_PASSWORD) })
+            @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.WRONG_PASSWORD),
+            @ApiErrorCodeResponse(responseCode = "503", errorCode = ErrorCode.SERVER_BUSY) })
     public void delete(@Authentication AuthInfo authInfo, @RequestBody @Validated UserDeleteRequest userDeleteRequest) {
         userService.delete(authInfo.getUserId(), userDeleteRequest);
     }
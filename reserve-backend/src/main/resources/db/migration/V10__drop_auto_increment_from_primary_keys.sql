@@ -0,0 +1,18 @@
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE users
+    MODIFY user_id BIGINT NOT NULL;
+ALTER TABLE stores
+    MODIFY store_id BIGINT NOT NULL;
+ALTER TABLE reservations
+    MODIFY reservation_id BIGINT NOT NULL;
+ALTER TABLE notifications
+    MODIFY notification_id BIGINT NOT NULL;
+ALTER TABLE menus
+    MODIFY menu_id BIGINT NOT NULL;
+ALTER TABLE reservation_menus
+    MODIFY reservation_menu_id BIGINT NOT NULL;
+ALTER TABLE slots
+    MODIFY slot_id BIGINT NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
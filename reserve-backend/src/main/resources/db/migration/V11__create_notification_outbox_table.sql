@@ -0,0 +1,10 @@
+CREATE TABLE notification_outbox
+(
+    outbox_id          BIGINT       NOT NULL,
+    reservation_id     BIGINT       NOT NULL,
+    message            VARCHAR(255) NOT NULL,
+    registrant_message VARCHAR(255) NOT NULL,
+    created_at         DATETIME(6)  NOT NULL,
+    modified_at        DATETIME(6)  NOT NULL,
+    PRIMARY KEY (outbox_id)
+);
@@ -0,0 +1 @@
+CREATE INDEX ix_notifications_userid_status ON notifications (user_id, status);
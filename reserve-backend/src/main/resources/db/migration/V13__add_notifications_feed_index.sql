@@ -0,0 +1 @@
+CREATE INDEX ix_notifications_userid_createdat_id ON notifications (user_id, created_at, notification_id);
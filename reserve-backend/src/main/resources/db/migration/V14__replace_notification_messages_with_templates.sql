@@ -0,0 +1,64 @@
+ALTER TABLE notifications
+    ADD COLUMN template SMALLINT     NULL AFTER resource_id,
+    ADD COLUMN args     VARCHAR(255) NULL AFTER template;
+
+UPDATE notifications
+SET template = CASE message
+                   WHEN 'Reservation has been created.' THEN 1
+                   WHEN 'New customer has made a reservation.' THEN 2
+                   WHEN 'Reservation has been updated.' THEN 3
+                   WHEN 'Customer has updated the reservation.' THEN 4
+                   WHEN 'Reservation has been canceled.' THEN 5
+                   WHEN 'Customer has canceled the reservation.' THEN 6
+                   WHEN 'Reservation has been cancelled.' THEN 7
+                   WHEN 'Customer has cancelled the reservation.' THEN 8
+                   WHEN 'Service has been started.' THEN 9
+                   WHEN 'Service has been completed.' THEN 10
+                   ELSE 0
+    END;
+
+-- Unknown messages are kept as the argument of the legacy template
+UPDATE notifications
+SET args = message
+WHERE template = 0;
+
+ALTER TABLE notifications
+    DROP COLUMN message,
+    MODIFY COLUMN template SMALLINT NOT NULL;
+
+ALTER TABLE notification_outbox
+    ADD COLUMN template            SMALLINT     NULL AFTER reservation_id,
+    ADD COLUMN registrant_template SMALLINT     NULL AFTER template,
+    ADD COLUMN args                VARCHAR(255) NULL AFTER registrant_template;
+
+UPDATE notification_outbox
+SET template            = CASE message
+                              WHEN 'Reservation has been created.' THEN 1
+                              WHEN 'Reservation has been updated.' THEN 3
+                              WHEN 'Reservation has been canceled.' THEN 5
+                              WHEN 'Reservation has been cancelled.' THEN 7
+                              WHEN 'Service has been started.' THEN 9
+                              WHEN 'Service has been completed.' THEN 10
+                              ELSE 0
+    END,
+    registrant_template = CASE registrant_message
+                              WHEN 'New customer has made a reservation.' THEN 2
+                              WHEN 'Customer has updated the reservation.' THEN 4
+                              WHEN 'Customer has canceled the reservation.' THEN 6
+                              WHEN 'Customer has cancelled the reservation.' THEN 8
+                              WHEN 'Service has been started.' THEN 9
+                              WHEN 'Service has been completed.' THEN 10
+                              ELSE 0
+        END;
+
+-- Entries with unknown messages would need two arguments; they are delivered with the user's message to both sides
+UPDATE notification_outbox
+SET args = message
+WHERE template = 0
+   OR registrant_template = 0;
+
+ALTER TABLE notification_outbox
+    DROP COLUMN message,
+    DROP COLUMN registrant_message,
+    MODIFY COLUMN template SMALLINT NOT NULL,
+    MODIFY COLUMN registrant_template SMALLINT NOT NULL;
@@ -0,0 +1,21 @@
+-- A slot without capacity is an hour the registrant has not configured, whose reservations are only counted
+ALTER TABLE slots
+    MODIFY capacity INT NULL;
+
+-- TSIDs are positive, so the negative IDs of the backfilled slots never collide with generated ones
+INSERT INTO slots (slot_id, store_id, date, hour, capacity, reserved, created_at, modified_at)
+SELECT -ROW_NUMBER() OVER (ORDER BY counted.store_id, counted.date, counted.hour),
+       counted.store_id,
+       counted.date,
+       counted.hour,
+       NULL,
+       counted.reserved,
+       NOW(6),
+       NOW(6)
+FROM (SELECT reservations.store_id, reservations.date, reservations.hour, COUNT(*) AS reserved
+      FROM reservations
+      WHERE reservations.status <> 'CANCELLED'
+      GROUP BY reservations.store_id, reservations.date, reservations.hour) counted
+         LEFT JOIN slots
+                   ON slots.store_id = counted.store_id AND slots.date = counted.date AND slots.hour = counted.hour
+WHERE slots.slot_id IS NULL;
@@ -0,0 +1,14 @@
+CREATE TABLE slots
+(
+    slot_id     BIGINT AUTO_INCREMENT,
+    store_id    BIGINT      NOT NULL,
+    date        DATE        NOT NULL,
+    hour        TINYINT     NOT NULL,
+    capacity    INT         NOT NULL,
+    reserved    INT         NOT NULL DEFAULT 0,
+    created_at  DATETIME(6) NOT NULL,
+    modified_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (slot_id),
+    UNIQUE INDEX ux_slots_storeid_date_hour (store_id, date, hour),
+    CONSTRAINT fk_slots_stores_storeid FOREIGN KEY (store_id) REFERENCES stores (store_id)
+);
@@ -0,0 +1 @@
+CREATE INDEX ix_slots_date_hour_storeid_reserved_capacity ON slots (date, hour, store_id, reserved, capacity);
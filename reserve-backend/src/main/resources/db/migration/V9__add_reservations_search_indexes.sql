@@ -0,0 +1,3 @@
+CREATE INDEX ix_reservations_userid_date_hour ON reservations (user_id, date, hour);
+
+CREATE INDEX ix_reservations_storeid_date_hour ON reservations (store_id, date, hour);
@@ -0,0 +1,115 @@
+package reserve.global.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+    @Test
+    @DisplayName("Testing eviction of the least recently used entry")
+    void testEviction() {
+        LruCache<String, Integer> cache = new LruCache<>(2, 1);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Testing loading of absent entries")
+    void testGetOrLoad() {
+        LruCache<String, Integer> cache = new LruCache<>(16);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, cache.getOrLoad("a", key -> loads.incrementAndGet()));
+        assertEquals(1, cache.getOrLoad("a", key -> loads.incrementAndGet()));
+        assertNull(cache.getOrLoad("b", key -> null));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Testing that updates only apply to cached entries")
+    void testComputeIfPresent() {
+        LruCache<String, Integer> cache = new LruCache<>(16);
+        cache.put("a", 1);
+
+        cache.computeIfPresent("a", (key, value) -> value + 1);
+        cache.computeIfPresent("b", (key, value) -> value + 1);
+
+        assertEquals(2, cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    @DisplayName("Testing that concurrent misses of a key wait for a single load")
+    void testConcurrentLoad() throws Exception {
+        LruCache<String, Integer> cache = new LruCache<>(16);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> cache.getOrLoad("a", key -> {
+            loading.countDown();
+            await(release);
+            return loads.incrementAndGet();
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> second = CompletableFuture
+            .supplyAsync(() -> cache.getOrLoad("a", key -> loads.incrementAndGet()));
+
+        assertEquals(1, cache.getOrLoad("b", key -> 1));
+        release.countDown();
+        assertEquals(1, first.get(5, TimeUnit.SECONDS));
+        assertEquals(1, second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.get("a"));
+    }
+
+    @Test
+    @DisplayName("Testing that a value loaded across a write of its key is not cached")
+    void testWriteDuringLoad() {
+        LruCache<String, Integer> cache = new LruCache<>(16);
+
+        assertEquals(1, cache.getOrLoad("a", key -> {
+            cache.remove("a");
+            return 1;
+        }));
+
+        assertNull(cache.get("a"));
+        assertEquals(2, cache.getOrLoad("a", key -> 2));
+    }
+
+    @Test
+    @DisplayName("Testing that a failed load is not cached")
+    void testFailedLoad() {
+        LruCache<String, Integer> cache = new LruCache<>(16);
+
+        assertThrows(IllegalStateException.class, () -> cache.getOrLoad("a", key -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(1, cache.getOrLoad("a", key -> 1));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        }
+        catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
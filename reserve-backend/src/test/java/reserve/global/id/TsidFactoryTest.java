@@ -0,0 +1,84 @@
+package reserve.global.id;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reserve.support.MutableClock;
+
+class TsidFactoryTest {
+
+    @Test
+    @DisplayName("Testing that IDs keep increasing within a millisecond and across clock changes")
+    void testMonotonic() {
+        MutableClock clock = new MutableClock(TsidFactory.EPOCH.plusSeconds(60), ZoneOffset.UTC);
+        TsidFactory factory = new TsidFactory(3, clock);
+
+        long previous = factory.generate();
+        for (int i = 0; i < 1000; i++) {
+            long id = factory.generate();
+            assertTrue(id > previous);
+            previous = id;
+        }
+
+        clock.advance(Duration.ofSeconds(-10));
+        assertTrue(factory.generate() > previous);
+    }
+
+    @Test
+    @DisplayName("Testing the layout of generated IDs")
+    void testLayout() {
+        MutableClock clock = new MutableClock(TsidFactory.EPOCH.plusMillis(5), ZoneOffset.UTC);
+        TsidFactory factory = new TsidFactory(TsidFactory.MAX_NODE, clock);
+
+        long id = factory.generate();
+
+        assertEquals(5, id >>> (TsidFactory.NODE_BITS + TsidFactory.SEQUENCE_BITS));
+        assertEquals(TsidFactory.MAX_NODE, (id >>> TsidFactory.SEQUENCE_BITS) & TsidFactory.MAX_NODE);
+        assertEquals(0, id & ((1 << TsidFactory.SEQUENCE_BITS) - 1));
+    }
+
+    @Test
+    @DisplayName("Testing uniqueness of IDs generated concurrently")
+    void testConcurrentUniqueness() {
+        TsidFactory factory = new TsidFactory(0);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(factory.generate()));
+
+        assertEquals(100_000, ids.size());
+    }
+
+    @Test
+    @DisplayName("Testing the smallest ID of a time")
+    void testMinIdAt() {
+        MutableClock clock = new MutableClock(TsidFactory.EPOCH.plusSeconds(60), ZoneOffset.UTC);
+        TsidFactory factory = new TsidFactory(TsidFactory.MAX_NODE, clock);
+
+        long minId = TsidFactory.minIdAt(clock.instant());
+        assertTrue(factory.generate() >= minId);
+        assertTrue(TsidFactory.minIdAt(clock.instant().plusMillis(1)) > factory.generate());
+        assertEquals(0, TsidFactory.minIdAt(TsidFactory.EPOCH.minusSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("Testing that the shared factory of a node is a single instance")
+    void testSharedFactory() {
+        assertSame(TsidFactory.shared(7), TsidFactory.shared(7));
+        assertNotSame(TsidFactory.shared(7), TsidFactory.shared(8));
+        assertThrows(IllegalArgumentException.class, () -> TsidFactory.shared(TsidFactory.MAX_NODE + 1));
+    }
+
+    @Test
+    @DisplayName("Testing rejection of out of range node IDs")
+    void testInvalidNode() {
+        assertThrows(IllegalArgumentException.class, () -> new TsidFactory(TsidFactory.MAX_NODE + 1));
+        assertThrows(IllegalArgumentException.class, () -> new TsidFactory(-1));
+    }
+
+}
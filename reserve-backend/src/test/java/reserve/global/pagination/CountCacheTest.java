@@ -0,0 +1,48 @@
+package reserve.global.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import reserve.support.MutableClock;
+
+class CountCacheTest {
+
+    final MutableClock clock = new MutableClock(Instant.now(), ZoneId.systemDefault());
+
+    final CountCache countCache = new CountCache(16, 60, clock);
+
+    @Test
+    @DisplayName("Testing that counts are reused until they expire")
+    void testCountExpiration() {
+        AtomicInteger counted = new AtomicInteger();
+        String key = CountCache.key("stores", "user", "pasta");
+
+        assertEquals(10, countCache.get(key, () -> counted.incrementAndGet() * 10L));
+        assertEquals(10, countCache.get(key, () -> counted.incrementAndGet() * 10L));
+        assertEquals(1, counted.get());
+
+        clock.advance(Duration.ofSeconds(61));
+
+        assertEquals(20, countCache.get(key, () -> counted.incrementAndGet() * 10L));
+        assertEquals(2, counted.get());
+    }
+
+    @Test
+    @DisplayName("Testing that a single-page result is counted without the counter")
+    void testSinglePageCount() {
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 20), false);
+
+        assertEquals(2, countCache.get("key", slice, () -> {
+            throw new AssertionError("Should not count");
+        }));
+    }
+
+}
@@ -0,0 +1,56 @@
+package reserve.global.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientAddressResolverTest {
+
+    final ClientAddressResolver clientAddressResolver = new ClientAddressResolver(List.of("10.0.0.0/8", "192.168.1.1"));
+
+    @Test
+    @DisplayName("Testing that the client is the rightmost forwarded address not added by a trusted proxy")
+    void testTrustedProxy() {
+        assertEquals("203.0.113.7", clientAddressResolver.resolve(request("10.1.2.3", "203.0.113.7")));
+        assertEquals("203.0.113.7",
+                clientAddressResolver.resolve(request("10.1.2.3", "198.51.100.1, 203.0.113.7, 192.168.1.1")));
+        assertEquals("203.0.113.7", clientAddressResolver.resolve(request("10.1.2.3", "198.51.100.1", "203.0.113.7")));
+        assertEquals("10.1.2.3", clientAddressResolver.resolve(request("10.1.2.3")));
+    }
+
+    @Test
+    @DisplayName("Testing that forwarded addresses are ignored unless the request comes from a trusted proxy")
+    void testUntrustedRemoteAddress() {
+        assertEquals("203.0.113.7", clientAddressResolver.resolve(request("203.0.113.7", "198.51.100.1")));
+        assertEquals("192.168.1.2", clientAddressResolver.resolve(request("192.168.1.2", "198.51.100.1")));
+        assertEquals("10.1.2.3",
+                new ClientAddressResolver(List.of()).resolve(request("10.1.2.3", "198.51.100.1")));
+    }
+
+    @Test
+    @DisplayName("Testing that a forwarded value which is not an address is taken as is rather than trusted")
+    void testMalformedForwardedAddress() {
+        assertEquals("unknown", clientAddressResolver.resolve(request("10.1.2.3", "203.0.113.7, unknown")));
+        assertEquals("10.0.0.300", clientAddressResolver.resolve(request("10.1.2.3", "10.0.0.300")));
+    }
+
+    @Test
+    @DisplayName("Testing rejection of malformed trusted proxies")
+    void testInvalidTrustedProxy() {
+        assertThrows(IllegalArgumentException.class, () -> new ClientAddressResolver(List.of("proxy.example.com")));
+        assertThrows(IllegalArgumentException.class, () -> new ClientAddressResolver(List.of("10.0.0.0/33")));
+    }
+
+    private MockHttpServletRequest request(String remoteAddress, String... forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        for (String value : forwardedFor) {
+            request.addHeader(ClientAddressResolver.FORWARDED_FOR_HEADER, value);
+        }
+        return request;
+    }
+
+}
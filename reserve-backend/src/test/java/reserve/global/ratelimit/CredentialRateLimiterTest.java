@@ -0,0 +1,51 @@
+package reserve.global.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import reserve.global.exception.RateLimitException;
+import reserve.support.MutableClock;
+
+class CredentialRateLimiterTest {
+
+    final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    final CredentialRateLimiter credentialRateLimiter = new CredentialRateLimiter(
+            new LocalRateLimiter(clock, 60_000, 100), new ClientAddressResolver(List.of()), 5, 2, 1);
+
+    @Test
+    @DisplayName("Testing that sign-in attempts for a username from one address do not lock out other addresses")
+    void testSignInLimitPerUsernameAndAddress() {
+        credentialRateLimiter.checkSignIn(request("203.0.113.7"), "username");
+        credentialRateLimiter.checkSignIn(request("203.0.113.7"), "username");
+        assertThrows(RateLimitException.class,
+                () -> credentialRateLimiter.checkSignIn(request("203.0.113.7"), "username"));
+
+        assertDoesNotThrow(() -> credentialRateLimiter.checkSignIn(request("198.51.100.1"), "username"));
+        assertDoesNotThrow(() -> credentialRateLimiter.checkSignIn(request("203.0.113.7"), "other"));
+    }
+
+    @Test
+    @DisplayName("Testing that sign-in attempts from one address are limited across usernames")
+    void testSignInLimitPerAddress() {
+        for (int i = 0; i < 5; i++) {
+            credentialRateLimiter.checkSignIn(request("203.0.113.7"), "user" + i);
+        }
+
+        assertThrows(RateLimitException.class,
+                () -> credentialRateLimiter.checkSignIn(request("203.0.113.7"), "user5"));
+        assertDoesNotThrow(() -> credentialRateLimiter.checkSignIn(request("198.51.100.1"), "user5"));
+    }
+
+    private MockHttpServletRequest request(String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+
+}
@@ -0,0 +1,48 @@
+package reserve.global.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reserve.support.MutableClock;
+
+class LocalRateLimiterTest {
+
+    final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    final LocalRateLimiter rateLimiter = new LocalRateLimiter(clock, 60_000, 100);
+
+    @Test
+    @DisplayName("Testing that a request is counted against all of its limits or none of them")
+    void testMultipleLimits() {
+        RateLimit address = RateLimit.of("address", "127.0.0.1", 3);
+
+        assertTrue(rateLimiter.tryAcquire(List.of(address, RateLimit.of("username", "user1", 2))));
+        assertTrue(rateLimiter.tryAcquire(List.of(address, RateLimit.of("username", "user1", 2))));
+        assertFalse(rateLimiter.tryAcquire(List.of(address, RateLimit.of("username", "user1", 2))));
+        assertTrue(rateLimiter.tryAcquire(List.of(address, RateLimit.of("username", "user2", 2))));
+        assertFalse(rateLimiter.tryAcquire(List.of(address, RateLimit.of("username", "user3", 2))));
+    }
+
+    @Test
+    @DisplayName("Testing that the previous window is weighted by its overlap with the sliding window")
+    void testSlidingWindow() {
+        List<RateLimit> limits = List.of(RateLimit.of("address", "127.0.0.1", 2));
+
+        assertTrue(rateLimiter.tryAcquire(limits));
+        assertTrue(rateLimiter.tryAcquire(limits));
+        assertFalse(rateLimiter.tryAcquire(limits));
+
+        clock.advance(Duration.ofSeconds(90));
+        assertTrue(rateLimiter.tryAcquire(limits));
+        assertFalse(rateLimiter.tryAcquire(limits));
+
+        clock.advance(Duration.ofSeconds(60));
+        assertTrue(rateLimiter.tryAcquire(limits));
+    }
+
+}
@@ -0,0 +1,95 @@
+package reserve.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reserve.support.MutableClock;
+import reserve.support.RedisCleaner;
+import reserve.support.RedisIntegrationTest;
+
+@RedisIntegrationTest
+class RedisRateLimiterTest {
+
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
+    @Autowired
+    RedisCleaner redisCleaner;
+
+    final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @AfterEach
+    void cleanUp() {
+        redisCleaner.cleanUp();
+    }
+
+    @Test
+    @DisplayName("Testing that a request is counted against all of its limits or none of them")
+    void testMultipleLimits() {
+        RedisRateLimiter rateLimiter = new RedisRateLimiter(redisTemplate, clock, 60, 100, 10);
+        RateLimit address = RateLimit.of("address", "127.0.0.1", 3);
+
+        assertTrue(rateLimiter.tryAcquire(List.of(address, RateLimit.of("username", "user1", 2))));
+        assertTrue(rateLimiter.tryAcquire(List.of(address, RateLimit.of("username", "user1", 2))));
+        assertFalse(rateLimiter.tryAcquire(List.of(address, RateLimit.of("username", "user1", 2))));
+        assertTrue(rateLimiter.tryAcquire(List.of(address, RateLimit.of("username", "user2", 2))));
+        assertFalse(rateLimiter.tryAcquire(List.of(address, RateLimit.of("username", "user3", 2))));
+    }
+
+    @Test
+    @DisplayName("Testing that the previous window is weighted by its overlap with the sliding window")
+    void testSlidingWindow() {
+        RedisRateLimiter rateLimiter = new RedisRateLimiter(redisTemplate, clock, 60, 100, 10);
+        List<RateLimit> limits = List.of(RateLimit.of("address", "127.0.0.1", 2));
+
+        assertTrue(rateLimiter.tryAcquire(limits));
+        assertTrue(rateLimiter.tryAcquire(limits));
+        assertFalse(rateLimiter.tryAcquire(limits));
+
+        clock.advance(Duration.ofSeconds(90));
+        assertTrue(rateLimiter.tryAcquire(limits));
+        assertFalse(rateLimiter.tryAcquire(limits));
+
+        clock.advance(Duration.ofSeconds(60));
+        assertTrue(rateLimiter.tryAcquire(limits));
+        redisTemplate.keys(RedisRateLimiter.KEY_PREFIX + "*")
+            .forEach(key -> assertThat(redisTemplate.getExpire(key)).isPositive());
+    }
+
+    @Test
+    @DisplayName("Testing that Redis is skipped for the cooldown after a failed call")
+    void testCooldown() {
+        StringRedisTemplate failingTemplate = Mockito.mock();
+        Mockito
+            .when(failingTemplate.execute(Mockito.<RedisScript<Long>>any(), Mockito.anyList(),
+                    Mockito.any(Object[].class)))
+            .thenThrow(new RedisConnectionFailureException("Connection refused"));
+        RedisRateLimiter rateLimiter = new RedisRateLimiter(failingTemplate, clock, 60, 100, 10);
+        List<RateLimit> limits = List.of(RateLimit.of("address", "127.0.0.1", 2));
+
+        assertTrue(rateLimiter.tryAcquire(limits));
+        assertTrue(rateLimiter.tryAcquire(limits));
+        assertFalse(rateLimiter.tryAcquire(limits));
+        Mockito.verify(failingTemplate, Mockito.times(1))
+            .execute(Mockito.<RedisScript<Long>>any(), Mockito.anyList(), Mockito.any(Object[].class));
+
+        clock.advance(Duration.ofSeconds(10));
+        rateLimiter.tryAcquire(limits);
+
+        Mockito.verify(failingTemplate, Mockito.times(2))
+            .execute(Mockito.<RedisScript<Long>>any(), Mockito.anyList(), Mockito.any(Object[].class));
+    }
+
+}
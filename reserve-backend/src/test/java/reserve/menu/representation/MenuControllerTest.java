@@ -93,8 +93,8 @@ class MenuControllerTest extends BaseRestAssuredTest {
             .get("/v1/menus/{menuId}", menu.getId())
             .then()
             .statusCode(200)
-            .body("menuId", equalTo(menu.getId().intValue()))
-            .body("storeId", equalTo(store.getId().intValue()))
+            .body("menuId", equalTo(menu.getId()))
+            .body("storeId", equalTo(store.getId()))
             .body("name", equalTo(menu.getName()))
             .body("price", equalTo(menu.getPrice()))
             .body("description", equalTo(menu.getDescription()));
@@ -114,9 +114,9 @@ class MenuControllerTest extends BaseRestAssuredTest {
             .statusCode(200)
             .body("count", equalTo(3))
             .body("results.menuId",
-                    contains(menu1.getId().intValue(), menu2.getId().intValue(), menu3.getId().intValue()))
+                    contains(menu1.getId(), menu2.getId(), menu3.getId()))
             .body("results.storeId",
-                    contains(store.getId().intValue(), store.getId().intValue(), store.getId().intValue()))
+                    contains(store.getId(), store.getId(), store.getId()))
             .body("results.name", contains(menu1.getName(), menu2.getName(), menu3.getName()))
             .body("results.price", contains(menu1.getPrice(), menu2.getPrice(), menu3.getPrice()))
             .body("results.description",
@@ -22,10 +22,11 @@ import reserve.menu.dto.response.MenuInfoListResponse;
 import reserve.menu.dto.response.MenuInfoResponse;
 import reserve.menu.service.MenuService;
 import reserve.signin.dto.SignInToken;
+import reserve.signin.infrastructure.AccessTokenCache;
 import reserve.signin.infrastructure.JwtProvider;
 
 @WebMvcTest(MenuController.class)
-@Import({ JwtProvider.class, TimeConfig.class })
+@Import({ JwtProvider.class, AccessTokenCache.class, TimeConfig.class })
 class MenuControllerWebMvcTest {
 
     @Autowired
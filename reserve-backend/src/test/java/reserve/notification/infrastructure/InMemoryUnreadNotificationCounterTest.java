@@ -0,0 +1,62 @@
+package reserve.notification.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reserve.notification.domain.NotificationReadEvent;
+import reserve.notification.dto.UnreadCount;
+
+class InMemoryUnreadNotificationCounterTest {
+
+    final InMemoryUnreadNotificationCounter unreadNotificationCounter = new InMemoryUnreadNotificationCounter();
+
+    @Test
+    @DisplayName("Testing increment and decrement of unread count")
+    void testIncrementAndDecrement() {
+        unreadNotificationCounter.setIfAbsent(1L, 0);
+        assertEquals(0, unreadNotificationCounter.get(1L));
+
+        unreadNotificationCounter.increment(1L, 3);
+        unreadNotificationCounter.onNotificationRead(new NotificationReadEvent(1L, 1));
+        assertEquals(2, unreadNotificationCounter.get(1L));
+
+        unreadNotificationCounter.decrement(1L, 5);
+        assertEquals(0, unreadNotificationCounter.get(1L));
+    }
+
+    @Test
+    @DisplayName("Testing that a missing counter is left missing until it is rebuilt")
+    void testMissingCounter() {
+        assertNull(unreadNotificationCounter.get(1L));
+
+        unreadNotificationCounter.increment(1L, 3);
+        unreadNotificationCounter.decrement(1L, 1);
+        assertNull(unreadNotificationCounter.get(1L));
+
+        unreadNotificationCounter.setIfAbsent(1L, 5);
+        unreadNotificationCounter.setIfAbsent(1L, 7);
+        assertEquals(5, unreadNotificationCounter.get(1L));
+    }
+
+    @Test
+    @DisplayName("Testing overwrite and scan of unread counts")
+    void testSetAllAndScan() {
+        unreadNotificationCounter.setIfAbsent(1L, 10);
+        unreadNotificationCounter.setAll(List.of(new UnreadCount(1L, 2L), new UnreadCount(2L, 0L),
+                new UnreadCount(3L, 7L)));
+
+        assertEquals(2, unreadNotificationCounter.get(1L));
+        assertEquals(0, unreadNotificationCounter.get(2L));
+        assertEquals(7, unreadNotificationCounter.get(3L));
+
+        List<List<Long>> batches = new ArrayList<>();
+        unreadNotificationCounter.scanUserIds(2, batches::add);
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+        assertThat(batches.stream().flatMap(List::stream).toList()).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+}
@@ -0,0 +1,47 @@
+package reserve.notification.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.MessageSource;
+import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationTemplate;
+import reserve.notification.domain.NotificationsDispatchedEvent;
+import reserve.notification.domain.ResourceType;
+import reserve.notification.service.NotificationStreamService;
+import reserve.user.domain.User;
+
+class LocalNotificationBroadcasterTest {
+
+    MessageSource messageSource = Mockito.mock();
+
+    NotificationStreamService notificationStreamService = Mockito.mock();
+
+    LocalNotificationBroadcaster localNotificationBroadcaster = new LocalNotificationBroadcaster(
+            new ObjectMapper().findAndRegisterModules(), messageSource, notificationStreamService);
+
+    @Test
+    @DisplayName("Testing delivery of created notifications to local streams")
+    void testPush() {
+        User user = Mockito.mock();
+        Mockito.when(user.getId()).thenReturn(1L);
+        Notification notification = Mockito
+            .spy(new Notification(user, ResourceType.RESERVATION, 100L, NotificationTemplate.RESERVATION_CREATED));
+        Mockito.when(notification.getId()).thenReturn(10L);
+        Mockito
+            .when(messageSource.getMessage(Mockito.eq("notification.RESERVATION_CREATED"), Mockito.any(),
+                    Mockito.any(Locale.class)))
+            .thenReturn("message");
+
+        localNotificationBroadcaster
+            .onNotificationsDispatched(new NotificationsDispatchedEvent(List.of(notification), List.of()));
+
+        Mockito.verify(notificationStreamService, Mockito.times(1))
+            .send(Mockito.eq(1L), Mockito.eq(NotificationStreamService.NOTIFICATION_EVENT), Mockito.eq("10"),
+                    Mockito.argThat((String json) -> json.startsWith("{") && json.contains("\"message\":\"message\"")));
+    }
+
+}
@@ -0,0 +1,93 @@
+package reserve.notification.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.MessageSource;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationTemplate;
+import reserve.notification.domain.NotificationsDispatchedEvent;
+import reserve.notification.domain.ResourceType;
+import reserve.notification.service.NotificationStreamService;
+import reserve.user.domain.User;
+
+class NotificationBroadcasterTest {
+
+    StringRedisTemplate redisTemplate = Mockito.mock();
+
+    MessageSource messageSource = Mockito.mock();
+
+    NotificationStreamService notificationStreamService = Mockito.mock();
+
+    RedisMessageListenerContainer listenerContainer = Mockito.mock();
+
+    NotificationBroadcaster notificationBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        notificationBroadcaster = new NotificationBroadcaster(redisTemplate, objectMapper, messageSource,
+                notificationStreamService, listenerContainer);
+    }
+
+    @Test
+    @DisplayName("Testing publication of a dispatched batch in one pipeline")
+    void testPublish() {
+        User user = Mockito.mock();
+        Mockito.when(user.getId()).thenReturn(1L);
+        Notification created = createNotification(user, 10L);
+        Notification coalesced = createNotification(user, 11L);
+        Mockito
+            .when(messageSource.getMessage(Mockito.eq("notification.RESERVATION_CREATED"), Mockito.any(),
+                    Mockito.any(Locale.class)))
+            .thenReturn("message");
+
+        notificationBroadcaster
+            .onNotificationsDispatched(new NotificationsDispatchedEvent(List.of(created), List.of(coalesced)));
+
+        Mockito.verify(listenerContainer, Mockito.times(1))
+            .addMessageListener(notificationBroadcaster, NotificationBroadcaster.TOPIC);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        Mockito.verify(redisTemplate, Mockito.times(1)).executePipelined(callback.capture());
+        StringRedisConnection connection = Mockito.mock();
+        callback.getValue().doInRedis(connection);
+        Mockito.verify(connection, Mockito.times(1))
+            .publish(Mockito.eq("notifications"),
+                    Mockito.argThat((String message) -> message.startsWith("1:10:{")
+                            && message.contains("\"message\":\"message\"")));
+        Mockito.verify(connection, Mockito.times(1))
+            .publish(Mockito.eq("notifications"), Mockito.startsWith("1:11:{"));
+    }
+
+    @Test
+    @DisplayName("Testing delivery of received notifications to local streams")
+    void testReceive() {
+        String json = "{\"notificationId\":10,\"message\":\"a:b\"}";
+
+        notificationBroadcaster.onMessage(new DefaultMessage("notifications".getBytes(StandardCharsets.UTF_8),
+                ("1:10:" + json).getBytes(StandardCharsets.UTF_8)), null);
+
+        Mockito.verify(notificationStreamService, Mockito.times(1))
+            .send(1L, NotificationStreamService.NOTIFICATION_EVENT, "10", json);
+    }
+
+    private Notification createNotification(User user, Long id) {
+        Notification notification = Mockito
+            .spy(new Notification(user, ResourceType.RESERVATION, 100L, NotificationTemplate.RESERVATION_CREATED));
+        Mockito.when(notification.getId()).thenReturn(id);
+        return notification;
+    }
+
+}
@@ -4,6 +4,11 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,9 +16,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
+import reserve.global.id.TsidFactory;
+import reserve.notification.domain.NotificationTemplate;
 import reserve.support.IntegrationTest;
 import reserve.notification.domain.Notification;
 import reserve.notification.domain.ResourceType;
+import reserve.notification.dto.UnreadCount;
 import reserve.reservation.infrastructure.ReservationRepository;
 import reserve.store.infrastructure.StoreRepository;
 import reserve.user.domain.User;
@@ -43,11 +51,11 @@ class NotificationRepositoryTest {
     void testUserNotificationsListRetrieval() {
         User user = userRepository.save(new User("user1", "password", "hello", "description"));
         Notification notification1 = notificationRepository
-            .save(new Notification(user, ResourceType.RESERVATION, 1L, "message1"));
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
         Notification notification2 = notificationRepository
-            .save(new Notification(user, ResourceType.RESERVATION, 1L, "message2"));
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
         Notification notification3 = notificationRepository
-            .save(new Notification(user, ResourceType.RESERVATION, 1L, "message3"));
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
         Pageable pageable = PageRequest.of(0, 20);
 
         Page<Notification> resultPage = notificationRepository.findAllByUserIdOrderByCreatedAtDesc(user.getId(),
@@ -64,10 +72,11 @@ class NotificationRepositoryTest {
     void testMarkingNotificationAsRead() {
         User user = userRepository.save(new User("user1", "password", "hello", "description"));
         Notification notification = notificationRepository
-            .save(new Notification(user, ResourceType.RESERVATION, 1L, "message"));
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
 
         assertFalse(notification.isStatusRead());
-        notificationRepository.setReadByUserIdAndId(user.getId(), notification.getId());
+        assertEquals(1, notificationRepository.setReadByUserIdAndId(user.getId(), notification.getId()));
+        assertEquals(0, notificationRepository.setReadByUserIdAndId(user.getId(), notification.getId()));
 
         em.refresh(notification);
 
@@ -79,13 +88,18 @@ class NotificationRepositoryTest {
     void testMarkingAllUserNotificationsAsRead() {
         User user = userRepository.save(new User("user1", "password", "hello", "description"));
         Notification notification1 = notificationRepository
-            .save(new Notification(user, ResourceType.RESERVATION, 1L, "message1"));
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
         Notification notification2 = notificationRepository
-            .save(new Notification(user, ResourceType.RESERVATION, 1L, "message2"));
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
         Notification notification3 = notificationRepository
-            .save(new Notification(user, ResourceType.RESERVATION, 1L, "message3"));
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
 
-        notificationRepository.setReadAllByUserId(user.getId());
+        notification1.read();
+        em.flush();
+
+        assertEquals(1, notificationRepository.setReadAllByUserId(user.getId(), 1));
+        assertEquals(1, notificationRepository.setReadAllByUserId(user.getId(), 10));
+        assertEquals(0, notificationRepository.setReadAllByUserId(user.getId(), 10));
 
         em.refresh(notification1);
         em.refresh(notification2);
@@ -95,4 +109,145 @@ class NotificationRepositoryTest {
             .forEach(notification -> assertTrue(notification.isStatusRead()));
     }
 
+    @Test
+    @DisplayName("Testing unread notification counts per user")
+    void testUnreadCounts() {
+        User user1 = userRepository.save(new User("user1", "password", "hello", "description"));
+        User user2 = userRepository.save(new User("user2", "password", "hello", "description"));
+        User user3 = userRepository.save(new User("user3", "password", "hello", "description"));
+        notificationRepository
+            .save(new Notification(user1, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        notificationRepository
+            .save(new Notification(user1, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        notificationRepository
+            .save(new Notification(user2, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        Notification read = notificationRepository
+            .save(new Notification(user3, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        read.read();
+        em.flush();
+
+        assertEquals(List.of(new UnreadCount(user1.getId(), 2L), new UnreadCount(user2.getId(), 1L)),
+                notificationRepository.findUnreadCountsByUserIdGreaterThan(0L, PageRequest.of(0, 10)));
+        assertEquals(List.of(new UnreadCount(user2.getId(), 1L)),
+                notificationRepository.findUnreadCountsByUserIdGreaterThan(user1.getId(), PageRequest.of(0, 10)));
+        assertEquals(List.of(new UnreadCount(user2.getId(), 1L)),
+                notificationRepository.findUnreadCountsByUserIdIn(List.of(user2.getId(), user3.getId())));
+    }
+
+    @Test
+    @DisplayName("Testing keyset pagination of user's notification feed")
+    void testNotificationFeedByKeyset() {
+        User user = userRepository.save(new User("user1", "password", "hello", "description"));
+        User other = userRepository.save(new User("user2", "password", "hello", "description"));
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(0, notificationRepository
+                .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED))
+                .getId());
+        }
+        notificationRepository
+            .save(new Notification(other, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        em.flush();
+        em.clear();
+
+        List<Long> ids = new ArrayList<>();
+        List<Notification> page = notificationRepository.findFeedByUserId(user.getId(), PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            assertTrue(page.size() <= 2);
+            page.forEach(notification -> ids.add(notification.getId()));
+            Notification last = page.get(page.size() - 1);
+            page = notificationRepository.findFeedByUserIdAfter(user.getId(), last.getCreatedAt(), last.getId(),
+                    PageRequest.of(0, 2));
+        }
+
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    @DisplayName("Testing deletion of expired notifications")
+    void testDeletionOfExpiredNotifications() {
+        User user = userRepository.save(new User("user1", "password", "hello", "description"));
+        Notification expired1 = notificationRepository
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        Notification expired2 = notificationRepository
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        Notification recent = notificationRepository
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        Notification oldIdOnly = notificationRepository
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        em.flush();
+        long expiredId = TsidFactory.minIdAt(Instant.now().minus(Duration.ofDays(100)));
+        backdate(expired1.getId(), expiredId, LocalDateTime.now().minusDays(100));
+        backdate(expired2.getId(), expiredId + 1, LocalDateTime.now().minusDays(100));
+        backdate(oldIdOnly.getId(), expiredId + 2, LocalDateTime.now());
+        em.clear();
+
+        long maxId = TsidFactory.minIdAt(Instant.now().minus(Duration.ofDays(90)));
+        LocalDateTime before = LocalDateTime.now().minusDays(90);
+        assertEquals(1, notificationRepository.deleteAllByIdLessThanAndCreatedAtBefore(maxId, before, 1));
+        assertEquals(1, notificationRepository.deleteAllByIdLessThanAndCreatedAtBefore(maxId, before, 10));
+        assertEquals(0, notificationRepository.deleteAllByIdLessThanAndCreatedAtBefore(maxId, before, 10));
+
+        assertTrue(notificationRepository.findById(recent.getId()).isPresent());
+        assertTrue(notificationRepository.findById(expiredId + 2).isPresent());
+        assertFalse(notificationRepository.existsById(expiredId));
+        assertFalse(notificationRepository.existsById(expiredId + 1));
+    }
+
+    private void backdate(Long id, long newId, LocalDateTime createdAt) {
+        em.createNativeQuery("UPDATE notifications SET notification_id = :newId, created_at = :createdAt "
+                + "WHERE notification_id = :id")
+            .setParameter("newId", newId)
+            .setParameter("createdAt", createdAt)
+            .setParameter("id", id)
+            .executeUpdate();
+    }
+
+    @Test
+    @DisplayName("Testing persistence of notification template and arguments")
+    void testTemplatePersistence() {
+        User user = userRepository.save(new User("user1", "password", "hello", "description"));
+        Notification withArgs = notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L,
+                NotificationTemplate.LEGACY, List.of("Reservation is moved to 12:00", "")));
+        Notification withoutArgs = notificationRepository
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.SERVICE_STARTED));
+        em.flush();
+        em.clear();
+
+        Notification found = notificationRepository.findById(withArgs.getId()).orElseThrow();
+        assertEquals(NotificationTemplate.LEGACY, found.getTemplate());
+        assertEquals(List.of("Reservation is moved to 12:00", ""), found.getArgs());
+
+        found = notificationRepository.findById(withoutArgs.getId()).orElseThrow();
+        assertEquals(NotificationTemplate.SERVICE_STARTED, found.getTemplate());
+        assertEquals(List.of(), found.getArgs());
+    }
+
+    @Test
+    @DisplayName("Testing lookup of unread notifications to coalesce")
+    void testUnreadNotificationsForCoalescing() {
+        User user = userRepository.save(new User("user1", "password", "hello", "description"));
+        User other = userRepository.save(new User("user2", "password", "hello", "description"));
+        Notification unread = notificationRepository
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        Notification read = notificationRepository
+            .save(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        read.read();
+        notificationRepository
+            .save(new Notification(user, ResourceType.RESERVATION, 2L, NotificationTemplate.RESERVATION_CREATED));
+        notificationRepository
+            .save(new Notification(other, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        em.flush();
+        em.clear();
+
+        List<Notification> found = notificationRepository.findAllUnreadForCoalescing(List.of(user.getId()),
+                ResourceType.RESERVATION, List.of(1L), LocalDateTime.now().minusMinutes(1));
+        assertEquals(List.of(unread.getId()), found.stream().map(Notification::getId).toList());
+
+        assertTrue(notificationRepository
+            .findAllUnreadForCoalescing(List.of(user.getId()), ResourceType.RESERVATION, List.of(1L),
+                    LocalDateTime.now().plusMinutes(1))
+            .isEmpty());
+    }
+
 }
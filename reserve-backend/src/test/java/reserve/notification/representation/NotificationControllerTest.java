@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import reserve.notification.domain.NotificationTemplate;
 import reserve.support.BaseRestAssuredTest;
 import reserve.support.TestUtils;
 import reserve.notification.domain.Notification;
@@ -53,11 +54,14 @@ class NotificationControllerTest extends BaseRestAssuredTest {
             .save(new Reservation(user, store, LocalDate.now().plusDays(7), 12));
 
         notification1 = notificationRepository
-            .save(new Notification(user, ResourceType.RESERVATION, reservation.getId(), "message1"));
+            .save(new Notification(user, ResourceType.RESERVATION, reservation.getId(),
+                    NotificationTemplate.RESERVATION_CREATED));
         notification2 = notificationRepository
-            .save(new Notification(user, ResourceType.RESERVATION, reservation.getId(), "message2"));
+            .save(new Notification(user, ResourceType.RESERVATION, reservation.getId(),
+                    NotificationTemplate.RESERVATION_UPDATED));
         notification3 = notificationRepository
-            .save(new Notification(user, ResourceType.RESERVATION, reservation.getId(), "message3"));
+            .save(new Notification(user, ResourceType.RESERVATION, reservation.getId(),
+                    NotificationTemplate.RESERVATION_CANCELED));
     }
 
     @Test
@@ -75,12 +79,12 @@ class NotificationControllerTest extends BaseRestAssuredTest {
             .body("pageSize", equalTo(20))
             .body("pageNumber", equalTo(0))
             .body("hasNext", equalTo(false))
-            .body("results[2].notificationId", equalTo(notification1.getId().intValue()))
-            .body("results[2].message", equalTo("message1"))
-            .body("results[1].notificationId", equalTo(notification2.getId().intValue()))
-            .body("results[1].message", equalTo("message2"))
-            .body("results[0].notificationId", equalTo(notification3.getId().intValue()))
-            .body("results[0].message", equalTo("message3"));
+            .body("results[2].notificationId", equalTo(notification1.getId()))
+            .body("results[2].message", equalTo("Reservation has been created."))
+            .body("results[1].notificationId", equalTo(notification2.getId()))
+            .body("results[1].message", equalTo("Reservation has been updated."))
+            .body("results[0].notificationId", equalTo(notification3.getId()))
+            .body("results[0].message", equalTo("Reservation has been canceled."));
     }
 
     @Test
@@ -3,9 +3,11 @@ package reserve.notification.representation;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -18,19 +20,28 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import reserve.support.TestUtils;
 import reserve.global.config.TimeConfig;
+import reserve.global.pagination.CountMode;
 import reserve.notification.domain.NotificationStatus;
 import reserve.notification.domain.ResourceType;
 import reserve.notification.dto.response.NotificationInfo;
+import reserve.notification.dto.response.NotificationInfoCursorResponse;
 import reserve.notification.dto.response.NotificationInfoListResponse;
+import reserve.notification.dto.response.UnreadCountResponse;
 import reserve.notification.service.NotificationService;
+import reserve.notification.service.NotificationStreamService;
 import reserve.signin.dto.SignInToken;
+import reserve.signin.infrastructure.AccessTokenCache;
 import reserve.signin.infrastructure.JwtProvider;
+import reserve.signin.service.SignInService;
 
 @WebMvcTest(NotificationController.class)
-@Import({ JwtProvider.class, TimeConfig.class })
+@Import({ JwtProvider.class, AccessTokenCache.class, TimeConfig.class })
 class NotificationControllerWebMvcTest {
 
     @Autowired
@@ -45,6 +56,12 @@ class NotificationControllerWebMvcTest {
     @MockBean
     NotificationService notificationService;
 
+    @MockBean
+    NotificationStreamService notificationStreamService;
+
+    @MockBean
+    SignInService signInService;
+
     @Test
     @DisplayName("Testing GET /v1/notifications endpoint")
     void testGetUserNotificationsEndpoint() throws Exception {
@@ -63,7 +80,9 @@ class NotificationControllerWebMvcTest {
         NotificationInfoListResponse response = NotificationInfoListResponse
             .from(new PageImpl<>(List.of(notification3, notification2, notification1), PageRequest.of(0, 20), 3));
 
-        Mockito.when(notificationService.getUserNotifications(Mockito.eq(userId), Mockito.any(Pageable.class)))
+        Mockito
+            .when(notificationService.getUserNotifications(Mockito.eq(userId), Mockito.any(Pageable.class),
+                    Mockito.eq(CountMode.EXACT)))
             .thenReturn(response);
 
         mockMvc.perform(get("/v1/notifications").header("Authorization", "Bearer " + signInToken.getAccessToken()))
@@ -73,6 +92,45 @@ class NotificationControllerWebMvcTest {
                     jsonPath("$.results[0].message").value("message3"));
     }
 
+    @Test
+    @DisplayName("Testing GET /v1/notifications endpoint with cursor")
+    void testGetUserNotificationsByCursorEndpoint() throws Exception {
+        Long userId = 1L;
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
+
+        NotificationInfo notification1 = new NotificationInfo(2L, ResourceType.RESERVATION, 100L, "message2",
+                LocalDateTime.now(), NotificationStatus.UNREAD);
+        NotificationInfo notification2 = new NotificationInfo(1L, ResourceType.RESERVATION, 100L, "message1",
+                LocalDateTime.now().minusMinutes(1), NotificationStatus.UNREAD);
+        NotificationInfoCursorResponse response = NotificationInfoCursorResponse
+            .from(new SliceImpl<>(List.of(notification1, notification2), Pageable.ofSize(2), true));
+
+        Mockito.when(notificationService.getUserNotificationsByCursor(userId, "", 2)).thenReturn(response);
+
+        mockMvc
+            .perform(get("/v1/notifications").header("Authorization", "Bearer " + signInToken.getAccessToken())
+                .param("cursor", "")
+                .param("size", "2"))
+            .andExpectAll(status().isOk(), jsonPath("$.count").doesNotExist(), jsonPath("$.hasNext").value(true),
+                    jsonPath("$.nextCursor").value(response.getNextCursor()),
+                    jsonPath("$.results[0].notificationId").value(2L),
+                    jsonPath("$.results[1].notificationId").value(1L));
+    }
+
+    @Test
+    @DisplayName("Testing GET /v1/notifications/unread-count endpoint")
+    void testGetUnreadCountEndpoint() throws Exception {
+        Long userId = 1L;
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
+
+        Mockito.when(notificationService.getUnreadCount(userId)).thenReturn(new UnreadCountResponse(3));
+
+        mockMvc
+            .perform(get("/v1/notifications/unread-count").header("Authorization",
+                    "Bearer " + signInToken.getAccessToken()))
+            .andExpectAll(status().isOk(), jsonPath("$.count").value(3));
+    }
+
     @Test
     @DisplayName("Testing POST /v1/notifications/{notificationId}/read endpoint")
     void testReadNotificationEndpoint() throws Exception {
@@ -104,4 +162,45 @@ class NotificationControllerWebMvcTest {
         Mockito.verify(notificationService).readAllNotifications(userId);
     }
 
+    @Test
+    @DisplayName("Testing GET /v1/notifications/stream endpoint")
+    void testStreamUserNotificationsEndpoint() throws Exception {
+        Long userId = 1L;
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
+
+        Mockito.when(notificationStreamService.subscribe(userId)).thenReturn(new SseEmitter());
+
+        mockMvc
+            .perform(get("/v1/notifications/stream").header("Authorization", "Bearer " + signInToken.getAccessToken())
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted());
+
+        Mockito.verify(notificationStreamService, Mockito.times(1)).subscribe(userId);
+    }
+
+    @Test
+    @DisplayName("Testing GET /v1/notifications/stream endpoint with the refresh token cookie of a browser")
+    void testStreamUserNotificationsEndpointWithRefreshCookie() throws Exception {
+        Long userId = 1L;
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
+
+        Mockito.when(signInService.authenticateRefreshToken(signInToken.getRefreshToken())).thenReturn(userId);
+        Mockito.when(notificationStreamService.subscribe(userId)).thenReturn(new SseEmitter());
+
+        mockMvc
+            .perform(get("/v1/notifications/stream").cookie(new Cookie("refresh", signInToken.getRefreshToken()))
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted());
+
+        Mockito.verify(notificationStreamService, Mockito.times(1)).subscribe(userId);
+    }
+
+    @Test
+    @DisplayName("Testing GET /v1/notifications/stream endpoint without credentials")
+    void testStreamUserNotificationsEndpointWithoutCredentials() throws Exception {
+        mockMvc.perform(get("/v1/notifications/stream")).andExpect(status().isForbidden());
+
+        Mockito.verifyNoInteractions(notificationStreamService, signInService);
+    }
+
 }
@@ -0,0 +1,92 @@
+package reserve.notification.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reserve.global.id.TsidFactory;
+import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationTemplate;
+import reserve.notification.domain.ResourceType;
+import reserve.notification.infrastructure.NotificationRepository;
+import reserve.support.IntegrationTest;
+import reserve.support.TestStateCleaner;
+import reserve.user.domain.User;
+import reserve.user.infrastructure.UserRepository;
+
+@IntegrationTest
+class NotificationRetentionConcurrencyTest {
+
+    static final int EXPIRED = 2000;
+
+    static final int INSERTS = 200;
+
+    @Autowired
+    TestStateCleaner testStateCleaner;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    NotificationRepository notificationRepository;
+
+    @Autowired
+    NotificationService notificationService;
+
+    @AfterEach
+    void cleanUp() {
+        testStateCleaner.cleanUp();
+    }
+
+    @Test
+    @DisplayName("[Integration] Testing that notifications inserted during a purge are kept")
+    void testInsertsDuringPurge() throws Exception {
+        User user = userRepository.save(new User("user1", "password", "hello", "description"));
+        notificationRepository.saveAll(IntStream.range(0, EXPIRED)
+            .mapToObj(i -> new Notification(user, ResourceType.RESERVATION, (long) i,
+                    NotificationTemplate.RESERVATION_CREATED))
+            .toList());
+        Instant now = Instant.now();
+        long shift = TsidFactory.minIdAt(now) - TsidFactory.minIdAt(now.minus(Duration.ofDays(100)));
+        jdbcTemplate.update("UPDATE notifications SET notification_id = notification_id - ?, created_at = ?", shift,
+                LocalDateTime.now().minusDays(100));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            Future<Long> purge = executor.submit(() -> {
+                startGate.await();
+                return notificationService.purgeNotificationsBefore(now.minus(Duration.ofDays(90)), 100);
+            });
+            Future<List<Long>> inserts = executor.submit(() -> {
+                startGate.await();
+                return IntStream.range(0, INSERTS)
+                    .mapToObj(i -> notificationRepository.save(new Notification(user, ResourceType.RESERVATION,
+                            (long) i, NotificationTemplate.RESERVATION_CREATED)).getId())
+                    .toList();
+            });
+            startGate.countDown();
+
+            assertEquals(EXPIRED, purge.get(60, TimeUnit.SECONDS));
+            List<Long> insertedIds = inserts.get(60, TimeUnit.SECONDS);
+            assertEquals(INSERTS, notificationRepository.count());
+            assertEquals(INSERTS, notificationRepository.findAllById(insertedIds).size());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
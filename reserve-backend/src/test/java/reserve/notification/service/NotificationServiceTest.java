@@ -3,8 +3,12 @@ package reserve.notification.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,13 +16,30 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.MessageSource;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Pageable;
+import reserve.global.id.TsidFactory;
 import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationOutbox;
+import reserve.notification.domain.NotificationReadEvent;
+import reserve.notification.domain.NotificationStatus;
+import reserve.notification.domain.NotificationTemplate;
+import reserve.notification.domain.NotificationsDispatchedEvent;
 import reserve.notification.domain.ResourceType;
+import reserve.notification.dto.NotificationCursor;
+import reserve.notification.dto.UnreadCount;
+import reserve.notification.dto.response.NotificationInfoCursorResponse;
 import reserve.notification.dto.response.NotificationInfoListResponse;
+import reserve.global.exception.InvalidRequestException;
+import reserve.global.pagination.CountCache;
+import reserve.global.pagination.CountMode;
+import reserve.notification.infrastructure.NotificationOutboxRepository;
 import reserve.notification.infrastructure.NotificationRepository;
+import reserve.notification.infrastructure.UnreadNotificationCounter;
 import reserve.reservation.dto.ReservationForNotifyDto;
 import reserve.reservation.infrastructure.ReservationQueryRepository;
 import reserve.reservation.infrastructure.ReservationRepository;
@@ -31,6 +52,9 @@ class NotificationServiceTest {
     @Mock
     NotificationRepository notificationRepository;
 
+    @Mock
+    NotificationOutboxRepository notificationOutboxRepository;
+
     @Mock
     UserRepository userRepository;
 
@@ -40,18 +64,163 @@ class NotificationServiceTest {
     @Mock
     ReservationQueryRepository reservationQueryRepository;
 
+    @Mock
+    CountCache countCache;
+
+    @Mock
+    UnreadNotificationCounter unreadNotificationCounter;
+
+    @Mock
+    MessageSource messageSource;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     NotificationService notificationService;
 
     @Test
     @DisplayName("Testing creation of notification for reservation")
     void testCreationOfNotificationForReservation() {
-        Mockito.when(reservationQueryRepository.findForNotifyById(1L))
-            .thenReturn(Optional.of(new ReservationForNotifyDto(1L, 1L, 1L)));
+        notificationService.notifyReservation(1L, NotificationTemplate.RESERVATION_CREATED,
+                NotificationTemplate.RESERVATION_CREATED_FOR_REGISTRANT, "arg");
 
-        notificationService.notifyReservation(1L, "message for user", "message for store registrant");
+        Mockito.verify(notificationOutboxRepository, Mockito.times(1))
+            .save(Mockito.argThat(entry -> entry.getReservationId().equals(1L)
+                    && entry.getTemplate() == NotificationTemplate.RESERVATION_CREATED
+                    && entry.getRegistrantTemplate() == NotificationTemplate.RESERVATION_CREATED_FOR_REGISTRANT
+                    && entry.getArgs().equals(List.of("arg"))));
+        Mockito.verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("Testing dispatch of queued reservation notifications")
+    void testDispatch() {
+        NotificationOutbox entry1 = Mockito.spy(new NotificationOutbox(1L, NotificationTemplate.RESERVATION_CREATED,
+                NotificationTemplate.RESERVATION_CREATED_FOR_REGISTRANT, List.of()));
+        Mockito.when(entry1.getId()).thenReturn(10L);
+        NotificationOutbox entry2 = Mockito.spy(new NotificationOutbox(2L, NotificationTemplate.RESERVATION_CREATED,
+                NotificationTemplate.RESERVATION_CREATED_FOR_REGISTRANT, List.of()));
+        Mockito.when(entry2.getId()).thenReturn(20L);
 
-        Mockito.verify(notificationRepository, Mockito.times(2)).save(Mockito.any());
+        Mockito.when(notificationOutboxRepository.findAllForDispatch(100)).thenReturn(List.of(entry1, entry2));
+        Mockito.when(reservationQueryRepository.findForNotifyByIds(Set.of(1L, 2L)))
+            .thenReturn(List.of(new ReservationForNotifyDto(1L, 3L, 4L)));
+
+        assertEquals(2, notificationService.dispatch(100));
+
+        Mockito.verify(notificationRepository, Mockito.times(1))
+            .saveAll(Mockito.argThat(notifications -> notifications.spliterator().getExactSizeIfKnown() == 2));
+        Mockito.verify(notificationOutboxRepository, Mockito.times(1)).deleteAllByIdInBatch(List.of(10L, 20L));
+        Mockito.verify(eventPublisher, Mockito.times(1))
+            .publishEvent(Mockito.argThat((NotificationsDispatchedEvent event) -> event.created().size() == 2
+                    && event.coalesced().isEmpty()));
+    }
+
+    @Test
+    @DisplayName("Testing coalescing of reservation notifications in dispatch")
+    void testDispatchWithCoalescing() {
+        LocalDateTime since = LocalDateTime.of(2025, 1, 1, 12, 0);
+        NotificationOutbox entry1 = Mockito.spy(new NotificationOutbox(1L, NotificationTemplate.RESERVATION_CREATED,
+                NotificationTemplate.RESERVATION_CREATED_FOR_REGISTRANT, List.of()));
+        Mockito.when(entry1.getId()).thenReturn(10L);
+        Mockito.when(entry1.getCreatedAt()).thenReturn(since.plusSeconds(10));
+        NotificationOutbox entry2 = Mockito.spy(new NotificationOutbox(1L, NotificationTemplate.RESERVATION_UPDATED,
+                NotificationTemplate.RESERVATION_UPDATED_FOR_REGISTRANT, List.of()));
+        Mockito.when(entry2.getId()).thenReturn(20L);
+        Mockito.when(entry2.getCreatedAt()).thenReturn(since.plusSeconds(20));
+        NotificationOutbox entry3 = Mockito.spy(new NotificationOutbox(2L, NotificationTemplate.RESERVATION_CREATED,
+                NotificationTemplate.RESERVATION_CREATED_FOR_REGISTRANT, List.of()));
+        Mockito.when(entry3.getId()).thenReturn(30L);
+        Mockito.when(entry3.getCreatedAt()).thenReturn(since.plusSeconds(30));
+        User user = Mockito.mock(User.class);
+        Mockito.when(user.getId()).thenReturn(3L);
+        Notification unread = Mockito
+            .spy(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        Mockito.when(unread.getId()).thenReturn(100L);
+
+        Mockito.when(notificationOutboxRepository.findAllForDispatch(100)).thenReturn(List.of(entry1, entry2, entry3));
+        Mockito.when(reservationQueryRepository.findForNotifyByIds(Set.of(1L, 2L)))
+            .thenReturn(List.of(new ReservationForNotifyDto(1L, 3L, 4L), new ReservationForNotifyDto(2L, 3L, 4L)));
+        Mockito
+            .when(notificationRepository.findAllUnreadForCoalescing(Set.of(3L, 4L), ResourceType.RESERVATION,
+                    Set.of(1L, 2L), since))
+            .thenReturn(List.of(unread));
+
+        assertEquals(3, notificationService.dispatch(100, since));
+
+        assertEquals(NotificationTemplate.RESERVATION_UPDATED, unread.getTemplate());
+        Mockito.verify(notificationRepository, Mockito.times(1))
+            .saveAll(Mockito.argThat(notifications -> notifications.spliterator().getExactSizeIfKnown() == 3));
+        Mockito.verify(notificationOutboxRepository, Mockito.times(1)).deleteAllByIdInBatch(List.of(10L, 20L, 30L));
+        Mockito.verify(eventPublisher, Mockito.times(1))
+            .publishEvent(Mockito.argThat((NotificationsDispatchedEvent event) -> event.created().size() == 3
+                    && event.coalesced().equals(List.of(unread))));
+    }
+
+    @Test
+    @DisplayName("Testing dispatch of every entry of a reservation when coalescing is disabled")
+    void testDispatchWithoutCoalescing() {
+        NotificationOutbox entry1 = Mockito.spy(new NotificationOutbox(1L, NotificationTemplate.RESERVATION_CREATED,
+                NotificationTemplate.RESERVATION_CREATED_FOR_REGISTRANT, List.of()));
+        Mockito.when(entry1.getId()).thenReturn(10L);
+        NotificationOutbox entry2 = Mockito.spy(new NotificationOutbox(1L, NotificationTemplate.RESERVATION_UPDATED,
+                NotificationTemplate.RESERVATION_UPDATED_FOR_REGISTRANT, List.of()));
+        Mockito.when(entry2.getId()).thenReturn(20L);
+
+        Mockito.when(notificationOutboxRepository.findAllForDispatch(100)).thenReturn(List.of(entry1, entry2));
+        Mockito.when(reservationQueryRepository.findForNotifyByIds(Set.of(1L)))
+            .thenReturn(List.of(new ReservationForNotifyDto(1L, 3L, 4L)));
+
+        assertEquals(2, notificationService.dispatch(100, null));
+
+        Mockito.verify(notificationRepository, Mockito.times(1))
+            .saveAll(Mockito.argThat(notifications -> notifications.spliterator().getExactSizeIfKnown() == 4));
+        Mockito.verify(notificationRepository, Mockito.never())
+            .findAllUnreadForCoalescing(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(notificationOutboxRepository, Mockito.times(1)).deleteAllByIdInBatch(List.of(10L, 20L));
+        Mockito.verify(eventPublisher, Mockito.times(1))
+            .publishEvent(Mockito.argThat((NotificationsDispatchedEvent event) -> event.created().size() == 4
+                    && event.coalesced().isEmpty()));
+    }
+
+    @Test
+    @DisplayName("Testing dispatch of entries queued before the coalescing window")
+    void testDispatchOfEntriesBeforeCoalescingWindow() {
+        LocalDateTime since = LocalDateTime.of(2025, 1, 1, 12, 0);
+        NotificationOutbox entry1 = Mockito.spy(new NotificationOutbox(1L, NotificationTemplate.RESERVATION_CREATED,
+                NotificationTemplate.RESERVATION_CREATED_FOR_REGISTRANT, List.of()));
+        Mockito.when(entry1.getId()).thenReturn(10L);
+        Mockito.when(entry1.getCreatedAt()).thenReturn(since.minusHours(3));
+        NotificationOutbox entry2 = Mockito.spy(new NotificationOutbox(1L, NotificationTemplate.RESERVATION_UPDATED,
+                NotificationTemplate.RESERVATION_UPDATED_FOR_REGISTRANT, List.of()));
+        Mockito.when(entry2.getId()).thenReturn(20L);
+        Mockito.when(entry2.getCreatedAt()).thenReturn(since.minusHours(2));
+
+        Mockito.when(notificationOutboxRepository.findAllForDispatch(100)).thenReturn(List.of(entry1, entry2));
+        Mockito.when(reservationQueryRepository.findForNotifyByIds(Set.of(1L)))
+            .thenReturn(List.of(new ReservationForNotifyDto(1L, 3L, 4L)));
+
+        assertEquals(2, notificationService.dispatch(100, since));
+
+        Mockito.verify(notificationRepository, Mockito.times(1))
+            .saveAll(Mockito.argThat(notifications -> notifications.spliterator().getExactSizeIfKnown() == 4));
+        Mockito.verify(notificationRepository, Mockito.never())
+            .findAllUnreadForCoalescing(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(notificationOutboxRepository, Mockito.times(1)).deleteAllByIdInBatch(List.of(10L, 20L));
+        Mockito.verify(eventPublisher, Mockito.times(1))
+            .publishEvent(Mockito.argThat((NotificationsDispatchedEvent event) -> event.created().size() == 4
+                    && event.coalesced().isEmpty()));
+    }
+
+    @Test
+    @DisplayName("Testing dispatch of empty outbox")
+    void testDispatchOfEmptyOutbox() {
+        Mockito.when(notificationOutboxRepository.findAllForDispatch(100)).thenReturn(List.of());
+
+        assertEquals(0, notificationService.dispatch(100));
+
+        Mockito.verifyNoInteractions(notificationRepository, reservationQueryRepository);
     }
 
     @Test
@@ -60,17 +229,21 @@ class NotificationServiceTest {
         Pageable pageable = PageRequest.of(0, 20);
         User user = Mockito.mock(User.class);
 
-        Notification notification1 = Mockito.spy(new Notification(user, ResourceType.RESERVATION, 1L, "message1"));
+        Notification notification1 = Mockito
+            .spy(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
         Mockito.when(notification1.getId()).thenReturn(1L);
-        Notification notification2 = Mockito.spy(new Notification(user, ResourceType.RESERVATION, 1L, "message2"));
+        Notification notification2 = Mockito
+            .spy(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
         Mockito.when(notification2.getId()).thenReturn(2L);
-        Notification notification3 = Mockito.spy(new Notification(user, ResourceType.RESERVATION, 1L, "message3"));
+        Notification notification3 = Mockito
+            .spy(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
         Mockito.when(notification3.getId()).thenReturn(3L);
 
         Mockito.when(notificationRepository.findAllByUserIdOrderByCreatedAtDesc(1L, pageable))
             .thenReturn(new PageImpl<>(List.of(notification1, notification2, notification3), pageable, 3L));
 
-        NotificationInfoListResponse response = notificationService.getUserNotifications(1L, pageable);
+        NotificationInfoListResponse response = notificationService.getUserNotifications(1L, pageable,
+                CountMode.EXACT);
 
         assertEquals(3, response.getCount());
         assertEquals(3, response.getResults().size());
@@ -79,20 +252,189 @@ class NotificationServiceTest {
         assertThat(response.getResults()).extracting("notificationId").contains(1L, 2L, 3L);
     }
 
+    @Test
+    @DisplayName("Testing user notification retrieval without counting")
+    void testUserNotificationRetrievalWithoutCount() {
+        Pageable pageable = PageRequest.of(0, 2);
+        User user = Mockito.mock(User.class);
+
+        Notification notification1 = Mockito
+            .spy(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        Mockito.when(notification1.getId()).thenReturn(1L);
+        Notification notification2 = Mockito
+            .spy(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        Mockito.when(notification2.getId()).thenReturn(2L);
+
+        Mockito.when(notificationRepository.findSliceByUserIdOrderByCreatedAtDesc(1L, pageable))
+            .thenReturn(new SliceImpl<>(List.of(notification1, notification2), pageable, true));
+
+        NotificationInfoListResponse response = notificationService.getUserNotifications(1L, pageable,
+                CountMode.NONE);
+
+        assertEquals(-1, response.getCount());
+        assertTrue(response.hasNext());
+        assertThat(response.getResults()).extracting("notificationId").containsExactly(1L, 2L);
+        Mockito.verify(notificationRepository, Mockito.never()).countByUserId(Mockito.any());
+        Mockito.verifyNoInteractions(countCache);
+    }
+
+    @Test
+    @DisplayName("Testing user notification retrieval by cursor")
+    void testUserNotificationRetrievalByCursor() {
+        User user = Mockito.mock(User.class);
+        LocalDateTime time = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123456000);
+        NotificationCursor cursor = new NotificationCursor(time, 10L);
+
+        Notification notification1 = Mockito
+            .spy(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        Mockito.when(notification1.getId()).thenReturn(9L);
+        Mockito.when(notification1.getCreatedAt()).thenReturn(time);
+        Notification notification2 = Mockito
+            .spy(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        Mockito.when(notification2.getId()).thenReturn(5L);
+        Mockito.when(notification2.getCreatedAt()).thenReturn(time.minusMinutes(1));
+        Notification notification3 = Mockito
+            .spy(new Notification(user, ResourceType.RESERVATION, 1L, NotificationTemplate.RESERVATION_CREATED));
+        Mockito.when(notification3.getId()).thenReturn(3L);
+        Mockito.when(notification3.getCreatedAt()).thenReturn(time.minusMinutes(2));
+
+        Mockito.when(notificationRepository.findFeedByUserIdAfter(1L, time, 10L, PageRequest.of(0, 3)))
+            .thenReturn(List.of(notification1, notification2, notification3));
+
+        NotificationInfoCursorResponse response = notificationService.getUserNotificationsByCursor(1L,
+                cursor.encode(), 2);
+
+        assertEquals(2, response.getPageSize());
+        assertTrue(response.hasNext());
+        assertEquals(new NotificationCursor(time.minusMinutes(1), 5L),
+                NotificationCursor.decode(response.getNextCursor()));
+        assertThat(response.getResults()).extracting("notificationId").containsExactly(9L, 5L);
+        Mockito.verify(notificationRepository, Mockito.never()).countByUserId(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Testing first page of user notifications by cursor")
+    void testFirstPageOfUserNotificationsByCursor() {
+        Mockito.when(notificationRepository.findFeedByUserId(1L, PageRequest.of(0, 21))).thenReturn(List.of());
+
+        NotificationInfoCursorResponse response = notificationService.getUserNotificationsByCursor(1L, "", 20);
+
+        assertFalse(response.hasNext());
+        assertNull(response.getNextCursor());
+        assertTrue(response.getResults().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Testing user notification retrieval with a malformed cursor")
+    void testUserNotificationRetrievalByMalformedCursor() {
+        assertThrows(InvalidRequestException.class,
+                () -> notificationService.getUserNotificationsByCursor(1L, "not-a-cursor", 20));
+    }
+
+    @Test
+    @DisplayName("Testing unread notification count retrieval")
+    void testUnreadCountRetrieval() {
+        Mockito.when(unreadNotificationCounter.get(1L)).thenReturn(3L);
+
+        assertEquals(3, notificationService.getUnreadCount(1L).getCount());
+        Mockito.verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("Testing unread notification count retrieval with a missing counter")
+    void testUnreadCountRetrievalWithMissingCounter() {
+        Mockito.when(unreadNotificationCounter.get(1L)).thenReturn(null);
+        Mockito.when(notificationRepository.countByUserIdAndStatus(1L, NotificationStatus.UNREAD)).thenReturn(4L);
+
+        assertEquals(4, notificationService.getUnreadCount(1L).getCount());
+        Mockito.verify(unreadNotificationCounter).setIfAbsent(1L, 4L);
+    }
+
     @Test
     @DisplayName("Testing marking a specific notification as read")
     void testMarkingNotificationAsRead() {
+        Mockito.when(notificationRepository.setReadByUserIdAndId(1L, 1L)).thenReturn(1);
+
         notificationService.readNotification(1L, 1L);
 
         Mockito.verify(notificationRepository).setReadByUserIdAndId(1L, 1L);
+        Mockito.verify(eventPublisher).publishEvent(new NotificationReadEvent(1L, 1));
+    }
+
+    @Test
+    @DisplayName("Testing marking an already read notification as read")
+    void testMarkingReadNotificationAsRead() {
+        Mockito.when(notificationRepository.setReadByUserIdAndId(1L, 1L)).thenReturn(0);
+
+        notificationService.readNotification(1L, 1L);
+
+        Mockito.verifyNoInteractions(eventPublisher);
     }
 
     @Test
     @DisplayName("Testing marking all user notifications as read")
     void testMarkingAllUserNotificationAsRead() {
+        Mockito.when(notificationRepository.setReadAllByUserId(1L, 1000)).thenReturn(5);
+
+        notificationService.readAllNotifications(1L);
+
+        Mockito.verify(notificationRepository, Mockito.times(1)).setReadAllByUserId(1L, 1000);
+        Mockito.verify(eventPublisher).publishEvent(new NotificationReadEvent(1L, 5));
+    }
+
+    @Test
+    @DisplayName("Testing marking all user notifications as read in chunks")
+    void testMarkingAllUserNotificationAsReadInChunks() {
+        Mockito.when(notificationRepository.setReadAllByUserId(1L, 1000)).thenReturn(1000, 1000, 0);
+
         notificationService.readAllNotifications(1L);
 
-        Mockito.verify(notificationRepository).setReadAllByUserId(1L);
+        Mockito.verify(notificationRepository, Mockito.times(3)).setReadAllByUserId(1L, 1000);
+        Mockito.verify(eventPublisher, Mockito.times(2)).publishEvent(new NotificationReadEvent(1L, 1000));
+    }
+
+    @Test
+    @DisplayName("Testing purge of expired notifications")
+    void testPurgeOfExpiredNotifications() {
+        Instant before = Instant.parse("2025-01-01T00:00:00Z");
+        long maxId = TsidFactory.minIdAt(before);
+        LocalDateTime createdBefore = LocalDateTime.ofInstant(before, ZoneId.systemDefault());
+        Mockito.when(notificationRepository.findUnreadUserIdsByIdLessThanAndCreatedAtBefore(maxId, createdBefore, 100))
+            .thenReturn(List.of(1L, 2L), List.of(), List.of());
+        Mockito.when(notificationRepository.deleteAllByIdLessThanAndCreatedAtBefore(maxId, createdBefore, 100))
+            .thenReturn(100, 100, 30);
+        Mockito.when(notificationRepository.findUnreadCountsByUserIdIn(List.of(1L, 2L)))
+            .thenReturn(List.of(new UnreadCount(1L, 3L)));
+
+        assertEquals(230, notificationService.purgeNotificationsBefore(before, 100));
+        Mockito.verify(notificationRepository, Mockito.times(3))
+            .deleteAllByIdLessThanAndCreatedAtBefore(maxId, createdBefore, 100);
+        Mockito.verify(unreadNotificationCounter, Mockito.times(1))
+            .setAll(List.of(new UnreadCount(1L, 3L), new UnreadCount(2L, 0L)));
+    }
+
+    @Test
+    @DisplayName("Testing reconciliation of unread notification counters")
+    void testUnreadCountReconciliation() {
+        List<UnreadCount> firstBatch = List.of(new UnreadCount(1L, 3L), new UnreadCount(2L, 1L));
+        List<UnreadCount> secondBatch = List.of(new UnreadCount(5L, 2L));
+        Mockito.when(notificationRepository.findUnreadCountsByUserIdGreaterThan(0L, PageRequest.of(0, 2)))
+            .thenReturn(firstBatch);
+        Mockito.when(notificationRepository.findUnreadCountsByUserIdGreaterThan(2L, PageRequest.of(0, 2)))
+            .thenReturn(secondBatch);
+        Mockito.doAnswer(invocation -> {
+            Consumer<List<Long>> consumer = invocation.getArgument(1);
+            consumer.accept(List.of(1L, 4L));
+            return null;
+        }).when(unreadNotificationCounter).scanUserIds(Mockito.eq(2), Mockito.any());
+        Mockito.when(notificationRepository.findUnreadCountsByUserIdIn(List.of(1L, 4L)))
+            .thenReturn(List.of(new UnreadCount(1L, 3L)));
+
+        notificationService.reconcileUnreadCounts(2);
+
+        Mockito.verify(unreadNotificationCounter).setAll(firstBatch);
+        Mockito.verify(unreadNotificationCounter).setAll(secondBatch);
+        Mockito.verify(unreadNotificationCounter).setAll(List.of(new UnreadCount(1L, 3L), new UnreadCount(4L, 0L)));
     }
 
 }
@@ -0,0 +1,24 @@
+package reserve.notification.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NotificationStreamServiceTest {
+
+    @Test
+    @DisplayName("Testing registration of notification streams")
+    void testSubscribe() {
+        NotificationStreamService notificationStreamService = new NotificationStreamService(60, 1, 100);
+
+        notificationStreamService.subscribe(1L);
+        notificationStreamService.subscribe(1L);
+        notificationStreamService.subscribe(2L);
+        notificationStreamService.send(3L, NotificationStreamService.NOTIFICATION_EVENT, "1", "{}");
+        notificationStreamService.sendHeartbeat();
+
+        assertEquals(3, notificationStreamService.getSubscriberCount());
+    }
+
+}
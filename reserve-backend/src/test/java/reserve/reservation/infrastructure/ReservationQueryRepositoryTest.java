@@ -4,18 +4,28 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.*;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.annotation.Commit;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reserve.menu.domain.Menu;
+import reserve.menu.infrastructure.MenuRepository;
 import reserve.support.IntegrationTest;
 import reserve.reservation.domain.Reservation;
+import reserve.reservation.dto.ReservationCreateContext;
+import reserve.reservation.dto.ReservationCursor;
 import reserve.reservation.dto.request.ReservationSearchRequest;
 import reserve.reservation.dto.response.ReservationInfoResponse;
+import reserve.slot.domain.Slot;
+import reserve.slot.infrastructure.SlotRepository;
 import reserve.store.domain.Store;
 import reserve.store.infrastructure.StoreRepository;
 import reserve.user.domain.User;
@@ -31,12 +41,18 @@ class ReservationQueryRepositoryTest {
     @Autowired
     StoreRepository storeRepository;
 
+    @Autowired
+    MenuRepository menuRepository;
+
     @Autowired
     ReservationRepository reservationRepository;
 
     @Autowired
     ReservationQueryRepository reservationQueryRepository;
 
+    @Autowired
+    SlotRepository slotRepository;
+
     @Test
     @DisplayName("Verifying reservation existence by ID and user ID")
     void testReservationExistence() {
@@ -66,6 +82,72 @@ class ReservationQueryRepositoryTest {
         assertFalse(reservationQueryRepository.hasReadAccessToReservation(reservation.getId(), user2.getId()));
     }
 
+    @Test
+    @DisplayName("Testing validation lookup for reservation creation")
+    void testFindCreateContext() {
+        User user = userRepository.save(new User("user1", "password", "hello", "description"));
+        User registrant = userRepository.save(new User("registrant", "password", "world", "description"));
+        Store store = storeRepository.save(new Store(registrant, "Pasta", "address", "Pasta only"));
+        Store otherStore = storeRepository.save(new Store(registrant, "Pizza", "address", "Pizza only"));
+        Menu menu = menuRepository.save(new Menu(store, "Carbonara", 12000, "description"));
+        Menu otherMenu = menuRepository.save(new Menu(otherStore, "Margherita", 15000, "description"));
+
+        LocalDate date = LocalDate.now().plusDays(1);
+        Slot slot = slotRepository.save(new Slot(store, date, 12, 10, 3));
+
+        ReservationCreateContext context = reservationQueryRepository
+            .findCreateContext(user.getId(), store.getId(), date, 12, List.of(menu.getId(), otherMenu.getId()))
+            .orElseThrow();
+        assertEquals(registrant.getId(), context.getRegistrantId());
+        assertEquals(Set.of(menu.getId()), context.getMenus().keySet());
+        assertEquals(slot.getId(), context.getSlot().getId());
+        assertEquals(7, context.getSlot().getRemaining());
+
+        ReservationCreateContext noMenus = reservationQueryRepository
+            .findCreateContext(user.getId(), store.getId(), date, 13, List.of())
+            .orElseThrow();
+        assertTrue(noMenus.isStoreFound());
+        assertTrue(noMenus.getMenus().isEmpty());
+        assertNull(noMenus.getSlot());
+
+        assertFalse(reservationQueryRepository.findCreateContext(user.getId(), -1L, date, 12, List.of(menu.getId()))
+            .orElseThrow()
+            .isStoreFound());
+        assertTrue(reservationQueryRepository.findCreateContext(-1L, store.getId(), date, 12, List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Testing keyset pagination of reservation search")
+    void testReservationSearchByCursor() {
+        LocalDate today = LocalDate.now();
+        User user = userRepository.save(new User("user1", "password", "hello", "description"));
+        Store store = storeRepository.save(new Store(user, "Pasta", "address", "Pasta only"));
+        Reservation r1 = reservationRepository.save(new Reservation(user, store, today, 12));
+        Reservation r2 = reservationRepository.save(new Reservation(user, store, today, 12));
+        Reservation r3 = reservationRepository.save(new Reservation(user, store, today, 18));
+        Reservation r4 = reservationRepository.save(new Reservation(user, store, today.plusDays(1), 9));
+        Reservation r5 = reservationRepository.save(new Reservation(user, store, today.minusDays(1), 20));
+
+        ReservationSearchRequest request = new ReservationSearchRequest();
+        request.setType(ReservationSearchRequest.SearchType.CUSTOMER);
+
+        List<Long> ids = new ArrayList<>();
+        ReservationCursor cursor = null;
+        while (true) {
+            Slice<ReservationInfoResponse> slice = reservationQueryRepository.findResponsesBySearchAfter(user.getId(),
+                    request, cursor, 2);
+            assertThat(slice.getContent().size()).isLessThanOrEqualTo(2);
+            slice.forEach(response -> ids.add(response.getReservationId()));
+            if (!slice.hasNext()) {
+                break;
+            }
+            List<ReservationInfoResponse> content = slice.getContent();
+            cursor = ReservationCursor.after(content.get(content.size() - 1));
+        }
+
+        assertEquals(List.of(r4.getId(), r3.getId(), r2.getId(), r1.getId(), r5.getId()), ids);
+    }
+
     @Nested
     class ReservationSearchTest {
 
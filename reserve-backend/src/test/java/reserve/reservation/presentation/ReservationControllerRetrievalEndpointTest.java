@@ -76,7 +76,7 @@ class ReservationControllerRetrievalEndpointTest extends BaseRestAssuredTest {
             .get("/v1/reservations/{reservationId}", reservation.getId())
             .then()
             .statusCode(200)
-            .body("storeId", equalTo(store2.getId().intValue()))
+            .body("storeId", equalTo(store2.getId()))
             .body("date", equalTo(LocalDate.now().plusDays(7).toString()))
             .body("hour", equalTo(12));
     }
@@ -210,7 +210,7 @@ class ReservationControllerRetrievalEndpointTest extends BaseRestAssuredTest {
             .then()
             .statusCode(200)
             .body("count", equalTo(3))
-            .body("results[].storeId", everyItem(equalTo(store1.getId().intValue())))
+            .body("results[].storeId", everyItem(equalTo(store1.getId())))
             .body("results[].date", everyItem(equalTo(LocalDate.now().plusDays(7).toString())))
             .body("results[0].hour", equalTo(12))
             .body("results[1].hour", equalTo(13))
@@ -14,23 +14,31 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.web.servlet.MockMvc;
 import reserve.support.TestUtils;
 import reserve.global.config.TimeConfig;
-import reserve.notification.service.NotificationService;
+import reserve.global.exception.ErrorCode;
+import reserve.global.pagination.CountMode;
+import reserve.reservation.dto.request.ReservationBatchCreateRequest;
 import reserve.reservation.dto.request.ReservationCreateRequest;
 import reserve.reservation.dto.request.ReservationSearchRequest;
 import reserve.reservation.dto.request.ReservationUpdateRequest;
+import reserve.reservation.dto.response.ReservationBatchCreateResponse;
+import reserve.reservation.dto.response.ReservationBatchItemResponse;
+import reserve.reservation.dto.response.ReservationInfoCursorResponse;
 import reserve.reservation.dto.response.ReservationInfoListResponse;
 import reserve.reservation.dto.response.ReservationInfoResponse;
 import reserve.reservation.dto.response.ReservationMenuListResponse;
 import reserve.reservation.dto.response.ReservationMenuResponse;
 import reserve.reservation.service.ReservationService;
 import reserve.signin.dto.SignInToken;
+import reserve.signin.infrastructure.AccessTokenCache;
 import reserve.signin.infrastructure.JwtProvider;
 
 @WebMvcTest(ReservationController.class)
-@Import({ JwtProvider.class, TimeConfig.class })
+@Import({ JwtProvider.class, AccessTokenCache.class, TimeConfig.class })
 class ReservationControllerWebMvcTest {
 
     @Autowired
@@ -45,9 +53,6 @@ class ReservationControllerWebMvcTest {
     @MockBean
     ReservationService reservationService;
 
-    @MockBean
-    NotificationService notificationService;
-
     @Test
     @DisplayName("Testing POST /v1/reservations endpoint")
     void testCreateEndpoint() throws Exception {
@@ -77,9 +82,39 @@ class ReservationControllerWebMvcTest {
         Mockito.verify(reservationService, Mockito.times(1))
             .create(Mockito.eq(userId), Mockito.argThat(arg -> arg.getStoreId().equals(1L)
                     && arg.getDate().equals(LocalDate.now().plusDays(7)) && arg.getHour() == 12));
-        Mockito.verify(notificationService, Mockito.times(1))
-            .notifyReservation(expectedReservationId, "Reservation has been created.",
-                    "New customer has made a reservation.");
+    }
+
+    @Test
+    @DisplayName("Testing POST /v1/reservations/batch endpoint")
+    void testCreateAllEndpoint() throws Exception {
+        ReservationCreateRequest reservationCreateRequest = new ReservationCreateRequest();
+        reservationCreateRequest.setStoreId(1L);
+        reservationCreateRequest.setDate(LocalDate.now().plusDays(7));
+        reservationCreateRequest.setHour(12);
+
+        ReservationBatchCreateRequest reservationBatchCreateRequest = new ReservationBatchCreateRequest();
+        reservationBatchCreateRequest.setReservations(List.of(reservationCreateRequest, reservationCreateRequest));
+
+        Long userId = 1L;
+        ReservationBatchCreateResponse expectedResponse = ReservationBatchCreateResponse
+            .from(List.of(ReservationBatchItemResponse.created(0, 10L),
+                    ReservationBatchItemResponse.failed(1, ErrorCode.RESERVATION_SLOT_FULL)));
+
+        Mockito
+            .when(reservationService.createAll(Mockito.eq(userId),
+                    Mockito.argThat(arg -> arg.getReservations().size() == 2)))
+            .thenReturn(expectedResponse);
+
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
+
+        mockMvc
+            .perform(post("/v1/reservations/batch").header("Authorization", "Bearer " + signInToken.getAccessToken())
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsString(reservationBatchCreateRequest)))
+            .andExpectAll(status().isOk(), jsonPath("$.created").value(1), jsonPath("$.failed").value(1),
+                    jsonPath("$.results[0].reservationId").value(10L),
+                    jsonPath("$.results[1].error.code").value(ErrorCode.RESERVATION_SLOT_FULL.getCode()));
+
     }
 
     @Test
@@ -172,7 +207,9 @@ class ReservationControllerWebMvcTest {
 
         List<ReservationInfoResponse> expectedResponse = List.of(reservation1, reservation2, reservation3);
 
-        Mockito.when(reservationService.search(Mockito.eq(userId), Mockito.any(), Mockito.eq(PageRequest.of(0, 20))))
+        Mockito
+            .when(reservationService.search(Mockito.eq(userId), Mockito.any(), Mockito.eq(PageRequest.of(0, 20)),
+                    Mockito.eq(CountMode.EXACT)))
             .thenReturn(ReservationInfoListResponse.from(new PageImpl<>(expectedResponse, PageRequest.of(0, 20), 3)));
 
         SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
@@ -192,6 +229,36 @@ class ReservationControllerWebMvcTest {
                     jsonPath("$.results[2].hour").value(14));
     }
 
+    @Test
+    @DisplayName("Testing GET /v1/reservations endpoint with cursor")
+    void testSearchByCursorEndpoint() throws Exception {
+        Long userId = 1L;
+        LocalDate date = LocalDate.now().plusDays(7);
+
+        ReservationInfoResponse reservation1 = new ReservationInfoResponse(3L, 3L, "user3", "store3", date, 14);
+        ReservationInfoResponse reservation2 = new ReservationInfoResponse(2L, 2L, "user2", "store2", date, 13);
+
+        ReservationInfoCursorResponse expectedResponse = ReservationInfoCursorResponse
+            .from(new SliceImpl<>(List.of(reservation1, reservation2), Pageable.ofSize(2), true));
+
+        Mockito
+            .when(reservationService.searchByCursor(Mockito.eq(userId), Mockito.any(), Mockito.eq(""),
+                    Mockito.eq(2)))
+            .thenReturn(expectedResponse);
+
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
+
+        mockMvc
+            .perform(get("/v1/reservations").header("Authorization", "Bearer " + signInToken.getAccessToken())
+                .param("type", ReservationSearchRequest.SearchType.CUSTOMER.toString())
+                .param("cursor", "")
+                .param("size", "2"))
+            .andExpectAll(status().isOk(), content().contentType("application/json"),
+                    jsonPath("$.count").doesNotExist(), jsonPath("$.hasNext").value(true),
+                    jsonPath("$.nextCursor").value(expectedResponse.getNextCursor()),
+                    jsonPath("$.results[0].reservationId").value(3L), jsonPath("$.results[1].reservationId").value(2L));
+    }
+
     @Test
     @DisplayName("Testing PUT /v1/reservations/{reservationId} endpoint")
     void testUpdateEndpoint() throws Exception {
@@ -214,9 +281,6 @@ class ReservationControllerWebMvcTest {
         Mockito.verify(reservationService, Mockito.times(1))
             .update(Mockito.eq(userId), Mockito.eq(reservationId),
                     Mockito.argThat(arg -> arg.getDate().equals(LocalDate.now().plusDays(14)) && arg.getHour() == 14));
-        Mockito.verify(notificationService, Mockito.times(1))
-            .notifyReservation(Mockito.eq(reservationId), Mockito.eq("Reservation has been updated."),
-                    Mockito.eq("Customer has updated the reservation."));
     }
 
     @Test
@@ -233,9 +297,6 @@ class ReservationControllerWebMvcTest {
             .andExpect(status().isOk());
 
         Mockito.verify(reservationService, Mockito.times(1)).cancel(Mockito.eq(userId), Mockito.eq(reservationId));
-        Mockito.verify(notificationService, Mockito.times(1))
-            .notifyReservation(Mockito.eq(reservationId), Mockito.eq("Reservation has been canceled."),
-                    Mockito.eq("Customer has canceled the reservation."));
     }
 
 }
@@ -13,13 +13,13 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import reserve.support.TestUtils;
 import reserve.global.config.TimeConfig;
-import reserve.notification.service.NotificationService;
 import reserve.reservation.service.ReservationManageService;
 import reserve.signin.dto.SignInToken;
+import reserve.signin.infrastructure.AccessTokenCache;
 import reserve.signin.infrastructure.JwtProvider;
 
 @WebMvcTest(ReservationManageController.class)
-@Import({ JwtProvider.class, TimeConfig.class })
+@Import({ JwtProvider.class, AccessTokenCache.class, TimeConfig.class })
 class ReservationManageControllerWebMvcTest {
 
     @Autowired
@@ -31,9 +31,6 @@ class ReservationManageControllerWebMvcTest {
     @MockBean
     ReservationManageService reservationManageService;
 
-    @MockBean
-    NotificationService notificationService;
-
     @Test
     @DisplayName("Testing POST /v1/reservations/manage/{reservationId}/cancel endpoint")
     void testCancelEndpoint() throws Exception {
@@ -49,9 +46,6 @@ class ReservationManageControllerWebMvcTest {
             .andExpect(status().isOk());
 
         Mockito.verify(reservationManageService, Mockito.times(1)).cancel(userId, reservationId);
-        Mockito.verify(notificationService, Mockito.times(1))
-            .notifyReservation(reservationId, "Reservation has been cancelled.",
-                    "Customer has cancelled the reservation.");
     }
 
     @Test
@@ -69,8 +63,6 @@ class ReservationManageControllerWebMvcTest {
             .andExpect(status().isOk());
 
         Mockito.verify(reservationManageService, Mockito.times(1)).startService(userId, reservationId);
-        Mockito.verify(notificationService, Mockito.times(1))
-            .notifyReservation(reservationId, "Service has been started.");
     }
 
     @Test
@@ -88,8 +80,6 @@ class ReservationManageControllerWebMvcTest {
             .andExpect(status().isOk());
 
         Mockito.verify(reservationManageService, Mockito.times(1)).complete(userId, reservationId);
-        Mockito.verify(notificationService, Mockito.times(1))
-            .notifyReservation(reservationId, "Service has been completed.");
     }
 
 }
@@ -0,0 +1,155 @@
+package reserve.reservation.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reserve.global.exception.SlotCapacityException;
+import reserve.menu.domain.Menu;
+import reserve.menu.infrastructure.MenuRepository;
+import reserve.notification.infrastructure.NotificationOutboxRepository;
+import reserve.notification.infrastructure.NotificationRepository;
+import reserve.notification.service.NotificationService;
+import reserve.reservation.dto.request.ReservationCreateRequest;
+import reserve.reservation.dto.request.ReservationMenuCreateRequest;
+import reserve.slot.domain.Slot;
+import reserve.slot.infrastructure.SlotRepository;
+import reserve.store.domain.Store;
+import reserve.store.infrastructure.StoreRepository;
+import reserve.support.IntegrationTest;
+import reserve.support.StatementCounter;
+import reserve.support.TestStateCleaner;
+import reserve.user.domain.User;
+import reserve.user.infrastructure.UserRepository;
+
+@IntegrationTest
+class ReservationCreateStatementTest {
+
+    /**
+     * One validation query, one insert each for reservations, reservation menus, and the notification outbox, and one
+     * statement for the slot, whether it is configured or not.
+     */
+    static final int CREATE_STATEMENT_BUDGET = 5;
+
+    @Autowired
+    TestStateCleaner testStateCleaner;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    StoreRepository storeRepository;
+
+    @Autowired
+    MenuRepository menuRepository;
+
+    @Autowired
+    SlotRepository slotRepository;
+
+    @Autowired
+    ReservationService reservationService;
+
+    @Autowired
+    NotificationService notificationService;
+
+    @Autowired
+    NotificationRepository notificationRepository;
+
+    @Autowired
+    NotificationOutboxRepository notificationOutboxRepository;
+
+    @AfterEach
+    void cleanUp() {
+        StatementCounter.stop();
+        testStateCleaner.cleanUp();
+    }
+
+    @Test
+    @DisplayName("[Integration] Testing the number of SQL statements of reservation creation and its notification")
+    void testCreateStatementBudget() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        User registrant = userRepository.save(new User("registrant", "password", "registrant", "description"));
+        User customer = userRepository.save(new User("customer", "password", "customer", "description"));
+        Store store = storeRepository.save(new Store(registrant, "Pasta", "address", "description"));
+        List<Menu> menus = menuRepository.saveAll(List.of(new Menu(store, "Carbonara", 12000, "description"),
+                new Menu(store, "Aglio e olio", 10000, "description"), new Menu(store, "Salad", 8000, "description")));
+        slotRepository.save(new Slot(store, date, 12, 10, 0));
+
+        StatementCounter.start();
+        Long reservationId = reservationService.create(customer.getId(), createRequest(store, date, 12, menus));
+        List<String> createStatements = StatementCounter.stop();
+
+        assertTrue(createStatements.size() <= CREATE_STATEMENT_BUDGET, () -> String.join("\n", createStatements));
+        assertEquals(1, createStatements.stream().filter(sql -> sql.startsWith("select")).count());
+        assertEquals(1, notificationOutboxRepository.count());
+
+        assertEquals(1, notificationService.dispatch(100));
+        assertEquals(0, notificationOutboxRepository.count());
+        assertThat(notificationRepository.findAll()).extracting(notification -> notification.getUser().getId())
+            .containsExactlyInAnyOrder(customer.getId(), registrant.getId())
+            .hasSize(2);
+        assertThat(notificationRepository.findAll()).allMatch(
+                notification -> notification.getResourceId().equals(reservationId));
+    }
+
+    @Test
+    @DisplayName("[Integration] Testing the number of SQL statements of reservation creation for an unconfigured hour")
+    void testCreateStatementBudgetForUnconfiguredHour() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        User registrant = userRepository.save(new User("registrant", "password", "registrant", "description"));
+        User customer = userRepository.save(new User("customer", "password", "customer", "description"));
+        Store store = storeRepository.save(new Store(registrant, "Pasta", "address", "description"));
+        List<Menu> menus = menuRepository.saveAll(List.of(new Menu(store, "Carbonara", 12000, "description")));
+
+        StatementCounter.start();
+        reservationService.create(customer.getId(), createRequest(store, date, 12, menus));
+        List<String> createStatements = StatementCounter.stop();
+
+        assertTrue(createStatements.size() <= CREATE_STATEMENT_BUDGET, () -> String.join("\n", createStatements));
+        assertEquals(1, createStatements.stream().filter(sql -> sql.startsWith("select")).count());
+        Slot slot = slotRepository.findByStoreIdAndDateAndHour(store.getId(), date, 12).orElseThrow();
+        assertFalse(slot.isConfigured());
+        assertEquals(1, slot.getReserved());
+    }
+
+    @Test
+    @DisplayName("[Integration] Testing the number of SQL statements of reservation creation for a full slot")
+    void testCreateStatementBudgetForFullSlot() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        User registrant = userRepository.save(new User("registrant", "password", "registrant", "description"));
+        User customer = userRepository.save(new User("customer", "password", "customer", "description"));
+        Store store = storeRepository.save(new Store(registrant, "Pasta", "address", "description"));
+        List<Menu> menus = menuRepository.saveAll(List.of(new Menu(store, "Carbonara", 12000, "description")));
+        slotRepository.save(new Slot(store, date, 12, 10, 10));
+
+        StatementCounter.start();
+        assertThrows(SlotCapacityException.class,
+                () -> reservationService.create(customer.getId(), createRequest(store, date, 12, menus)));
+        List<String> createStatements = StatementCounter.stop();
+
+        assertEquals(1, createStatements.size(), () -> String.join("\n", createStatements));
+        assertEquals(0, notificationOutboxRepository.count());
+        assertEquals(10,
+                slotRepository.findByStoreIdAndDateAndHour(store.getId(), date, 12).orElseThrow().getReserved());
+    }
+
+    private static ReservationCreateRequest createRequest(Store store, LocalDate date, int hour, List<Menu> menus) {
+        ReservationCreateRequest request = new ReservationCreateRequest();
+        request.setStoreId(store.getId());
+        request.setDate(date);
+        request.setHour(hour);
+        request.setMenus(menus.stream().map(menu -> {
+            ReservationMenuCreateRequest menuRequest = new ReservationMenuCreateRequest();
+            menuRequest.setMenuId(menu.getId());
+            menuRequest.setQuantity(2);
+            return menuRequest;
+        }).toList());
+        return request;
+    }
+
+}
@@ -1,5 +1,6 @@
 package reserve.reservation.service;
 
+import java.time.LocalDate;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,8 +9,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reserve.notification.domain.NotificationTemplate;
+import reserve.notification.service.NotificationService;
 import reserve.reservation.domain.Reservation;
 import reserve.reservation.infrastructure.ReservationRepository;
+import reserve.slot.service.SlotService;
+import reserve.store.domain.Store;
 
 @ExtendWith(MockitoExtension.class)
 class ReservationManageServiceTest {
@@ -17,6 +22,12 @@ class ReservationManageServiceTest {
     @Mock
     ReservationRepository reservationRepository;
 
+    @Mock
+    SlotService slotService;
+
+    @Mock
+    NotificationService notificationService;
+
     @InjectMocks
     ReservationManageService reservationManageService;
 
@@ -29,6 +40,27 @@ class ReservationManageServiceTest {
         reservationManageService.cancel(1L, 1L);
 
         Mockito.verify(reservation, Mockito.times(1)).cancel();
+        Mockito.verify(notificationService, Mockito.times(1))
+            .notifyReservation(1L, NotificationTemplate.RESERVATION_CANCELED_BY_STORE,
+                    NotificationTemplate.RESERVATION_CANCELED_BY_STORE_FOR_REGISTRANT);
+    }
+
+    @Test
+    @DisplayName("Testing cancellation of reservation releases its slot")
+    void testReservationCancellationReleasesSlot() {
+        LocalDate date = LocalDate.now();
+        Store store = Mockito.mock(Store.class);
+        Mockito.when(store.getId()).thenReturn(1L);
+        Reservation reservation = Mockito.mock(Reservation.class);
+        Mockito.when(reservation.cancel()).thenReturn(true);
+        Mockito.when(reservation.getStore()).thenReturn(store);
+        Mockito.when(reservation.getDate()).thenReturn(date);
+        Mockito.when(reservation.getHour()).thenReturn(12);
+        Mockito.when(reservationRepository.findByIdAndStoreUserId(1L, 1L)).thenReturn(Optional.of(reservation));
+
+        reservationManageService.cancel(1L, 1L);
+
+        Mockito.verify(slotService, Mockito.times(1)).release(1L, date, 12);
     }
 
     @Test
@@ -40,6 +72,8 @@ class ReservationManageServiceTest {
         reservationManageService.startService(1L, 1L);
 
         Mockito.verify(reservation, Mockito.times(1)).start();
+        Mockito.verify(notificationService, Mockito.times(1))
+            .notifyReservation(1L, NotificationTemplate.SERVICE_STARTED);
     }
 
     @Test
@@ -51,6 +85,8 @@ class ReservationManageServiceTest {
         reservationManageService.complete(1L, 1L);
 
         Mockito.verify(reservation, Mockito.times(1)).complete();
+        Mockito.verify(notificationService, Mockito.times(1))
+            .notifyReservation(1L, NotificationTemplate.SERVICE_COMPLETED);
     }
 
 }
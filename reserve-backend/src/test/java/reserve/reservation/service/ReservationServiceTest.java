@@ -4,11 +4,17 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
@@ -16,13 +22,29 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.InvalidRequestException;
+import reserve.global.exception.ResourceNotFoundException;
+import reserve.global.exception.SlotCapacityException;
+import reserve.global.pagination.CountCache;
+import reserve.global.pagination.CountMode;
 import reserve.menu.domain.Menu;
 import reserve.menu.infrastructure.MenuRepository;
+import reserve.notification.domain.NotificationTemplate;
+import reserve.notification.service.NotificationService;
 import reserve.reservation.domain.Reservation;
+import reserve.reservation.dto.ReservationCreateContext;
+import reserve.reservation.dto.ReservationCursor;
+import reserve.reservation.dto.request.ReservationBatchCreateRequest;
 import reserve.reservation.dto.request.ReservationCreateRequest;
 import reserve.reservation.dto.request.ReservationMenuCreateRequest;
 import reserve.reservation.dto.request.ReservationSearchRequest;
 import reserve.reservation.dto.request.ReservationUpdateRequest;
+import reserve.reservation.dto.response.ReservationBatchCreateResponse;
+import reserve.reservation.dto.response.ReservationBatchItemResponse;
+import reserve.reservation.dto.response.ReservationInfoCursorResponse;
 import reserve.reservation.dto.response.ReservationInfoListResponse;
 import reserve.reservation.dto.response.ReservationInfoResponse;
 import reserve.reservation.dto.response.ReservationMenuListResponse;
@@ -30,6 +52,9 @@ import reserve.reservation.dto.response.ReservationMenuResponse;
 import reserve.reservation.infrastructure.ReservationMenuRepository;
 import reserve.reservation.infrastructure.ReservationQueryRepository;
 import reserve.reservation.infrastructure.ReservationRepository;
+import reserve.slot.domain.Slot;
+import reserve.slot.infrastructure.SlotRepository;
+import reserve.slot.service.SlotService;
 import reserve.store.domain.Store;
 import reserve.store.infrastructure.StoreRepository;
 import reserve.user.infrastructure.UserRepository;
@@ -55,6 +80,18 @@ class ReservationServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    SlotRepository slotRepository;
+
+    @Mock
+    SlotService slotService;
+
+    @Mock
+    NotificationService notificationService;
+
+    @Mock
+    CountCache countCache;
+
     @InjectMocks
     ReservationService reservationService;
 
@@ -76,34 +113,127 @@ class ReservationServiceTest {
 
         reservationCreateRequest.setMenus(List.of(menuCreateRequest1, menuCreateRequest2));
 
-        Mockito.when(userRepository.existsById(1L)).thenReturn(true);
-        Mockito.when(storeRepository.existsById(1L)).thenReturn(true);
+        Menu menuMock1 = Mockito.mock();
+        Mockito.when(menuMock1.getName()).thenReturn("menu1");
+        Menu menuMock2 = Mockito.mock();
+        Mockito.when(menuMock2.getName()).thenReturn("menu2");
+
+        Mockito.when(reservationQueryRepository.findCreateContext(1L, 1L, reservationCreateRequest.getDate(),
+                reservationCreateRequest.getHour(), List.of(10L, 20L)))
+            .thenReturn(Optional.of(new ReservationCreateContext(2L, Map.of(10L, menuMock1, 20L, menuMock2), null)));
         Mockito.when(reservationRepository.save(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
 
-        Store storeMock = Mockito.mock();
-        Mockito.when(storeMock.getId()).thenReturn(1L);
+        try (MockedConstruction<Reservation> ignored = Mockito.mockConstruction(Reservation.class,
+                (mock, context) -> Mockito.when(mock.getId()).thenReturn(1L))) {
+            Long result = reservationService.create(1L, reservationCreateRequest);
+            assertEquals(1L, result);
+        }
 
-        Mockito.when(storeRepository.getReferenceById(1L)).thenReturn(storeMock);
+        Mockito.verify(reservationMenuRepository, Mockito.times(1)).saveAll(Mockito.anyList());
+        Mockito.verify(notificationService, Mockito.times(1))
+            .notifyReservation(1L, NotificationTemplate.RESERVATION_CREATED,
+                    NotificationTemplate.RESERVATION_CREATED_FOR_REGISTRANT);
+        Mockito.verify(slotService, Mockito.times(1))
+            .acquire(1L, reservationCreateRequest.getDate(), reservationCreateRequest.getHour(), null);
+    }
 
-        Menu menuMock1 = Mockito.mock();
-        Mockito.when(menuMock1.getId()).thenReturn(10L);
-        Mockito.when(menuMock1.getStore()).thenReturn(storeMock);
+    @Test
+    @DisplayName("Testing reservation creation with a menu of another store")
+    void testReservationCreationWithUnknownMenu() {
+        ReservationCreateRequest reservationCreateRequest = createRequest(1L, LocalDate.now(), 1, 10L);
+
+        Mockito.when(reservationQueryRepository.findCreateContext(1L, 1L, reservationCreateRequest.getDate(), 1,
+                List.of(10L)))
+            .thenReturn(Optional.of(new ReservationCreateContext(2L, Map.of(), null)));
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> reservationService.create(1L, reservationCreateRequest));
+        assertEquals(ErrorCode.MENU_NOT_FOUND, exception.getErrorCode());
+        Mockito.verify(slotService, Mockito.never())
+            .acquire(Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.any());
+    }
 
-        Menu menuMock2 = Mockito.mock();
-        Mockito.when(menuMock2.getId()).thenReturn(20L);
-        Mockito.when(menuMock2.getStore()).thenReturn(storeMock);
+    @Test
+    @DisplayName("Testing reservation creation for a slot read as full")
+    void testReservationCreationForFullSlot() {
+        ReservationCreateRequest reservationCreateRequest = createRequest(1L, LocalDate.now(), 12);
+        Slot slot = new Slot(Mockito.mock(Store.class), reservationCreateRequest.getDate(), 12, 5, 5);
+
+        Mockito.when(reservationQueryRepository.findCreateContext(1L, 1L, reservationCreateRequest.getDate(), 12,
+                List.of()))
+            .thenReturn(Optional.of(new ReservationCreateContext(2L, Map.of(), slot)));
+
+        SlotCapacityException exception = assertThrows(SlotCapacityException.class,
+                () -> reservationService.create(1L, reservationCreateRequest));
+        assertEquals(ErrorCode.RESERVATION_SLOT_FULL, exception.getErrorCode());
+        Mockito.verifyNoInteractions(reservationRepository, slotService);
+    }
 
-        Mockito.when(menuRepository.findAllById(List.of(10L, 20L))).thenReturn(List.of(menuMock1, menuMock2));
+    @Test
+    @DisplayName("Testing bulk reservation creation")
+    void testReservationBatchCreation() {
+        LocalDate date = LocalDate.now().plusDays(7);
+        ReservationBatchCreateRequest reservationBatchCreateRequest = new ReservationBatchCreateRequest();
+        reservationBatchCreateRequest.setReservations(List.of(createRequest(1L, date, 12), createRequest(1L, date, 12),
+                createRequest(2L, date, 12), createRequest(1L, date, 13, 99L), createRequest(1L, date, 18),
+                createRequest(1L, date, 19)));
 
-        try (MockedConstruction<Reservation> ignored = Mockito.mockConstruction(Reservation.class, (mock, context) -> {
-            Mockito.when(mock.getId()).thenReturn(1L);
-            Mockito.when(mock.getStore()).thenReturn((Store) context.arguments().get(1));
-        })) {
-            Long result = reservationService.create(1L, reservationCreateRequest);
-            assertEquals(result, 1L);
+        Store storeMock = Mockito.mock();
+        Mockito.when(storeMock.getId()).thenReturn(1L);
+
+        Mockito.when(userRepository.existsById(1L)).thenReturn(true);
+        Mockito.when(storeRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(storeMock));
+        Mockito.when(menuRepository.findAllById(Set.of(99L))).thenReturn(List.of());
+        Mockito.when(slotRepository.findAllByStoreIdInAndDateIn(Set.of(1L), Set.of(date)))
+            .thenReturn(List.of(new Slot(storeMock, date, 19, 5, 5)));
+        Mockito.when(slotService.tryAcquire(1L, date, 12, 2, null)).thenReturn(true);
+        Mockito.when(slotService.tryAcquire(1L, date, 18, 1, null)).thenReturn(false);
+
+        AtomicLong nextId = new AtomicLong(1);
+        ReservationBatchCreateResponse response;
+        try (MockedConstruction<Reservation> ignored = Mockito.mockConstruction(Reservation.class,
+                (mock, context) -> Mockito.when(mock.getId()).thenReturn(nextId.getAndIncrement()))) {
+            response = reservationService.createAll(1L, reservationBatchCreateRequest);
         }
 
-        Mockito.verify(reservationMenuRepository, Mockito.times(1)).saveAll(Mockito.anyList());
+        assertEquals(2, response.getCreated());
+        assertEquals(4, response.getFailed());
+        assertThat(response.getResults()).extracting(ReservationBatchItemResponse::getError)
+            .containsExactly(null, null, ErrorCode.STORE_NOT_FOUND, ErrorCode.MENU_NOT_FOUND,
+                    ErrorCode.RESERVATION_SLOT_FULL, ErrorCode.RESERVATION_SLOT_FULL);
+        assertEquals(List.of(1L, 2L), response.getReservationIds());
+        Mockito.verify(reservationRepository, Mockito.times(1)).saveAll(Mockito.argThat(list -> {
+            List<Reservation> reservations = new ArrayList<>();
+            list.forEach(reservations::add);
+            return reservations.size() == 2;
+        }));
+        Mockito.verify(notificationService, Mockito.times(1))
+            .notifyReservations(List.of(1L, 2L), NotificationTemplate.RESERVATION_CREATED,
+                    NotificationTemplate.RESERVATION_CREATED_FOR_REGISTRANT);
+        Mockito.verify(slotService, Mockito.never())
+            .tryAcquire(Mockito.eq(1L), Mockito.any(), Mockito.eq(13), Mockito.anyInt(), Mockito.any());
+        Mockito.verify(slotService, Mockito.never())
+            .tryAcquire(Mockito.eq(1L), Mockito.any(), Mockito.eq(19), Mockito.anyInt(), Mockito.any());
+
+        InOrder inOrder = Mockito.inOrder(slotService, reservationRepository);
+        inOrder.verify(slotService).tryAcquire(1L, date, 12, 2, null);
+        inOrder.verify(slotService).tryAcquire(1L, date, 18, 1, null);
+        inOrder.verify(reservationRepository).saveAll(Mockito.any());
+        Mockito.verify(reservationRepository, Mockito.never()).deleteAllByIdInBatch(Mockito.any());
+    }
+
+    private static ReservationCreateRequest createRequest(Long storeId, LocalDate date, int hour, Long... menuIds) {
+        ReservationCreateRequest reservationCreateRequest = new ReservationCreateRequest();
+        reservationCreateRequest.setStoreId(storeId);
+        reservationCreateRequest.setDate(date);
+        reservationCreateRequest.setHour(hour);
+        reservationCreateRequest.setMenus(Arrays.stream(menuIds).map(menuId -> {
+            ReservationMenuCreateRequest menuCreateRequest = new ReservationMenuCreateRequest();
+            menuCreateRequest.setMenuId(menuId);
+            menuCreateRequest.setQuantity(1);
+            return menuCreateRequest;
+        }).toList());
+        return reservationCreateRequest;
     }
 
     @Test
@@ -150,7 +280,8 @@ class ReservationServiceTest {
         Mockito.when(reservationQueryRepository.findResponsesBySearch(1L, reservationSearchRequest, pageable))
             .thenReturn(new PageImpl<>(List.of(reservationInfo1, reservationInfo2, reservationInfo3), pageable, 3));
 
-        ReservationInfoListResponse response = reservationService.search(1L, reservationSearchRequest, pageable);
+        ReservationInfoListResponse response = reservationService.search(1L, reservationSearchRequest, pageable,
+                CountMode.EXACT);
 
         assertEquals(3, response.getCount());
         assertEquals(3, response.getResults().size());
@@ -160,6 +291,40 @@ class ReservationServiceTest {
         assertThat(response.getResults()).contains(reservationInfo1, reservationInfo2, reservationInfo3);
     }
 
+    @Test
+    @DisplayName("Testing reservation search by cursor")
+    void testReservationSearchByCursor() {
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        ReservationSearchRequest reservationSearchRequest = new ReservationSearchRequest();
+        ReservationCursor cursor = new ReservationCursor(date, 18, 10L);
+        ReservationInfoResponse reservationInfo1 = new ReservationInfoResponse(9L, 1L, "registrant", "username", date,
+                18);
+        ReservationInfoResponse reservationInfo2 = new ReservationInfoResponse(5L, 1L, "registrant", "username", date,
+                12);
+
+        Mockito.when(userRepository.existsById(1L)).thenReturn(true);
+        Mockito
+            .when(reservationQueryRepository.findResponsesBySearchAfter(1L, reservationSearchRequest, cursor, 2))
+            .thenReturn(new SliceImpl<>(List.of(reservationInfo1, reservationInfo2), Pageable.ofSize(2), true));
+
+        ReservationInfoCursorResponse response = reservationService.searchByCursor(1L, reservationSearchRequest,
+                cursor.encode(), 2);
+
+        assertEquals(2, response.getPageSize());
+        assertTrue(response.hasNext());
+        assertEquals(new ReservationCursor(date, 12, 5L), ReservationCursor.decode(response.getNextCursor()));
+        assertThat(response.getResults()).containsExactly(reservationInfo1, reservationInfo2);
+    }
+
+    @Test
+    @DisplayName("Testing reservation search with a malformed cursor")
+    void testReservationSearchByMalformedCursor() {
+        Mockito.when(userRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(InvalidRequestException.class,
+                () -> reservationService.searchByCursor(1L, new ReservationSearchRequest(), "not-a-cursor", 20));
+    }
+
     @Test
     @DisplayName("Testing reservation update functionality")
     void testReservationUpdating() {
@@ -170,13 +335,42 @@ class ReservationServiceTest {
         Mockito.when(request.getDate()).thenReturn(newDate);
         Mockito.when(request.getHour()).thenReturn(10);
 
-        Reservation reservation = new Reservation(Mockito.mock(), Mockito.mock(), now, 1);
+        Store store = Mockito.mock(Store.class);
+        Mockito.when(store.getId()).thenReturn(1L);
+        Reservation reservation = new Reservation(Mockito.mock(), store, now, 1);
         Mockito.when(reservationRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(reservation));
 
         reservationService.update(1L, 1L, request);
 
         assertEquals(newDate, reservation.getDate());
         assertEquals(10, reservation.getHour());
+        InOrder inOrder = Mockito.inOrder(slotService);
+        inOrder.verify(slotService).release(1L, now, 1);
+        inOrder.verify(slotService).acquire(1L, newDate, 10);
+        Mockito.verify(notificationService, Mockito.times(1))
+            .notifyReservation(1L, NotificationTemplate.RESERVATION_UPDATED,
+                    NotificationTemplate.RESERVATION_UPDATED_FOR_REGISTRANT);
+    }
+
+    @Test
+    @DisplayName("Testing reservation update to an earlier slot")
+    void testReservationUpdatingToEarlierSlot() {
+        LocalDate date = LocalDate.now().plusDays(1);
+
+        ReservationUpdateRequest request = new ReservationUpdateRequest();
+        request.setDate(date);
+        request.setHour(10);
+
+        Store store = Mockito.mock(Store.class);
+        Mockito.when(store.getId()).thenReturn(1L);
+        Reservation reservation = new Reservation(Mockito.mock(), store, date, 12);
+        Mockito.when(reservationRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(reservation));
+
+        reservationService.update(1L, 1L, request);
+
+        InOrder inOrder = Mockito.inOrder(slotService);
+        inOrder.verify(slotService).acquire(1L, date, 10);
+        inOrder.verify(slotService).release(1L, date, 12);
     }
 
     @Test
@@ -188,6 +382,9 @@ class ReservationServiceTest {
         reservationService.cancel(1L, 1L);
 
         Mockito.verify(reservation, Mockito.times(1)).cancel();
+        Mockito.verify(notificationService, Mockito.times(1))
+            .notifyReservation(1L, NotificationTemplate.RESERVATION_CANCELED,
+                    NotificationTemplate.RESERVATION_CANCELED_FOR_REGISTRANT);
     }
 
 }
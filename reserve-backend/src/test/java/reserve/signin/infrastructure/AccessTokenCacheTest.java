@@ -0,0 +1,77 @@
+package reserve.signin.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reserve.global.exception.InvalidAuthorizationException;
+import reserve.signin.dto.AccessTokenValidation;
+import reserve.support.MutableClock;
+import reserve.support.TestUtils;
+
+class AccessTokenCacheTest {
+
+    final String ACCESS_TOKEN_SECRET = "1234567890123456789012345678901234567890123456789012345678901234";
+
+    final String REFRESH_TOKEN_SECRET = "9876543210987654321098765432109876543210987654321098765432109876";
+
+    final int ACCESS_TOKEN_EXPIRATION = 600;
+
+    final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    final JwtProvider jwtProvider = Mockito.spy(
+            new JwtProvider(ACCESS_TOKEN_SECRET, REFRESH_TOKEN_SECRET, ACCESS_TOKEN_EXPIRATION, 604800, clock));
+
+    final AccessTokenCache accessTokenCache = new AccessTokenCache(jwtProvider, clock, 16);
+
+    @Test
+    @DisplayName("Testing that a verified token is not verified again until it expires")
+    void testCachedValidation() {
+        String token = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(1L)).getAccessToken();
+
+        AccessTokenValidation first = accessTokenCache.validate(token);
+        clock.advance(Duration.ofSeconds(ACCESS_TOKEN_EXPIRATION));
+        AccessTokenValidation second = accessTokenCache.validate(token);
+
+        assertFalse(second.isExpired());
+        assertEquals("1", second.getTokenDetails().getUserId());
+        assertSame(first, second);
+        Mockito.verify(jwtProvider, Mockito.times(1)).validateAccessToken(token);
+
+        clock.advance(Duration.ofSeconds(1));
+
+        assertTrue(accessTokenCache.validate(token).isExpired());
+        assertTrue(accessTokenCache.validate(token).isExpired());
+        Mockito.verify(jwtProvider, Mockito.times(3)).validateAccessToken(token);
+    }
+
+    @Test
+    @DisplayName("Testing that invalid tokens are never cached")
+    void testInvalidToken() {
+        assertThrows(InvalidAuthorizationException.class, () -> accessTokenCache.validate("Not a valid token"));
+        assertThrows(InvalidAuthorizationException.class, () -> accessTokenCache.validate("Not a valid token"));
+        Mockito.verify(jwtProvider, Mockito.times(2)).validateAccessToken("Not a valid token");
+    }
+
+    @Test
+    @DisplayName("Testing cache hit and miss metrics")
+    void testMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        accessTokenCache.bindTo(registry);
+        String token = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(1L)).getAccessToken();
+
+        accessTokenCache.validate(token);
+        accessTokenCache.validate(token);
+        accessTokenCache.validate(token);
+
+        assertEquals(2, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1, registry.get("cache.size").gauge().value());
+    }
+
+}
@@ -0,0 +1,101 @@
+package reserve.signin.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reserve.support.MutableClock;
+
+class InMemoryRefreshTokenStoreTest {
+
+    final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    final InMemoryRefreshTokenStore refreshTokenStore = new InMemoryRefreshTokenStore(clock, 4, 1000, 8);
+
+    @Test
+    @DisplayName("Testing refresh token persistence and retrieval")
+    void testSaveAndFind() {
+        refreshTokenStore.save("token1", 1L, 60);
+
+        assertTrue(refreshTokenStore.contains("token1", 1L));
+        assertFalse(refreshTokenStore.contains("token1", 2L));
+        assertFalse(refreshTokenStore.contains("token2", 1L));
+    }
+
+    @Test
+    @DisplayName("Testing that a refresh token is rotated only once")
+    void testRotate() {
+        refreshTokenStore.save("token1", 1L, 60);
+
+        assertFalse(refreshTokenStore.rotate("token1", "token2", 2L, 60));
+        assertTrue(refreshTokenStore.rotate("token1", "token2", 1L, 60));
+        assertFalse(refreshTokenStore.rotate("token1", "token3", 1L, 60));
+
+        assertFalse(refreshTokenStore.contains("token1", 1L));
+        assertTrue(refreshTokenStore.contains("token2", 1L));
+        assertFalse(refreshTokenStore.contains("token3", 1L));
+        assertEquals(1, refreshTokenStore.size());
+    }
+
+    @Test
+    @DisplayName("Testing that expired refresh tokens are rejected and swept by the timing wheel")
+    void testExpiration() {
+        refreshTokenStore.save("token1", 1L, 3);
+        refreshTokenStore.save("token2", 1L, 20);
+
+        clock.advance(Duration.ofSeconds(3));
+
+        assertFalse(refreshTokenStore.contains("token1", 1L));
+        assertFalse(refreshTokenStore.rotate("token1", "token3", 1L, 60));
+
+        clock.advance(Duration.ofSeconds(1));
+        refreshTokenStore.contains("token2", 1L);
+
+        assertEquals(1, refreshTokenStore.size());
+
+        // More than a turn of the wheel has passed, so every bucket is swept once.
+        clock.advance(Duration.ofSeconds(17));
+        refreshTokenStore.contains("token2", 1L);
+
+        assertEquals(0, refreshTokenStore.size());
+    }
+
+    @Test
+    @DisplayName("Testing that the least recently saved refresh token is dropped beyond the max size")
+    void testMaxSize() {
+        for (int i = 1; i <= 5; i++) {
+            refreshTokenStore.save("token" + i, (long) i, 60);
+        }
+
+        assertEquals(4, refreshTokenStore.size());
+        assertFalse(refreshTokenStore.contains("token1", 1L));
+        assertTrue(refreshTokenStore.contains("token5", 5L));
+    }
+
+    @Test
+    @DisplayName("Testing sign-out of one session and of all sessions")
+    void testDelete() {
+        refreshTokenStore.save("token1", 1L, 60);
+        refreshTokenStore.save("token2", 1L, 60);
+        refreshTokenStore.save("token3", 1L, 60);
+        refreshTokenStore.save("token4", 2L, 60);
+
+        refreshTokenStore.delete("token1", 1L);
+        refreshTokenStore.delete("token4", 1L);
+
+        assertFalse(refreshTokenStore.contains("token1", 1L));
+        assertTrue(refreshTokenStore.contains("token4", 2L));
+        assertEquals(3, refreshTokenStore.size());
+
+        refreshTokenStore.deleteAll(1L);
+
+        assertFalse(refreshTokenStore.contains("token2", 1L));
+        assertFalse(refreshTokenStore.contains("token3", 1L));
+        assertTrue(refreshTokenStore.contains("token4", 2L));
+        assertEquals(1, refreshTokenStore.size());
+    }
+
+}
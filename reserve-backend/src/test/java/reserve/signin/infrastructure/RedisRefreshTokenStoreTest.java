@@ -0,0 +1,241 @@
+package reserve.signin.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.lettuce.core.cluster.SlotHash;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reserve.support.RedisCleaner;
+import reserve.support.RedisIntegrationTest;
+import reserve.support.TestUtils;
+
+@Slf4j
+@RedisIntegrationTest
+class RedisRefreshTokenStoreTest {
+
+    static final int SESSIONS = 100;
+
+    static final Duration TTL = Duration.ofSeconds(604800);
+
+    static final RedisScript<Long> MEMORY_USAGE_SCRIPT = RedisScript.of(
+            "return redis.call('MEMORY', 'USAGE', KEYS[1], 'SAMPLES', 0)", Long.class);
+
+    @Autowired
+    RedisRefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
+    @Autowired
+    JwtProvider jwtProvider;
+
+    @Autowired
+    RedisCleaner redisCleaner;
+
+    @AfterEach
+    void cleanUp() {
+        redisCleaner.cleanUp();
+    }
+
+    @Test
+    @DisplayName("Testing refresh token persistence and retrieval")
+    void testSaveAndFind() {
+        refreshTokenStore.save("token1", 1L, 604800);
+
+        assertTrue(refreshTokenStore.contains("token1", 1L));
+        assertFalse(refreshTokenStore.contains("token1", 2L));
+        assertFalse(refreshTokenStore.contains("token2", 1L));
+        String tokenKey = RedisRefreshTokenStore.tokenKey(1L, TokenDigest.sha256Base64("token1"));
+        String userKey = RedisRefreshTokenStore.userKey(1L);
+        assertTrue(redisTemplate.getExpire(tokenKey) > 0);
+        assertTrue(redisTemplate.getExpire(userKey) > 0);
+        assertEquals(SlotHash.getSlot(userKey), SlotHash.getSlot(tokenKey));
+    }
+
+    @Test
+    @DisplayName("Testing that a refresh token is rotated only once")
+    void testRotate() {
+        refreshTokenStore.save("token1", 1L, 604800);
+
+        assertFalse(refreshTokenStore.rotate("token1", "token2", 2L, 604800));
+        assertTrue(refreshTokenStore.rotate("token1", "token2", 1L, 604800));
+        assertFalse(refreshTokenStore.rotate("token1", "token3", 1L, 604800));
+
+        assertFalse(refreshTokenStore.contains("token1", 1L));
+        assertTrue(refreshTokenStore.contains("token2", 1L));
+        assertFalse(refreshTokenStore.contains("token3", 1L));
+        assertEquals(1L, redisTemplate.opsForSet().size(RedisRefreshTokenStore.userKey(1L)));
+    }
+
+    @Test
+    @DisplayName("Testing concurrent rotations of the same refresh token")
+    void testConcurrentRotate() {
+        refreshTokenStore.save("token", 1L, 604800);
+
+        List<CompletableFuture<Boolean>> rotations = IntStream.range(0, 8)
+            .mapToObj(i -> CompletableFuture.supplyAsync(
+                    () -> refreshTokenStore.rotate("token", "token" + i, 1L, 604800)))
+            .toList();
+
+        assertEquals(1, rotations.stream().filter(CompletableFuture::join).count());
+        assertEquals(1, redisTemplate.opsForSet().size(RedisRefreshTokenStore.userKey(1L)));
+    }
+
+    @Test
+    @DisplayName("Testing sign-out of one session and of all sessions")
+    void testDelete() {
+        refreshTokenStore.save("token1", 1L, 604800);
+        refreshTokenStore.save("token2", 1L, 604800);
+        refreshTokenStore.save("token3", 1L, 604800);
+        refreshTokenStore.save("token4", 2L, 604800);
+
+        refreshTokenStore.delete("token1", 1L);
+        refreshTokenStore.delete("token4", 1L);
+
+        assertFalse(refreshTokenStore.contains("token1", 1L));
+        assertTrue(refreshTokenStore.contains("token4", 2L));
+        assertEquals(2, redisTemplate.opsForSet().size(RedisRefreshTokenStore.userKey(1L)));
+
+        refreshTokenStore.deleteAll(1L);
+
+        assertFalse(refreshTokenStore.contains("token2", 1L));
+        assertFalse(refreshTokenStore.contains("token3", 1L));
+        assertFalse(redisTemplate.hasKey(RedisRefreshTokenStore.userKey(1L)));
+        assertTrue(refreshTokenStore.contains("token4", 2L));
+    }
+
+    @Test
+    @DisplayName("Testing that a refresh token of the former layout is moved when it is used")
+    void testLegacyTokenOnUse() {
+        saveLegacy("token1", 1L);
+        saveLegacy("token2", 1L);
+
+        assertFalse(refreshTokenStore.contains("token1", 2L));
+        assertTrue(redisTemplate.hasKey(RedisRefreshTokenStore.legacyKey("token1")));
+        assertTrue(refreshTokenStore.contains("token1", 1L));
+        assertTrue(refreshTokenStore.rotate("token2", "token3", 1L, 604800));
+
+        assertFalse(redisTemplate.hasKey(RedisRefreshTokenStore.legacyKey("token1")));
+        assertFalse(redisTemplate.hasKey(RedisRefreshTokenStore.legacyKey("token1") + ":phantom"));
+        assertFalse(redisTemplate.hasKey(RedisRefreshTokenStore.LEGACY_SET_KEY));
+        String tokenKey = RedisRefreshTokenStore.tokenKey(1L, TokenDigest.sha256Base64("token1"));
+        assertTrue(redisTemplate.getExpire(tokenKey) > 0 && redisTemplate.getExpire(tokenKey) <= 3600);
+        assertFalse(refreshTokenStore.contains("token2", 1L));
+        assertTrue(refreshTokenStore.contains("token3", 1L));
+
+        refreshTokenStore.deleteAll(1L);
+
+        assertFalse(refreshTokenStore.contains("token1", 1L));
+        assertFalse(refreshTokenStore.contains("token3", 1L));
+    }
+
+    @Test
+    @DisplayName("Testing that refresh tokens of the former layout are moved in the background")
+    void testLegacyTokenMigration() {
+        saveLegacy("token1", 1L);
+        saveLegacy("token2", 2L);
+        redisTemplate.opsForSet().add(RedisRefreshTokenStore.LEGACY_SET_KEY, "expired");
+
+        assertEquals(3, refreshTokenStore.migrateLegacyTokens(10));
+        assertEquals(0, refreshTokenStore.migrateLegacyTokens(10));
+
+        assertFalse(redisTemplate.hasKey(RedisRefreshTokenStore.LEGACY_SET_KEY));
+        assertTrue(refreshTokenStore.contains("token1", 1L));
+        assertTrue(refreshTokenStore.contains("token2", 2L));
+        assertEquals(1, redisTemplate.opsForSet().size(RedisRefreshTokenStore.userKey(1L)));
+    }
+
+    /**
+     * Writes a token as the former {@code @RedisHash("refresh")} mapping did, with an hour left to live.
+     */
+    private void saveLegacy(String tokenValue, Long userId) {
+        Map<String, String> hash = Map.of("_class", "reserve.signin.domain.RefreshToken", "tokenValue", tokenValue,
+                "userId", userId.toString(), "expiration", "604800");
+        String hashKey = RedisRefreshTokenStore.legacyKey(tokenValue);
+        redisTemplate.opsForHash().putAll(hashKey, hash);
+        redisTemplate.expire(hashKey, Duration.ofHours(1));
+        redisTemplate.opsForHash().putAll(hashKey + ":phantom", hash);
+        redisTemplate.expire(hashKey + ":phantom", Duration.ofHours(1).plusMinutes(5));
+        redisTemplate.opsForSet().add(RedisRefreshTokenStore.LEGACY_SET_KEY, tokenValue);
+    }
+
+    /**
+     * Measures the bytes per session of three layouts, each holding one session for each of {@link #SESSIONS} users:
+     * the compact layout of the store, the same layout keyed by the token itself, and the original {@code @RedisHash}
+     * mapping, which kept a hash per token, its phantom copy for expiration events and the {@code refresh} set of all
+     * token IDs.
+     */
+    @Test
+    @DisplayName("Testing that a session takes less memory than keying it by the token or mapping it with @RedisHash")
+    void testMemoryUsage() {
+        List<String> tokens = LongStream.rangeClosed(1, SESSIONS)
+            .mapToObj(userId -> jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId)).getRefreshToken())
+            .toList();
+
+        List<String> compactKeys = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            Long userId = i + 1L;
+            refreshTokenStore.save(tokens.get(i), userId, 604800);
+            compactKeys.add(RedisRefreshTokenStore.tokenKey(userId, TokenDigest.sha256Base64(tokens.get(i))));
+            compactKeys.add(RedisRefreshTokenStore.userKey(userId));
+        }
+        long compactUsage = memoryUsage(compactKeys) / SESSIONS;
+
+        redisCleaner.cleanUp();
+        List<String> tokenKeyedKeys = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            String userKey = "refresh-token:user:" + (i + 1);
+            redisTemplate.opsForValue().set("refresh-token:" + tokens.get(i), String.valueOf(i + 1), TTL);
+            redisTemplate.opsForSet().add(userKey, tokens.get(i));
+            tokenKeyedKeys.add("refresh-token:" + tokens.get(i));
+            tokenKeyedKeys.add(userKey);
+        }
+        long tokenKeyedUsage = memoryUsage(tokenKeyedKeys) / SESSIONS;
+
+        redisCleaner.cleanUp();
+        List<String> redisHashKeys = new ArrayList<>(List.of("refresh"));
+        for (int i = 0; i < SESSIONS; i++) {
+            Map<String, String> hash = Map.of("_class", "reserve.signin.domain.RefreshToken", "tokenValue",
+                    tokens.get(i), "userId", String.valueOf(i + 1), "expiration", "604800");
+            String hashKey = "refresh:" + tokens.get(i);
+            redisTemplate.opsForHash().putAll(hashKey, hash);
+            redisTemplate.expire(hashKey, TTL);
+            redisTemplate.opsForHash().putAll(hashKey + ":phantom", hash);
+            redisTemplate.expire(hashKey + ":phantom", TTL.plusMinutes(5));
+            redisTemplate.opsForSet().add("refresh", tokens.get(i));
+            redisHashKeys.add(hashKey);
+            redisHashKeys.add(hashKey + ":phantom");
+        }
+        long redisHashUsage = memoryUsage(redisHashKeys) / SESSIONS;
+
+        log.info("Bytes per session: compact {}, keyed by token {}, @RedisHash {}", compactUsage, tokenKeyedUsage,
+                redisHashUsage);
+        assertEquals(43, TokenDigest.sha256Base64(tokens.get(0)).length());
+        assertTrue(compactUsage < tokenKeyedUsage && tokenKeyedUsage < redisHashUsage,
+                () -> "Bytes per session: compact " + compactUsage + ", keyed by token " + tokenKeyedUsage
+                        + ", @RedisHash " + redisHashUsage);
+    }
+
+    private long memoryUsage(List<String> keys) {
+        return keys.stream().mapToLong(this::memoryUsage).sum();
+    }
+
+    private long memoryUsage(String key) {
+        Long usage = redisTemplate.execute(MEMORY_USAGE_SCRIPT, List.of(key));
+        assertNotNull(usage);
+        return usage;
+    }
+
+}
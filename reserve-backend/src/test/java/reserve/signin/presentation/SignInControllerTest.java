@@ -17,7 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import reserve.support.BaseRestAssuredTest;
 import reserve.signin.dto.request.SignInRequest;
 import reserve.signin.infrastructure.JwtProvider;
-import reserve.signin.infrastructure.RefreshTokenRepository;
+import reserve.signin.infrastructure.RefreshTokenStore;
 import reserve.signup.infrastructure.PasswordEncoder;
 import reserve.user.domain.User;
 import reserve.user.infrastructure.UserRepository;
@@ -37,7 +37,7 @@ class SignInControllerTest extends BaseRestAssuredTest {
     UserRepository userRepository;
 
     @Autowired
-    RefreshTokenRepository refreshTokenRepository;
+    RefreshTokenStore refreshTokenStore;
 
     User user;
 
@@ -68,9 +68,7 @@ class SignInControllerTest extends BaseRestAssuredTest {
         assertFalse(jwtProvider.isAccessTokenExpired(response.getHeader("Authorization")));
         assertFalse(jwtProvider.isRefreshTokenExpired(response.getCookie("refresh")));
 
-        refreshTokenRepository.findById(response.getCookie("refresh"))
-            .ifPresentOrElse(refreshToken -> assertEquals(user.getId(), refreshToken.getUserId()),
-                    () -> fail("Refresh token not found"));
+        assertTrue(refreshTokenStore.contains(response.getCookie("refresh"), user.getId()), "Refresh token not found");
     }
 
     @Test
@@ -104,10 +102,16 @@ class SignInControllerTest extends BaseRestAssuredTest {
         assertFalse(jwtProvider.isRefreshTokenExpired(response.getCookie("refresh")));
         assertNotEquals(refreshToken, response.getCookie("refresh"));
 
-        refreshTokenRepository.findById(refreshToken).ifPresent(ignored1 -> fail("Old refresh token not deleted"));
-        refreshTokenRepository.findById(response.getCookie("refresh"))
-            .ifPresentOrElse(refreshToken1 -> assertEquals(user.getId(), refreshToken1.getUserId()),
-                    () -> fail("New refresh token not found"));
+        assertFalse(refreshTokenStore.contains(refreshToken, user.getId()), "Old refresh token not deleted");
+        assertTrue(refreshTokenStore.contains(response.getCookie("refresh"), user.getId()),
+                "New refresh token not found");
+
+        RestAssured.given(spec)
+            .cookie("refresh", refreshToken)
+            .when()
+            .post("/v1/token-refresh")
+            .then()
+            .statusCode(401);
     }
 
     @Test
@@ -139,7 +143,7 @@ class SignInControllerTest extends BaseRestAssuredTest {
         response1.then().statusCode(200).cookie("refresh", "");
         assertEquals(0, response1.getDetailedCookie("refresh").getMaxAge());
 
-        refreshTokenRepository.findById(refreshToken).ifPresent(refreshToken1 -> fail("Refresh token not deleted"));
+        assertFalse(refreshTokenStore.contains(refreshToken, user.getId()), "Refresh token not deleted");
     }
 
 }
@@ -5,6 +5,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -15,13 +16,18 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import reserve.global.config.TimeConfig;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.RateLimitException;
+import reserve.global.ratelimit.CredentialRateLimiter;
 import reserve.signin.dto.SignInToken;
 import reserve.signin.dto.request.SignInRequest;
+import reserve.signin.infrastructure.AccessTokenCache;
 import reserve.signin.infrastructure.JwtProvider;
 import reserve.signin.service.SignInService;
+import reserve.support.TestUtils;
 
 @WebMvcTest(SignInController.class)
-@Import({ JwtProvider.class, TimeConfig.class })
+@Import({ JwtProvider.class, AccessTokenCache.class, TimeConfig.class })
 class SignInControllerWebMvcTest {
 
     @Autowired
@@ -30,9 +36,15 @@ class SignInControllerWebMvcTest {
     @Autowired
     ObjectMapper objectMapper;
 
+    @Autowired
+    JwtProvider jwtProvider;
+
     @MockBean
     SignInService signInService;
 
+    @MockBean
+    CredentialRateLimiter credentialRateLimiter;
+
     @Test
     @DisplayName("Testing POST /v1/sign-in endpoint")
     void testSignInEndpoint() throws Exception {
@@ -50,6 +62,25 @@ class SignInControllerWebMvcTest {
                     cookie().value("refresh", signInToken.getRefreshToken()));
     }
 
+    @Test
+    @DisplayName("Testing that rate limited sign-in requests are rejected before the password is checked")
+    void testSignInRateLimit() throws Exception {
+        SignInRequest signInRequest = new SignInRequest();
+        signInRequest.setUsername("username");
+        signInRequest.setPassword("password");
+
+        Mockito.doThrow(new RateLimitException(ErrorCode.TOO_MANY_REQUESTS))
+            .when(credentialRateLimiter)
+            .checkSignIn(Mockito.any(HttpServletRequest.class), Mockito.eq("username"));
+
+        mockMvc
+            .perform(post("/v1/sign-in").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(signInRequest)))
+            .andExpectAll(status().isTooManyRequests(), jsonPath("$.code").value(401));
+
+        Mockito.verifyNoInteractions(signInService);
+    }
+
     @Test
     @DisplayName("Testing POST /v1/token-refresh endpoint")
     void testRefreshAccessTokenEndpoint() throws Exception {
@@ -74,4 +105,15 @@ class SignInControllerWebMvcTest {
             .andExpectAll(status().isOk(), cookie().maxAge("refresh", 0));
     }
 
+    @Test
+    @DisplayName("Testing POST /v1/sign-out-all endpoint")
+    void testSignOutAllEndpoint() throws Exception {
+        String accessToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(1L)).getAccessToken();
+
+        mockMvc.perform(post("/v1/sign-out-all").header("Authorization", "Bearer " + accessToken))
+            .andExpectAll(status().isOk(), cookie().maxAge("refresh", 0));
+
+        Mockito.verify(signInService).signOutAll(1L);
+    }
+
 }
@@ -8,16 +8,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.RefreshTokenException;
+import reserve.global.exception.ServerBusyException;
 import reserve.support.TestUtils;
-import reserve.signin.domain.RefreshToken;
 import reserve.signin.dto.SignInToken;
 import reserve.signin.dto.request.SignInRequest;
 import reserve.signin.infrastructure.JwtProvider;
-import reserve.signin.infrastructure.RefreshTokenRepository;
+import reserve.signin.infrastructure.RefreshTokenStore;
+import reserve.signup.infrastructure.FastPbkdf2PasswordEncoder;
 import reserve.signup.infrastructure.PasswordEncoder;
 import reserve.signup.infrastructure.Pbkdf2PasswordEncoder;
 import reserve.user.domain.User;
@@ -34,7 +38,7 @@ class SignInServiceTest {
     UserRepository userRepository;
 
     @Mock
-    RefreshTokenRepository refreshTokenRepository;
+    RefreshTokenStore refreshTokenStore;
 
     @Spy
     PasswordEncoder passwordEncoder = new Pbkdf2PasswordEncoder();
@@ -47,7 +51,7 @@ class SignInServiceTest {
 
     @BeforeEach
     void setUp() {
-        signInService = new SignInService(604800, userRepository, refreshTokenRepository, passwordEncoder, jwtProvider);
+        signInService = new SignInService(604800, userRepository, refreshTokenStore, passwordEncoder, jwtProvider);
     }
 
     @Test
@@ -64,37 +68,122 @@ class SignInServiceTest {
         SignInToken signInToken = signInService.signIn(signInRequest);
 
         assertNotNull(signInToken.getAccessToken());
-        Mockito.verify(refreshTokenRepository)
-            .save(Mockito.argThat(refreshToken -> refreshToken.getTokenValue().equals(signInToken.getRefreshToken())
-                    && refreshToken.getUserId().equals(1L) && refreshToken.getExpiration() == 604800));
+        Mockito.verify(refreshTokenStore).save(signInToken.getRefreshToken(), 1L, 604800);
+    }
+
+    @Test
+    @DisplayName("Testing that outdated password hashes are replaced on sign-in")
+    void testPasswordRehashOnSignIn() {
+        PasswordEncoder currentEncoder = new FastPbkdf2PasswordEncoder(1000, 256, 20);
+        signInService = new SignInService(604800, userRepository, refreshTokenStore, currentEncoder, jwtProvider);
+        String legacyHash = passwordEncoder.encode("password");
+        User user = Mockito.spy(new User("username", legacyHash, "nickname", "description"));
+        Mockito.when(user.getId()).thenReturn(1L);
+        Mockito.when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+
+        SignInRequest signInRequest = Mockito.spy(new SignInRequest());
+        Mockito.when(signInRequest.getUsername()).thenReturn("username");
+        Mockito.when(signInRequest.getPassword()).thenReturn("password");
+        signInService.signIn(signInRequest);
+
+        ArgumentCaptor<String> newHash = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(userRepository).updatePasswordHash(Mockito.eq(1L), Mockito.eq(legacyHash), newHash.capture());
+        assertTrue(newHash.getValue().startsWith(FastPbkdf2PasswordEncoder.PREFIX));
+        assertTrue(currentEncoder.matches("password", newHash.getValue()));
+        assertFalse(currentEncoder.upgradeEncoding(newHash.getValue()));
+        Mockito.verify(user, Mockito.never()).changePassword(Mockito.anyString());
+    }
+
+    @Test
+    @DisplayName("Testing that sign-in succeeds when the rehash is rejected as busy")
+    void testSignInWhenRehashIsRejected() {
+        String legacyHash = passwordEncoder.encode("password");
+        PasswordEncoder busyEncoder = Mockito.spy(new FastPbkdf2PasswordEncoder(1000, 256, 20));
+        Mockito.doThrow(new ServerBusyException(ErrorCode.SERVER_BUSY)).when(busyEncoder).encode("password");
+        signInService = new SignInService(604800, userRepository, refreshTokenStore, busyEncoder, jwtProvider);
+        User user = Mockito.spy(new User("username", legacyHash, "nickname", "description"));
+        Mockito.when(user.getId()).thenReturn(1L);
+        Mockito.when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+
+        SignInRequest signInRequest = Mockito.spy(new SignInRequest());
+        Mockito.when(signInRequest.getUsername()).thenReturn("username");
+        Mockito.when(signInRequest.getPassword()).thenReturn("password");
+        SignInToken signInToken = signInService.signIn(signInRequest);
+
+        assertNotNull(signInToken.getAccessToken());
+        assertEquals(legacyHash, user.getPasswordHash());
+        Mockito.verify(userRepository, Mockito.never())
+            .updatePasswordHash(Mockito.any(), Mockito.any(), Mockito.any());
     }
 
     @Test
     @DisplayName("Testing access token refresh functionality")
     void testRefreshAccessToken() {
         String refreshTokenString = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(1L)).getRefreshToken();
-        RefreshToken refreshToken = new RefreshToken(refreshTokenString, 1L, 604800);
-        Mockito.when(refreshTokenRepository.findById(refreshTokenString)).thenReturn(Optional.of(refreshToken));
-
         User user = Mockito.mock(User.class);
         Mockito.when(user.getId()).thenReturn(1L);
         Mockito.when(user.getUsername()).thenReturn("username");
         Mockito.when(user.getNickname()).thenReturn("nickname");
         Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
+        Mockito.when(refreshTokenStore.rotate(Mockito.eq(refreshTokenString), Mockito.anyString(), Mockito.eq(1L),
+                Mockito.eq(604800))).thenReturn(true);
+
         SignInToken signInToken = signInService.refreshAccessToken(refreshTokenString);
 
         assertNotNull(signInToken.getAccessToken());
+        Mockito.verify(refreshTokenStore).rotate(refreshTokenString, signInToken.getRefreshToken(), 1L, 604800);
+    }
+
+    @Test
+    @DisplayName("Testing that a refresh token already rotated is rejected")
+    void testRefreshAccessTokenAlreadyRotated() {
+        String refreshTokenString = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(1L)).getRefreshToken();
+
+        User user = Mockito.mock(User.class);
+        Mockito.when(user.getId()).thenReturn(1L);
+        Mockito.when(user.getUsername()).thenReturn("username");
+        Mockito.when(user.getNickname()).thenReturn("nickname");
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        Mockito.when(refreshTokenStore.rotate(Mockito.eq(refreshTokenString), Mockito.anyString(), Mockito.eq(1L),
+                Mockito.eq(604800))).thenReturn(false);
+
+        RefreshTokenException exception = assertThrows(RefreshTokenException.class,
+                () -> signInService.refreshAccessToken(refreshTokenString));
+        assertEquals(ErrorCode.EXPIRED_REFRESH_TOKEN, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Testing authentication with a refresh token that is still stored")
+    void testRefreshTokenAuthentication() {
+        String refreshTokenString = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(1L)).getRefreshToken();
+        Mockito.when(refreshTokenStore.contains(refreshTokenString, 1L)).thenReturn(true, false);
+
+        assertEquals(1L, signInService.authenticateRefreshToken(refreshTokenString));
+        RefreshTokenException exception = assertThrows(RefreshTokenException.class,
+                () -> signInService.authenticateRefreshToken(refreshTokenString));
+        assertEquals(ErrorCode.EXPIRED_REFRESH_TOKEN, exception.getErrorCode());
+        Mockito.verify(refreshTokenStore, Mockito.never())
+            .rotate(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt());
     }
 
     @Test
     @DisplayName("Testing sign-out functionality")
     void testSignOut() {
         Mockito.doReturn(false).when(jwtProvider).isRefreshTokenExpired("refreshToken");
+        Mockito.doReturn(1L).when(jwtProvider).extractRefreshTokenUserId("refreshToken");
 
         signInService.signOut("refreshToken");
 
-        Mockito.verify(refreshTokenRepository).deleteById("refreshToken");
+        Mockito.verify(refreshTokenStore).delete("refreshToken", 1L);
+    }
+
+    @Test
+    @DisplayName("Testing sign-out of all sessions")
+    void testSignOutAll() {
+        signInService.signOutAll(1L);
+
+        Mockito.verify(refreshTokenStore).deleteAll(1L);
     }
 
 }
@@ -0,0 +1,82 @@
+package reserve.signup.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reserve.global.exception.ServerBusyException;
+
+class BoundedPasswordEncoderTest {
+
+    final CountDownLatch started = new CountDownLatch(1);
+
+    final CountDownLatch release = new CountDownLatch(1);
+
+    final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, CharSequence encodedPassword) {
+            return encodedPassword.toString().equals("hash:" + rawPassword);
+        }
+
+    };
+
+    final BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("Testing password hashing on the bounded executor")
+    void testDelegation() {
+        release.countDown();
+        String hash = passwordEncoder.encode("1234");
+
+        assertEquals("hash:1234", hash);
+        assertTrue(passwordEncoder.matches("1234", hash));
+        assertFalse(passwordEncoder.matches("4321", hash));
+    }
+
+    @Test
+    @DisplayName("Testing rejection when the executor and its queue are full")
+    void testRejection() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        passwordEncoder.bindTo(registry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("running"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("queued"));
+        while (registry.get("password.hash.queue").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(ServerBusyException.class, () -> passwordEncoder.encode("rejected"));
+        assertEquals(1, registry.get("password.hash.rejected").functionCounter().count());
+
+        release.countDown();
+        assertEquals("hash:running", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash:queued", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(2, registry.get("password.hash").tag("operation", "encode").functionTimer().count());
+    }
+
+}
@@ -0,0 +1,66 @@
+package reserve.signup.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FastPbkdf2PasswordEncoderTest {
+
+    final PasswordEncoder passwordEncoder = new FastPbkdf2PasswordEncoder();
+
+    final PasswordEncoder referenceEncoder = new Pbkdf2PasswordEncoder();
+
+    @Test
+    @DisplayName("Testing password match")
+    void testPasswordMatch() {
+        String encode = passwordEncoder.encode("1324");
+        assertThat(encode).startsWith("$pbkdf2-sha256$i=65536$");
+        assertThat(passwordEncoder.matches("1324", encode)).isTrue();
+        assertThat(passwordEncoder.matches("1234", encode)).isFalse();
+        assertThat(passwordEncoder.matches("1324", encode.substring(2))).isFalse();
+        assertThat(passwordEncoder.matches("1324", "$pbkdf2-sha256$i=x$AAAA$AAAA")).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "1234", "p\u00e4ssw\u00f6rd", "\ube44\ubc00\ubc88\ud638",
+            "a password that is longer than the sixty-four bytes of an HMAC block" })
+    @DisplayName("Testing that hashes are derived the same way as Pbkdf2PasswordEncoder")
+    void testCompatibility(String password) {
+        assertThat(referenceEncoder.matches(password, toLegacyHash(passwordEncoder.encode(password)))).isTrue();
+        assertThat(passwordEncoder.matches(password, referenceEncoder.encode(password))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Testing compatibility of hashes longer than one HMAC block")
+    void testMultiBlockCompatibility() {
+        PasswordEncoder fast = new FastPbkdf2PasswordEncoder(1000, 520, 16);
+        PasswordEncoder reference = new Pbkdf2PasswordEncoder(1000, 520, 16);
+
+        assertThat(reference.matches("1234", toLegacyHash(fast.encode("1234")))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Testing that hashes with other parameters match and need an upgrade")
+    void testUpgradeEncoding() {
+        PasswordEncoder cheapEncoder = new FastPbkdf2PasswordEncoder(1000, 256, 20);
+        String legacyHash = referenceEncoder.encode("1234");
+        String cheapHash = cheapEncoder.encode("1234");
+        String currentHash = passwordEncoder.encode("1234");
+
+        assertThat(passwordEncoder.matches("1234", cheapHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(legacyHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(cheapHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(currentHash)).isFalse();
+        assertThat(cheapEncoder.upgradeEncoding(currentHash)).isTrue();
+    }
+
+    private static String toLegacyHash(String encodedPassword) {
+        String[] parts = encodedPassword.split("\\$");
+        return HexUtils.bytesToHex(Base64.getDecoder().decode(parts[3]), Base64.getDecoder().decode(parts[4]));
+    }
+
+}
@@ -16,12 +16,14 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import reserve.global.config.TimeConfig;
+import reserve.global.ratelimit.CredentialRateLimiter;
+import reserve.signin.infrastructure.AccessTokenCache;
 import reserve.signin.infrastructure.JwtProvider;
 import reserve.signup.dto.request.SignUpRequest;
 import reserve.signup.service.SignUpService;
 
 @WebMvcTest(SignUpController.class)
-@Import({ JwtProvider.class, TimeConfig.class })
+@Import({ JwtProvider.class, AccessTokenCache.class, TimeConfig.class })
 class SignUpControllerWebMvcTest {
 
     @Autowired
@@ -33,6 +35,9 @@ class SignUpControllerWebMvcTest {
     @MockBean
     SignUpService signUpService;
 
+    @MockBean
+    CredentialRateLimiter credentialRateLimiter;
+
     @Test
     @DisplayName("Testing POST /v1/sign-up endpoint")
     void testSignUpEndpoint() throws Exception {
@@ -0,0 +1,62 @@
+package reserve.slot.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reserve.slot.domain.SlotAvailabilityChangedEvent;
+import reserve.slot.domain.StoreAvailability;
+import reserve.support.MutableClock;
+
+class AvailabilityCacheTest {
+
+    final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    final AvailabilityCache availabilityCache = new AvailabilityCache(16, 60, clock);
+
+    @Test
+    @DisplayName("Testing that cached availability follows slot changes")
+    void testAvailabilityChange() {
+        LocalDate date = LocalDate.now();
+        availabilityCache.get(1L, date, () -> StoreAvailability.ALL_OPEN);
+
+        availabilityCache.onAvailabilityChanged(new SlotAvailabilityChangedEvent(1L, date, 12, false));
+        int bits = availabilityCache.get(1L, date, () -> fail("Should be cached"));
+        assertFalse(StoreAvailability.isAvailable(bits, 12));
+        assertTrue(StoreAvailability.isAvailable(bits, 13));
+
+        availabilityCache.onAvailabilityChanged(new SlotAvailabilityChangedEvent(1L, date, 12, true));
+        bits = availabilityCache.get(1L, date, () -> fail("Should be cached"));
+        assertTrue(StoreAvailability.isAvailable(bits, 12));
+    }
+
+    @Test
+    @DisplayName("Testing that changes of uncached availability are ignored")
+    void testUncachedAvailabilityChange() {
+        LocalDate date = LocalDate.now();
+        availabilityCache.onAvailabilityChanged(new SlotAvailabilityChangedEvent(1L, date, 12, false));
+
+        int bits = availabilityCache.get(1L, date, () -> StoreAvailability.ALL_OPEN);
+        assertEquals(StoreAvailability.ALL_OPEN, bits);
+    }
+
+    @Test
+    @DisplayName("Testing that cached availability is loaded again after it expires")
+    void testAvailabilityExpiry() {
+        LocalDate date = LocalDate.now();
+        availabilityCache.get(1L, date, () -> StoreAvailability.ALL_OPEN);
+
+        clock.advance(Duration.ofSeconds(59));
+        assertEquals(StoreAvailability.ALL_OPEN, availabilityCache.get(1L, date, () -> fail("Should be cached")));
+
+        clock.advance(Duration.ofSeconds(1));
+        int closed = StoreAvailability.with(StoreAvailability.ALL_OPEN, 12, false);
+        assertEquals(closed, availabilityCache.get(1L, date, () -> closed));
+        assertEquals(closed, availabilityCache.get(1L, date, () -> fail("Should be cached")));
+    }
+
+}
@@ -0,0 +1,115 @@
+package reserve.slot.presentation;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import reserve.global.config.TimeConfig;
+import reserve.signin.dto.SignInToken;
+import reserve.signin.infrastructure.AccessTokenCache;
+import reserve.signin.infrastructure.JwtProvider;
+import reserve.slot.dto.request.SlotUpdateRequest;
+import reserve.slot.dto.response.AvailabilityResponse;
+import reserve.slot.dto.response.SlotInfoListResponse;
+import reserve.slot.dto.response.SlotInfoResponse;
+import reserve.slot.service.SlotService;
+import reserve.support.TestUtils;
+
+@WebMvcTest(SlotController.class)
+@Import({ JwtProvider.class, AccessTokenCache.class, TimeConfig.class })
+class SlotControllerWebMvcTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    JwtProvider jwtProvider;
+
+    @MockBean
+    SlotService slotService;
+
+    @Test
+    @DisplayName("Testing PUT /v1/stores/{storeId}/slots endpoint")
+    void testUpdateEndpoint() throws Exception {
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        SlotUpdateRequest slotUpdateRequest = new SlotUpdateRequest();
+        slotUpdateRequest.setDate(date);
+        slotUpdateRequest.setHours(List.of(12, 13));
+        slotUpdateRequest.setCapacity(10);
+
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(1L));
+
+        mockMvc
+            .perform(put("/v1/stores/{storeId}/slots", 1L)
+                .header("Authorization", "Bearer " + signInToken.getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(slotUpdateRequest)))
+            .andExpect(status().isOk());
+
+        Mockito.verify(slotService)
+            .update(Mockito.eq(1L), Mockito.eq(1L),
+                    Mockito.argThat(request -> date.equals(request.getDate())
+                            && List.of(12, 13).equals(request.getHours()) && request.getCapacity() == 10));
+    }
+
+    @Test
+    @DisplayName("Testing PUT /v1/stores/{storeId}/slots endpoint with an invalid hour")
+    void testUpdateEndpointWithInvalidHour() throws Exception {
+        SlotUpdateRequest slotUpdateRequest = new SlotUpdateRequest();
+        slotUpdateRequest.setDate(LocalDate.of(2025, 1, 1));
+        slotUpdateRequest.setHours(List.of(24));
+        slotUpdateRequest.setCapacity(10);
+
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(1L));
+
+        mockMvc
+            .perform(put("/v1/stores/{storeId}/slots", 1L)
+                .header("Authorization", "Bearer " + signInToken.getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(slotUpdateRequest)))
+            .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(slotService);
+    }
+
+    @Test
+    @DisplayName("Testing GET /v1/stores/{storeId}/slots endpoint")
+    void testGetSlotsEndpoint() throws Exception {
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        Mockito.when(slotService.getSlots(1L, date))
+            .thenReturn(SlotInfoListResponse.from(1L, date, List.of(new SlotInfoResponse(12, 10, 3, 7))));
+
+        mockMvc.perform(get("/v1/stores/{storeId}/slots", 1L).queryParam("date", "2025-01-01"))
+            .andExpectAll(status().isOk(), jsonPath("$.storeId").value(1L), jsonPath("$.count").value(1),
+                    jsonPath("$.results[0].hour").value(12), jsonPath("$.results[0].capacity").value(10),
+                    jsonPath("$.results[0].reserved").value(3), jsonPath("$.results[0].remaining").value(7));
+    }
+
+    @Test
+    @DisplayName("Testing GET /v1/stores/{storeId}/availability endpoint")
+    void testGetAvailabilityEndpoint() throws Exception {
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        Mockito.when(slotService.getAvailability(1L, date))
+            .thenReturn(new AvailabilityResponse(1L, date, List.of(11, 13)));
+
+        mockMvc.perform(get("/v1/stores/{storeId}/availability", 1L).queryParam("date", "2025-01-01"))
+            .andExpectAll(status().isOk(), jsonPath("$.storeId").value(1L), jsonPath("$.date").value("2025-01-01"),
+                    jsonPath("$.availableHours.length()").value(2), jsonPath("$.availableHours[0]").value(11),
+                    jsonPath("$.availableHours[1]").value(13));
+    }
+
+}
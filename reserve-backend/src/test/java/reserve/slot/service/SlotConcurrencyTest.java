@@ -0,0 +1,270 @@
+package reserve.slot.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reserve.global.exception.SlotCapacityException;
+import reserve.notification.infrastructure.NotificationOutboxRepository;
+import reserve.reservation.domain.ReservationStatusType;
+import reserve.reservation.dto.request.ReservationBatchCreateRequest;
+import reserve.reservation.dto.request.ReservationCreateRequest;
+import reserve.reservation.dto.request.ReservationUpdateRequest;
+import reserve.reservation.infrastructure.ReservationRepository;
+import reserve.reservation.service.ReservationService;
+import reserve.slot.domain.Slot;
+import reserve.slot.dto.request.SlotUpdateRequest;
+import reserve.slot.infrastructure.SlotRepository;
+import reserve.store.domain.Store;
+import reserve.store.infrastructure.StoreRepository;
+import reserve.support.IntegrationTest;
+import reserve.support.TestStateCleaner;
+import reserve.user.domain.User;
+import reserve.user.infrastructure.UserRepository;
+
+@IntegrationTest
+class SlotConcurrencyTest {
+
+    static final int CAPACITY = 10;
+
+    static final int REQUESTS = 200;
+
+    @Autowired
+    TestStateCleaner testStateCleaner;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    StoreRepository storeRepository;
+
+    @Autowired
+    SlotRepository slotRepository;
+
+    @Autowired
+    ReservationRepository reservationRepository;
+
+    @Autowired
+    NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    ReservationService reservationService;
+
+    @Autowired
+    SlotService slotService;
+
+    @AfterEach
+    void cleanUp() {
+        testStateCleaner.cleanUp();
+    }
+
+    @Test
+    @DisplayName("[Integration] Testing concurrent reservations never exceed slot capacity")
+    void testConcurrentReservationCreation() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(1);
+        User registrant = userRepository.save(new User("registrant", "password", "registrant", "description"));
+        User customer = userRepository.save(new User("customer", "password", "customer", "description"));
+        Store store = storeRepository.save(new Store(registrant, "Pasta", "address", "description"));
+        slotRepository.save(new Slot(store, date, 12, CAPACITY, 0));
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            List<Future<Object>> futures = IntStream.range(0, REQUESTS).mapToObj(i -> executor.submit(() -> {
+                ReservationCreateRequest request = new ReservationCreateRequest();
+                request.setStoreId(store.getId());
+                request.setDate(date);
+                request.setHour(12);
+                startGate.await();
+                try {
+                    reservationService.create(customer.getId(), request);
+                    succeeded.incrementAndGet();
+                }
+                catch (SlotCapacityException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            })).toList();
+            startGate.countDown();
+            for (Future<Object> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        Slot slot = slotRepository.findAllByStoreIdAndDateOrderByHour(store.getId(), date).get(0);
+        assertEquals(CAPACITY, succeeded.get());
+        assertEquals(REQUESTS - CAPACITY, rejected.get());
+        assertEquals(CAPACITY, slot.getReserved());
+        assertEquals(CAPACITY, reservationRepository.countByStoreIdAndDateAndHourAndStatusNot(store.getId(), date, 12,
+                ReservationStatusType.CANCELLED));
+    }
+
+    @Test
+    @DisplayName("[Integration] Testing slot configuration concurrent with reservations of the hour")
+    void testConcurrentSlotConfiguration() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(1);
+        User registrant = userRepository.save(new User("registrant", "password", "registrant", "description"));
+        User customer = userRepository.save(new User("customer", "password", "customer", "description"));
+        Store store = storeRepository.save(new Store(registrant, "Pasta", "address", "description"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                if (i == REQUESTS / 4) {
+                    futures.add(executor.submit(() -> {
+                        SlotUpdateRequest request = new SlotUpdateRequest();
+                        request.setDate(date);
+                        request.setHours(List.of(12));
+                        request.setCapacity(CAPACITY);
+                        startGate.await();
+                        slotService.update(registrant.getId(), store.getId(), request);
+                        return null;
+                    }));
+                }
+                futures.add(executor.submit(() -> {
+                    ReservationCreateRequest request = new ReservationCreateRequest();
+                    request.setStoreId(store.getId());
+                    request.setDate(date);
+                    request.setHour(12);
+                    startGate.await();
+                    try {
+                        reservationService.create(customer.getId(), request);
+                    }
+                    catch (SlotCapacityException e) {
+                        // Rejected after the configuration
+                    }
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<Object> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        Slot slot = slotRepository.findAllByStoreIdAndDateOrderByHour(store.getId(), date).get(0);
+        assertEquals(CAPACITY, slot.getCapacity());
+        assertEquals(reservationRepository.countByStoreIdAndDateAndHourAndStatusNot(store.getId(), date, 12,
+                ReservationStatusType.CANCELLED), slot.getReserved());
+    }
+
+    @Test
+    @DisplayName("[Integration] Testing concurrent batch reservations never exceed slot capacity")
+    void testConcurrentReservationBatchCreation() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(1);
+        User registrant = userRepository.save(new User("registrant", "password", "registrant", "description"));
+        User customer = userRepository.save(new User("customer", "password", "customer", "description"));
+        Store store = storeRepository.save(new Store(registrant, "Pasta", "address", "description"));
+        slotRepository.save(new Slot(store, date, 12, CAPACITY, 0));
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        try {
+            List<Future<Object>> futures = IntStream.range(0, REQUESTS / 4).mapToObj(i -> executor.submit(() -> {
+                ReservationBatchCreateRequest batchRequest = new ReservationBatchCreateRequest();
+                batchRequest.setReservations(IntStream.range(0, 3).mapToObj(j -> {
+                    ReservationCreateRequest request = new ReservationCreateRequest();
+                    request.setStoreId(store.getId());
+                    request.setDate(date);
+                    request.setHour(12);
+                    return request;
+                }).toList());
+                startGate.await();
+                succeeded.addAndGet(reservationService.createAll(customer.getId(), batchRequest).getCreated());
+                return null;
+            })).toList();
+            startGate.countDown();
+            for (Future<Object> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        Slot slot = slotRepository.findAllByStoreIdAndDateOrderByHour(store.getId(), date).get(0);
+        assertEquals(CAPACITY / 3 * 3, succeeded.get());
+        assertEquals(succeeded.get(), slot.getReserved());
+        assertEquals(succeeded.get(), reservationRepository.count());
+        assertEquals(succeeded.get(), notificationOutboxRepository.count());
+    }
+
+    @Test
+    @DisplayName("[Integration] Testing concurrent moves of reservations between two slots in opposite directions")
+    void testConcurrentOppositeReservationMoves() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(1);
+        User registrant = userRepository.save(new User("registrant", "password", "registrant", "description"));
+        User customer = userRepository.save(new User("customer", "password", "customer", "description"));
+        Store store = storeRepository.save(new Store(registrant, "Pasta", "address", "description"));
+        slotRepository.save(new Slot(store, date, 12, REQUESTS, 0));
+        slotRepository.save(new Slot(store, date, 13, REQUESTS, 0));
+        List<Long> at12 = new ArrayList<>();
+        List<Long> at13 = new ArrayList<>();
+        for (int i = 0; i < REQUESTS / 4; i++) {
+            at12.add(reservationService.create(customer.getId(), createRequest(store.getId(), date, 12)));
+            at13.add(reservationService.create(customer.getId(), createRequest(store.getId(), date, 13)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS / 4; i++) {
+                futures.add(executor.submit(move(customer.getId(), at12.get(i), date, 13, startGate)));
+                futures.add(executor.submit(move(customer.getId(), at13.get(i), date, 12, startGate)));
+            }
+            startGate.countDown();
+            // A deadlock fails one of the moves, which is rethrown here.
+            for (Future<Object> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        List<Slot> slots = slotRepository.findAllByStoreIdAndDateOrderByHour(store.getId(), date);
+        assertEquals(REQUESTS / 4, slots.get(0).getReserved());
+        assertEquals(REQUESTS / 4, slots.get(1).getReserved());
+    }
+
+    private Callable<Object> move(Long userId, Long reservationId, LocalDate date, int hour,
+            CountDownLatch startGate) {
+        return () -> {
+            ReservationUpdateRequest request = new ReservationUpdateRequest();
+            request.setDate(date);
+            request.setHour(hour);
+            startGate.await();
+            reservationService.update(userId, reservationId, request);
+            return null;
+        };
+    }
+
+    private static ReservationCreateRequest createRequest(Long storeId, LocalDate date, int hour) {
+        ReservationCreateRequest request = new ReservationCreateRequest();
+        request.setStoreId(storeId);
+        request.setDate(date);
+        request.setHour(hour);
+        return request;
+    }
+
+}
@@ -0,0 +1,191 @@
+package reserve.slot.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reserve.global.exception.ResourceNotFoundException;
+import reserve.global.exception.SlotCapacityException;
+import reserve.global.id.TsidFactory;
+import reserve.slot.domain.Slot;
+import reserve.slot.domain.SlotAvailabilityChangedEvent;
+import reserve.slot.dto.request.SlotUpdateRequest;
+import reserve.slot.dto.response.AvailabilityResponse;
+import reserve.slot.infrastructure.AvailabilityCache;
+import reserve.slot.infrastructure.SlotRepository;
+import reserve.store.domain.Store;
+import reserve.store.infrastructure.StoreRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SlotServiceTest {
+
+    @Mock
+    SlotRepository slotRepository;
+
+    @Mock
+    StoreRepository storeRepository;
+
+    @Mock
+    TsidFactory tsidFactory;
+
+    @Mock
+    AvailabilityCache availabilityCache;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    SlotService slotService;
+
+    @Test
+    @DisplayName("Testing slot acquisition with remaining capacity")
+    void testSlotAcquisition() {
+        LocalDate date = LocalDate.now();
+        Mockito.when(slotRepository.findByStoreIdAndDateAndHour(1L, date, 12))
+            .thenReturn(Optional.of(new Slot(Mockito.mock(Store.class), date, 12, 10, 3)));
+        Mockito.when(slotRepository.increaseReservedKeepingAvailable(1L, date, 12, 1)).thenReturn(1);
+
+        assertDoesNotThrow(() -> slotService.acquire(1L, date, 12));
+        Mockito.verify(slotRepository, Mockito.never()).increaseReserved(1L, date, 12, 1);
+        Mockito.verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Testing slot acquisition of the last seat")
+    void testLastSeatAcquisition() {
+        LocalDate date = LocalDate.now();
+        Mockito.when(slotRepository.findByStoreIdAndDateAndHour(1L, date, 12))
+            .thenReturn(Optional.of(new Slot(Mockito.mock(Store.class), date, 12, 10, 9)));
+        Mockito.when(slotRepository.increaseReservedKeepingAvailable(1L, date, 12, 1)).thenReturn(0);
+        Mockito.when(slotRepository.increaseReserved(1L, date, 12, 1)).thenReturn(1);
+
+        assertDoesNotThrow(() -> slotService.acquire(1L, date, 12));
+        Mockito.verify(eventPublisher).publishEvent(new SlotAvailabilityChangedEvent(1L, date, 12, false));
+    }
+
+    @Test
+    @DisplayName("Testing slot acquisition of a full slot")
+    void testFullSlotAcquisition() {
+        LocalDate date = LocalDate.now();
+        Mockito.when(slotRepository.findByStoreIdAndDateAndHour(1L, date, 12))
+            .thenReturn(Optional.of(new Slot(Mockito.mock(Store.class), date, 12, 10, 10)));
+        Mockito.when(slotRepository.increaseReservedKeepingAvailable(1L, date, 12, 1)).thenReturn(0);
+        Mockito.when(slotRepository.increaseReserved(1L, date, 12, 1)).thenReturn(0);
+
+        assertThrows(SlotCapacityException.class, () -> slotService.acquire(1L, date, 12));
+    }
+
+    @Test
+    @DisplayName("Testing slot acquisition of an hour without a slot")
+    void testUnconfiguredSlotAcquisition() {
+        LocalDate date = LocalDate.now();
+        Mockito.when(slotRepository.findByStoreIdAndDateAndHour(1L, date, 12)).thenReturn(Optional.empty());
+        Mockito.when(slotRepository.insertUnconfigured(Mockito.anyLong(), Mockito.eq(1L), Mockito.eq(date),
+                Mockito.eq(12), Mockito.eq(1), Mockito.any()))
+            .thenReturn(1);
+
+        assertDoesNotThrow(() -> slotService.acquire(1L, date, 12));
+        Mockito.verify(slotRepository, Mockito.never()).increaseReservedKeepingAvailable(1L, date, 12, 1);
+        Mockito.verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Testing slot acquisition of an hour whose slot is inserted concurrently")
+    void testConcurrentlyInsertedSlotAcquisition() {
+        LocalDate date = LocalDate.now();
+        Mockito.when(slotRepository.findByStoreIdAndDateAndHour(1L, date, 12)).thenReturn(Optional.empty());
+        Mockito.when(slotRepository.insertUnconfigured(Mockito.anyLong(), Mockito.eq(1L), Mockito.eq(date),
+                Mockito.eq(12), Mockito.eq(1), Mockito.any()))
+            .thenReturn(2);
+        Mockito.when(slotRepository.increaseReservedKeepingAvailable(1L, date, 12, 1)).thenReturn(0);
+        Mockito.when(slotRepository.increaseReserved(1L, date, 12, 1)).thenReturn(0);
+
+        assertThrows(SlotCapacityException.class, () -> slotService.acquire(1L, date, 12));
+    }
+
+    @Test
+    @DisplayName("Testing slot release of a full slot")
+    void testFullSlotRelease() {
+        LocalDate date = LocalDate.now();
+        Mockito.when(slotRepository.decreaseReservedMakingAvailable(1L, date, 12)).thenReturn(1);
+
+        slotService.release(1L, date, 12);
+
+        Mockito.verify(eventPublisher).publishEvent(new SlotAvailabilityChangedEvent(1L, date, 12, true));
+        Mockito.verify(slotRepository, Mockito.never()).decreaseReserved(1L, date, 12);
+    }
+
+    @Test
+    @DisplayName("Testing slot configuration")
+    void testSlotUpdate() {
+        LocalDate date = LocalDate.now();
+        Store store = Mockito.mock(Store.class);
+        SlotUpdateRequest request = new SlotUpdateRequest();
+        request.setDate(date);
+        request.setHours(List.of(13, 12, 13));
+        request.setCapacity(10);
+
+        Mockito.when(storeRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(store));
+        Mockito.when(slotRepository.findAllByStoreIdAndDateOrderByHour(1L, date))
+            .thenReturn(List.of(new Slot(store, date, 12, 10, 3), new Slot(store, date, 13, 10, 10),
+                    new Slot(store, date, 14, null, 20)));
+
+        slotService.update(1L, 1L, request);
+
+        InOrder inOrder = Mockito.inOrder(slotRepository);
+        inOrder.verify(slotRepository)
+            .upsertCapacity(Mockito.anyLong(), Mockito.eq(1L), Mockito.eq(date), Mockito.eq(12), Mockito.eq(10),
+                    Mockito.any());
+        inOrder.verify(slotRepository)
+            .upsertCapacity(Mockito.anyLong(), Mockito.eq(1L), Mockito.eq(date), Mockito.eq(13), Mockito.eq(10),
+                    Mockito.any());
+        Mockito.verify(eventPublisher).publishEvent(new SlotAvailabilityChangedEvent(1L, date, 12, true));
+        Mockito.verify(eventPublisher).publishEvent(new SlotAvailabilityChangedEvent(1L, date, 13, false));
+        Mockito.verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Testing slot configuration of a store not owned by the user")
+    void testSlotUpdateWithoutOwnership() {
+        SlotUpdateRequest request = new SlotUpdateRequest();
+        request.setDate(LocalDate.now());
+        request.setHours(List.of(12));
+        request.setCapacity(10);
+        Mockito.when(storeRepository.findByIdAndUserId(1L, 2L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> slotService.update(2L, 1L, request));
+    }
+
+    @Test
+    @DisplayName("Testing availability retrieval on a cache miss")
+    @SuppressWarnings("unchecked")
+    void testAvailabilityRetrieval() {
+        LocalDate date = LocalDate.now();
+        Store store = Mockito.mock(Store.class);
+        Mockito.when(availabilityCache.get(Mockito.eq(1L), Mockito.eq(date), Mockito.any()))
+            .thenAnswer(invocation -> ((Supplier<Integer>) invocation.getArgument(2)).get());
+        Mockito.when(storeRepository.existsById(1L)).thenReturn(true);
+        Mockito.when(slotRepository.findAllByStoreIdAndDateOrderByHour(1L, date))
+            .thenReturn(List.of(new Slot(store, date, 12, 5, 5), new Slot(store, date, 13, 5, 4),
+                    new Slot(store, date, 14, null, 30)));
+
+        AvailabilityResponse response = slotService.getAvailability(1L, date);
+
+        assertEquals(23, response.getAvailableHours().size());
+        assertFalse(response.getAvailableHours().contains(12));
+        assertTrue(response.getAvailableHours().contains(13));
+        assertTrue(response.getAvailableHours().contains(14));
+    }
+
+}
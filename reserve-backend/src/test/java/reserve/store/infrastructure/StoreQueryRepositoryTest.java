@@ -2,6 +2,10 @@ package reserve.store.infrastructure;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +18,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.annotation.Commit;
 import org.springframework.transaction.annotation.Transactional;
+import reserve.slot.domain.Slot;
+import reserve.slot.infrastructure.SlotRepository;
 import reserve.support.IntegrationTest;
 import reserve.store.domain.Store;
 import reserve.store.dto.request.StoreSearchRequest;
@@ -35,6 +41,9 @@ class StoreQueryRepositoryTest {
     @Autowired
     StoreQueryRepository storeQueryRepository;
 
+    @Autowired
+    SlotRepository slotRepository;
+
     @Autowired
     TestStateCleaner testStateCleaner;
 
@@ -82,4 +91,27 @@ class StoreQueryRepositoryTest {
         });
     }
 
+    @Test
+    @DisplayName("Testing store search by query and availability")
+    void testStoreSearchByQueryAndAvailability() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        Map<String, Store> stores = storeRepository.findAll()
+            .stream()
+            .collect(Collectors.toMap(Store::getName, Function.identity()));
+        slotRepository.save(new Slot(stores.get("Pasta"), date, 19, 5, 5));
+        slotRepository.save(new Slot(stores.get("Pizza"), date, 19, 5, 4));
+        slotRepository.save(new Slot(stores.get("Italian"), date, 18, 5, 5));
+
+        StoreSearchRequest request = new StoreSearchRequest();
+        request.setQuery("pasta");
+        request.setDate(date);
+        request.setHour(19);
+        Pageable pageable = PageRequest.of(0, 20);
+
+        Page<StoreInfoResponse> response = storeQueryRepository.findResponsesBySearch(request, pageable);
+
+        assertEquals(3, response.getTotalElements());
+        assertTrue(response.stream().noneMatch(storeInfoResponse -> "Pasta".equals(storeInfoResponse.getName())));
+    }
+
 }
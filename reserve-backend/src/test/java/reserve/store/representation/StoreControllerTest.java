@@ -78,7 +78,7 @@ class StoreControllerTest extends BaseRestAssuredTest {
             .get("/v1/stores/{storeId}", store.getId())
             .then()
             .statusCode(200)
-            .body("storeId", equalTo(store.getId().intValue()))
+            .body("storeId", equalTo(store.getId()))
             .body("registrant", equalTo(user.getUsername()))
             .body("name", equalTo(store.getName()))
             .body("address", equalTo(store.getAddress()))
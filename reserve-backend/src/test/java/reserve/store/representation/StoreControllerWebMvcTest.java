@@ -17,7 +17,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import reserve.support.TestUtils;
 import reserve.global.config.TimeConfig;
+import reserve.global.pagination.CountMode;
 import reserve.signin.dto.SignInToken;
+import reserve.signin.infrastructure.AccessTokenCache;
 import reserve.signin.infrastructure.JwtProvider;
 import reserve.store.dto.request.StoreCreateRequest;
 import reserve.store.dto.request.StoreUpdateRequest;
@@ -26,7 +28,7 @@ import reserve.store.dto.response.StoreInfoResponse;
 import reserve.store.service.StoreService;
 
 @WebMvcTest(StoreController.class)
-@Import({ JwtProvider.class, TimeConfig.class })
+@Import({ JwtProvider.class, AccessTokenCache.class, TimeConfig.class })
 class StoreControllerWebMvcTest {
 
     @Autowired
@@ -89,7 +91,7 @@ class StoreControllerWebMvcTest {
         Mockito
             .when(storeService.search(Mockito
                 .argThat(request -> "username".equals(request.getRegistrant()) && "pasta".equals(request.getQuery())),
-                    Mockito.any()))
+                    Mockito.any(), Mockito.eq(CountMode.EXACT)))
             .thenReturn(StoreInfoListResponse.from(new PageImpl<>(storeInfoResponses, PageRequest.of(0, 20), 3)));
 
         mockMvc.perform(get("/v1/stores").param("registrant", "username").param("query", "pasta"))
@@ -135,4 +137,19 @@ class StoreControllerWebMvcTest {
         Mockito.verify(storeService).delete(1L, 10L);
     }
 
+    @Test
+    @DisplayName("Testing that unauthenticated requests are rejected before the body is read")
+    void testUnauthenticatedRequestRejection() throws Exception {
+        mockMvc.perform(post("/v1/stores").contentType(MediaType.APPLICATION_JSON).content("{ not json"))
+            .andExpectAll(status().isForbidden(), jsonPath("$.code").value(112));
+
+        mockMvc
+            .perform(post("/v1/stores").header("Authorization", "Bearer not.a.token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ not json"))
+            .andExpectAll(status().isBadRequest(), jsonPath("$.code").value(101));
+
+        Mockito.verifyNoInteractions(storeService);
+    }
+
 }
@@ -16,6 +16,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import reserve.global.pagination.CountCache;
+import reserve.global.pagination.CountMode;
 import reserve.store.domain.Store;
 import reserve.store.dto.request.StoreCreateRequest;
 import reserve.store.dto.request.StoreSearchRequest;
@@ -39,6 +42,9 @@ class StoreServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    CountCache countCache;
+
     @InjectMocks
     StoreService storeService;
 
@@ -84,7 +90,7 @@ class StoreServiceTest {
         Mockito.when(storeQueryRepository.findResponsesBySearch(storeSearchRequest, pageable))
             .thenReturn(new PageImpl<>(List.of(storeInfo1, storeInfo2, storeInfo3), pageable, 3));
 
-        StoreInfoListResponse response = storeService.search(storeSearchRequest, pageable);
+        StoreInfoListResponse response = storeService.search(storeSearchRequest, pageable, CountMode.EXACT);
 
         assertEquals(3, response.getCount());
         assertEquals(3, response.getResults().size());
@@ -94,6 +100,28 @@ class StoreServiceTest {
         assertThat(response.getResults()).contains(storeInfo1, storeInfo2, storeInfo3);
     }
 
+    @Test
+    @DisplayName("Testing store search with a cached count")
+    void testStoreSearchWithCachedCount() {
+        StoreSearchRequest storeSearchRequest = new StoreSearchRequest();
+        storeSearchRequest.setQuery("pasta");
+        Pageable pageable = PageRequest.of(1, 2);
+
+        StoreInfoResponse storeInfo1 = new StoreInfoResponse(3L, "username", "Pizza", "address", "Pizza and pasta");
+        StoreInfoResponse storeInfo2 = new StoreInfoResponse(4L, "username", "Hamburger", "pasta street", "Burger");
+        SliceImpl<StoreInfoResponse> slice = new SliceImpl<>(List.of(storeInfo1, storeInfo2), pageable, true);
+        Mockito.when(storeQueryRepository.findSliceBySearch(storeSearchRequest, pageable)).thenReturn(slice);
+        Mockito.when(countCache.get(Mockito.anyString(), Mockito.eq(slice), Mockito.any())).thenReturn(10L);
+
+        StoreInfoListResponse response = storeService.search(storeSearchRequest, pageable, CountMode.CACHED);
+
+        assertEquals(10, response.getCount());
+        assertEquals(1, response.getPageNumber());
+        assertTrue(response.hasNext());
+        assertThat(response.getResults()).containsExactly(storeInfo1, storeInfo2);
+        Mockito.verify(storeQueryRepository, Mockito.never()).findResponsesBySearch(Mockito.any(), Mockito.any());
+    }
+
     @Test
     @DisplayName("Testing store update")
     void testStoreUpdate() {
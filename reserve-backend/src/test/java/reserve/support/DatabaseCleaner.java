@@ -21,8 +21,10 @@ public class DatabaseCleaner {
                 stmt.execute("SET FOREIGN_KEY_CHECKS = 0");
 
                 try {
+                    stmt.execute("TRUNCATE TABLE slots");
                     stmt.execute("TRUNCATE TABLE reservation_menus");
                     stmt.execute("TRUNCATE TABLE notifications");
+                    stmt.execute("TRUNCATE TABLE notification_outbox");
                     stmt.execute("TRUNCATE TABLE menus");
                     stmt.execute("TRUNCATE TABLE reservations");
                     stmt.execute("TRUNCATE TABLE stores");
@@ -0,0 +1,24 @@
+package reserve.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.annotation.*;
+
+/**
+ * Integration test of the Redis implementations, which the test profile replaces with in-memory ones otherwise.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({ TestcontainersConfig.class, RedisTestcontainersConfig.class, RedisCleaner.class })
+@TestPropertySource(properties = { "application.security.refreshTokens.store=redis",
+        "application.rateLimit.store=redis", "application.notification.store=redis" })
+public @interface RedisIntegrationTest {
+
+}
@@ -0,0 +1,20 @@
+package reserve.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+@TestConfiguration(proxyBeanMethods = false)
+public class RedisTestcontainersConfig {
+
+    private static final DockerImageName REDIS_IMAGE = DockerImageName.parse("redis:7.2.4-alpine");
+
+    @Bean
+    @ServiceConnection(name = "redis")
+    public GenericContainer<?> redisContainer() {
+        return new GenericContainer<>(REDIS_IMAGE).withExposedPorts(6379);
+    }
+
+}
@@ -0,0 +1,34 @@
+package reserve.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL statements Hibernate prepares on the current thread between {@link #start()} and {@link #stop()}.
+ * Registered as the statement inspector in {@code application-test.yml}.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> statements = new ThreadLocal<>();
+
+    public static void start() {
+        statements.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> result = statements.get();
+        statements.remove();
+        return result == null ? List.of() : result;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> recorded = statements.get();
+        if (recorded != null) {
+            recorded.add(sql);
+        }
+        return sql;
+    }
+
+}
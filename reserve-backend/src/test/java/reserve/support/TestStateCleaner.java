@@ -5,18 +5,14 @@ import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 
 @Component
-@Import({ DatabaseCleaner.class, RedisCleaner.class })
+@Import(DatabaseCleaner.class)
 public class TestStateCleaner {
 
     @Autowired
     private DatabaseCleaner databaseCleaner;
 
-    @Autowired
-    private RedisCleaner redisCleaner;
-
     public void cleanUp() {
         databaseCleaner.cleanUp();
-        redisCleaner.cleanUp();
     }
 
 }
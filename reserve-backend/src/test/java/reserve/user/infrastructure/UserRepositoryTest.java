@@ -24,4 +24,12 @@ class UserRepositoryTest {
         assertFalse(userRepository.existsById(user.getId()));
     }
 
+    @Test
+    @DisplayName("Testing that a password hash is replaced only if it is unchanged")
+    void testPasswordHashUpdate() {
+        User user = userRepository.save(new User("username", "password", "hello", "description"));
+        assertEquals(1, userRepository.updatePasswordHash(user.getId(), "password", "rehashed"));
+        assertEquals(0, userRepository.updatePasswordHash(user.getId(), "password", "other"));
+    }
+
 }
@@ -15,6 +15,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import reserve.support.TestUtils;
 import reserve.global.config.TimeConfig;
+import reserve.signin.infrastructure.AccessTokenCache;
 import reserve.signin.infrastructure.JwtProvider;
 import reserve.user.dto.request.PasswordUpdateRequest;
 import reserve.user.dto.request.UserDeleteRequest;
@@ -23,7 +24,7 @@ import reserve.user.dto.response.UserInfoResponse;
 import reserve.user.service.UserService;
 
 @WebMvcTest(UserController.class)
-@Import({ JwtProvider.class, TimeConfig.class })
+@Import({ JwtProvider.class, AccessTokenCache.class, TimeConfig.class })
 class UserControllerWebMvcTest {
 
     @Autowired